@@ -0,0 +1,59 @@
+package mindsdb.arrow;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.util.Text;
+
+import mindsdb.connectors.ColumnBatch;
+
+/**
+ * {@link ColumnBatch} reading the vectors of an Arrow {@link VectorSchemaRoot},
+ * so a prediction payload is encoded without copying the batch into a Tablesaw
+ * table. The root is not closed by the batch.
+ */
+public final class ArrowBatch implements ColumnBatch {
+    private final VectorSchemaRoot root;
+    private final List<String> names;
+
+    /**
+     * Wrap a vector schema root
+     *
+     * @param root root to read, owned by the caller
+     */
+    public ArrowBatch(VectorSchemaRoot root) {
+        this.root = root;
+        this.names = new ArrayList<>();
+        for (FieldVector vector : root.getFieldVectors()) {
+            names.add(vector.getName());
+        }
+    }
+
+    @Override
+    public List<String> columnNames() {
+        return names;
+    }
+
+    @Override
+    public int rowCount() {
+        return root.getRowCount();
+    }
+
+    @Override
+    public Object get(int row, int column) {
+        FieldVector vector = root.getVector(column);
+        if (vector.isNull(row)) {
+            return null;
+        }
+        if (vector instanceof DateDayVector dates) {
+            // getObject returns the day number
+            return LocalDate.ofEpochDay(dates.get(row));
+        }
+        Object value = vector.getObject(row);
+        return value instanceof Text ? value.toString() : value;
+    }
+}
@@ -0,0 +1,255 @@
+package mindsdb.arrow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import com.google.gson.stream.JsonToken;
+
+import mindsdb.connectors.ResultSink;
+
+/**
+ * {@link ResultSink} that decodes a query or prediction response straight into
+ * Arrow vectors, without building a Tablesaw table first.
+ *
+ * <p>
+ * Columns found in the schema, if one is given, are created with its type and
+ * their values are parsed into it; BIGINT, INT, DOUBLE, FLOAT, BOOLEAN, UTF8,
+ * DATE(DAY) and TIMESTAMP(MICROSECOND) are supported. Other columns are
+ * inferred from the JSON values: integral numbers become {@link BigIntVector},
+ * other numbers {@link Float8Vector}, booleans {@link BitVector} and everything
+ * else {@link VarCharVector}. An inferred column is widened from BIGINT to
+ * DOUBLE, or to UTF8 when values of different kinds are mixed.
+ * </p>
+ *
+ * <p>
+ * The vectors are allocated from the given allocator and owned by the returned
+ * {@link VectorSchemaRoot}, which the caller closes. If decoding fails, the sink
+ * must be closed to release the vectors it allocated so far.
+ * </p>
+ */
+public final class ArrowSink implements ResultSink<VectorSchemaRoot>, AutoCloseable {
+
+    private enum Kind {
+        LONG, DOUBLE, BOOLEAN, STRING
+    }
+
+    private final BufferAllocator allocator;
+    private final Schema schema;
+    private String[] names = new String[0];
+    private FieldVector[] vectors = new FieldVector[0];
+    // Kind of each inferred column, null for columns typed by the schema
+    private Kind[] kinds = new Kind[0];
+    private int rowCount;
+    private boolean returned;
+
+    /**
+     * Create a sink that infers the type of every column.
+     *
+     * @param allocator allocator of the vectors
+     */
+    public ArrowSink(BufferAllocator allocator) {
+        this(allocator, null);
+    }
+
+    /**
+     * Create a sink with a schema hint.
+     *
+     * @param allocator allocator of the vectors
+     * @param schema    types of the columns by name, columns not in it are inferred;
+     *                  may be null
+     */
+    public ArrowSink(BufferAllocator allocator, Schema schema) {
+        this.allocator = allocator;
+        this.schema = schema;
+    }
+
+    @Override
+    public void columns(List<String> names) {
+        this.names = names.toArray(new String[0]);
+        this.vectors = new FieldVector[names.size()];
+        this.kinds = new Kind[names.size()];
+        if (schema == null) {
+            return;
+        }
+        for (int i = 0; i < names.size(); i++) {
+            for (Field field : schema.getFields()) {
+                if (field.getName().equals(names.get(i))) {
+                    vectors[i] = field.createVector(allocator);
+                    vectors[i].allocateNew();
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void cell(int column, JsonToken type, String value) {
+        // Unset positions read as null
+        if (value == null) {
+            return;
+        }
+        FieldVector vector = vectors[column];
+        if (vector != null && kinds[column] == null) {
+            setTyped(vector, rowCount, value);
+            return;
+        }
+
+        Kind kind = infer(type, value);
+        if (vector == null) {
+            vector = create(kind, names[column]);
+            kinds[column] = kind;
+            vectors[column] = vector;
+        } else if (kinds[column] != kind) {
+            Kind widened = isNumeric(kinds[column]) && isNumeric(kind) ? Kind.DOUBLE : Kind.STRING;
+            if (widened != kinds[column]) {
+                vector = convert(vector, widened);
+                kinds[column] = widened;
+                vectors[column] = vector;
+            }
+        }
+        setInferred(vector, kinds[column], rowCount, value);
+    }
+
+    @Override
+    public void endRow() {
+        rowCount++;
+    }
+
+    @Override
+    public VectorSchemaRoot result() {
+        for (int i = 0; i < vectors.length; i++) {
+            if (vectors[i] == null) {
+                // Only nulls were seen for this column
+                vectors[i] = create(Kind.STRING, names[i]);
+            }
+        }
+        VectorSchemaRoot root = new VectorSchemaRoot(Arrays.asList(vectors));
+        root.setRowCount(rowCount);
+        returned = true;
+        return root;
+    }
+
+    /**
+     * Release the vectors allocated so far, unless they were returned by
+     * {@link #result()}.
+     */
+    @Override
+    public void close() {
+        if (returned) {
+            return;
+        }
+        for (FieldVector vector : vectors) {
+            if (vector != null) {
+                vector.close();
+            }
+        }
+        vectors = new FieldVector[0];
+    }
+
+    private static Kind infer(JsonToken type, String value) {
+        switch (type) {
+            case NUMBER:
+                if (value.indexOf('.') >= 0 || value.indexOf('e') >= 0 || value.indexOf('E') >= 0) {
+                    return Kind.DOUBLE;
+                }
+                try {
+                    Long.parseLong(value);
+                    return Kind.LONG;
+                } catch (NumberFormatException e) {
+                    return Kind.DOUBLE;
+                }
+            case BOOLEAN:
+                return Kind.BOOLEAN;
+            default:
+                return Kind.STRING;
+        }
+    }
+
+    private static boolean isNumeric(Kind kind) {
+        return kind == Kind.LONG || kind == Kind.DOUBLE;
+    }
+
+    private FieldVector create(Kind kind, String name) {
+        FieldVector vector = switch (kind) {
+            case LONG -> new BigIntVector(name, allocator);
+            case DOUBLE -> new Float8Vector(name, allocator);
+            case BOOLEAN -> new BitVector(name, allocator);
+            case STRING -> new VarCharVector(name, allocator);
+        };
+        vector.allocateNew();
+        return vector;
+    }
+
+    private FieldVector convert(FieldVector vector, Kind kind) {
+        FieldVector converted = create(kind, vector.getName());
+        try {
+            for (int row = 0; row < rowCount; row++) {
+                if (vector.isNull(row)) {
+                    continue;
+                }
+                if (kind == Kind.DOUBLE) {
+                    ((Float8Vector) converted).setSafe(row, ((BigIntVector) vector).get(row));
+                } else {
+                    ((VarCharVector) converted).setSafe(row,
+                            String.valueOf(vector.getObject(row)).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        } catch (RuntimeException e) {
+            converted.close();
+            throw e;
+        }
+        vector.close();
+        return converted;
+    }
+
+    private static void setInferred(FieldVector vector, Kind kind, int row, String value) {
+        switch (kind) {
+            case LONG -> ((BigIntVector) vector).setSafe(row, Long.parseLong(value));
+            case DOUBLE -> ((Float8Vector) vector).setSafe(row, Double.parseDouble(value));
+            case BOOLEAN -> ((BitVector) vector).setSafe(row, Boolean.parseBoolean(value) ? 1 : 0);
+            case STRING -> ((VarCharVector) vector).setSafe(row, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void setTyped(FieldVector vector, int row, String value) {
+        if (vector instanceof BigIntVector longs) {
+            longs.setSafe(row, Long.parseLong(value));
+        } else if (vector instanceof IntVector ints) {
+            ints.setSafe(row, Integer.parseInt(value));
+        } else if (vector instanceof Float8Vector doubles) {
+            doubles.setSafe(row, Double.parseDouble(value));
+        } else if (vector instanceof Float4Vector floats) {
+            floats.setSafe(row, Float.parseFloat(value));
+        } else if (vector instanceof BitVector booleans) {
+            booleans.setSafe(row, Boolean.parseBoolean(value) ? 1 : 0);
+        } else if (vector instanceof VarCharVector strings) {
+            strings.setSafe(row, value.getBytes(StandardCharsets.UTF_8));
+        } else if (vector instanceof DateDayVector dates) {
+            dates.setSafe(row, (int) LocalDate.parse(value.substring(0, Math.min(10, value.length()))).toEpochDay());
+        } else if (vector instanceof TimeStampMicroVector timestamps) {
+            LocalDateTime time = LocalDateTime.parse(value.replace(' ', 'T'));
+            timestamps.setSafe(row, time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1000);
+        } else {
+            throw new IllegalArgumentException(
+                    "Unsupported Arrow type " + vector.getField().getType() + " of column " + vector.getName());
+        }
+    }
+}
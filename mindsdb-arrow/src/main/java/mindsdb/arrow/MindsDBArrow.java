@@ -0,0 +1,95 @@
+package mindsdb.arrow;
+
+import java.util.Map;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import mindsdb.models.Model;
+import mindsdb.services.Query;
+
+/**
+ * Arrow adapters for queries and predictions.
+ *
+ * <p>
+ * Results are decoded from the response stream straight into Arrow vectors
+ * with an {@link ArrowSink}, and prediction input is encoded straight from a
+ * {@link VectorSchemaRoot} with an {@link ArrowBatch}, so no Tablesaw table is
+ * built on either side. The returned roots are allocated from the given
+ * allocator and must be closed by the caller.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * try (BufferAllocator allocator = new RootAllocator();
+ *         VectorSchemaRoot rows = MindsDBArrow.fetch(project.query("SELECT * FROM sales"), allocator);
+ *         VectorSchemaRoot predictions = MindsDBArrow.predict(model, rows, null, allocator)) {
+ *     ...
+ * }
+ * }
+ * </pre>
+ */
+public final class MindsDBArrow {
+
+    private MindsDBArrow() {
+    }
+
+    /**
+     * Fetch the result of a query as Arrow vectors, inferring the column types
+     *
+     * @param query     query to run
+     * @param allocator allocator of the result vectors
+     * @return result of the query, null if the query returned no table
+     */
+    public static VectorSchemaRoot fetch(Query query, BufferAllocator allocator) {
+        return fetch(query, allocator, null);
+    }
+
+    /**
+     * Fetch the result of a query as Arrow vectors
+     *
+     * @param query     query to run
+     * @param allocator allocator of the result vectors
+     * @param schema    types of the columns by name, columns not in it are
+     *                  inferred; may be null
+     * @return result of the query, null if the query returned no table
+     */
+    public static VectorSchemaRoot fetch(Query query, BufferAllocator allocator, Schema schema) {
+        ArrowSink sink = new ArrowSink(allocator, schema);
+        try {
+            VectorSchemaRoot root = query.fetch(sink);
+            if (root == null) {
+                sink.close();
+            }
+            return root;
+        } catch (RuntimeException | Error e) {
+            sink.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Make a prediction from Arrow vectors
+     *
+     * @param model     model to predict with
+     * @param data      input rows, not closed
+     * @param params    prediction parameters, may be null
+     * @param allocator allocator of the result vectors
+     * @return prediction result
+     */
+    public static VectorSchemaRoot predict(Model model, VectorSchemaRoot data, Map<String, String> params,
+            BufferAllocator allocator) {
+        ArrowSink sink = new ArrowSink(allocator);
+        try {
+            VectorSchemaRoot root = model.predict(new ArrowBatch(data), params, sink);
+            if (root == null) {
+                sink.close();
+            }
+            return root;
+        } catch (RuntimeException | Error e) {
+            sink.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package mindsdb.arrow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.stream.JsonToken;
+
+public class ArrowSinkTest {
+    private BufferAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new RootAllocator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Fails if a vector was leaked
+        allocator.close();
+    }
+
+    @Test
+    void testInferredColumns() {
+        ArrowSink sink = new ArrowSink(allocator);
+        sink.columns(List.of("id", "score", "ok", "name", "empty"));
+        sink.cell(0, JsonToken.NUMBER, "1");
+        sink.cell(1, JsonToken.NUMBER, "2");
+        sink.cell(2, JsonToken.BOOLEAN, "true");
+        sink.cell(3, JsonToken.STRING, "a");
+        sink.cell(4, JsonToken.NULL, null);
+        sink.endRow();
+        sink.cell(0, JsonToken.NULL, null);
+        sink.cell(1, JsonToken.NUMBER, "2.5");
+        sink.cell(2, JsonToken.BOOLEAN, "false");
+        sink.cell(3, JsonToken.NUMBER, "7");
+        sink.cell(4, JsonToken.NULL, null);
+        sink.endRow();
+
+        try (VectorSchemaRoot root = sink.result()) {
+            assertEquals(2, root.getRowCount());
+            BigIntVector ids = (BigIntVector) root.getVector("id");
+            assertEquals(1L, ids.get(0));
+            assertTrue(ids.isNull(1));
+            Float8Vector scores = (Float8Vector) root.getVector("score");
+            assertEquals(2.0, scores.get(0));
+            assertEquals(2.5, scores.get(1));
+            BitVector oks = (BitVector) root.getVector("ok");
+            assertEquals(1, oks.get(0));
+            assertEquals(0, oks.get(1));
+            VarCharVector names = (VarCharVector) root.getVector("name");
+            assertEquals("a", names.getObject(0).toString());
+            assertEquals("7", names.getObject(1).toString());
+            assertTrue(root.getVector("empty") instanceof VarCharVector);
+            assertTrue(root.getVector("empty").isNull(1));
+        }
+    }
+
+    @Test
+    void testSchemaColumns() {
+        Schema schema = new Schema(List.of(
+                Field.nullable("id", new ArrowType.Int(32, true)),
+                Field.nullable("day", new ArrowType.Date(DateUnit.DAY))));
+        ArrowSink sink = new ArrowSink(allocator, schema);
+        sink.columns(List.of("id", "day"));
+        sink.cell(0, JsonToken.NUMBER, "3");
+        sink.cell(1, JsonToken.STRING, "2024-02-29");
+        sink.endRow();
+
+        try (VectorSchemaRoot root = sink.result()) {
+            assertEquals(3, ((IntVector) root.getVector("id")).get(0));
+            assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(),
+                    ((DateDayVector) root.getVector("day")).get(0));
+
+            ArrowBatch batch = new ArrowBatch(root);
+            assertEquals(List.of("id", "day"), batch.columnNames());
+            assertEquals(1, batch.rowCount());
+            assertEquals(3, batch.get(0, 0));
+            assertEquals(LocalDate.of(2024, 2, 29), batch.get(0, 1));
+        }
+    }
+
+    @Test
+    void testCloseReleasesPartialResult() {
+        ArrowSink sink = new ArrowSink(allocator);
+        sink.columns(List.of("id", "name"));
+        sink.cell(0, JsonToken.NUMBER, "1");
+        sink.cell(1, JsonToken.STRING, "a");
+        sink.endRow();
+        sink.close();
+
+        assertEquals(0, allocator.getAllocatedMemory());
+    }
+
+    @Test
+    void testArrowBatchNulls() {
+        ArrowSink sink = new ArrowSink(allocator);
+        sink.columns(List.of("name"));
+        sink.cell(0, JsonToken.STRING, "a");
+        sink.endRow();
+        sink.cell(0, JsonToken.NULL, null);
+        sink.endRow();
+
+        try (VectorSchemaRoot root = sink.result()) {
+            ArrowBatch batch = new ArrowBatch(root);
+            assertEquals("a", batch.get(0, 0));
+            assertNull(batch.get(1, 0));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package mindsdb.connectors;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Time-bounded cache of catalog lookups by name (databases, projects, ML engines
+ * and handlers), used by the services of a {@link RestAPI} once enabled with
+ * {@link RestAPI#enableCatalogCache(Duration, Duration)}.
+ *
+ * <p>
+ * Entries are keyed by catalog kind and object name. Lookups that found nothing
+ * are cached as well, for their own time to live, so that repeated existence
+ * checks do not reach the server. Services invalidate the entries of the objects
+ * they create or drop.
+ * </p>
+ */
+public final class CatalogCache {
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Create a cache.
+     *
+     * @param ttl         time after which a found object expires
+     * @param negativeTtl time after which a lookup that found nothing expires
+     */
+    public CatalogCache(Duration ttl, Duration negativeTtl) {
+        this(ttl, negativeTtl, System::nanoTime);
+    }
+
+    CatalogCache(Duration ttl, Duration negativeTtl, LongSupplier clock) {
+        if (ttl == null || ttl.isNegative() || negativeTtl == null || negativeTtl.isNegative()) {
+            throw new IllegalArgumentException("Cache time to live must not be negative");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Get a catalog object, loading it on a miss.
+     *
+     * @param kind   catalog kind, for example {@code "database"}
+     * @param name   name of the object
+     * @param loader loads the object from the server, returns null if it does not exist
+     * @param <T>    type of the object
+     * @return cached or loaded object, null if it does not exist
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String kind, String name, Supplier<T> loader) {
+        Key key = new Key(kind, name);
+        Entry entry = entries.get(key);
+        long now = clock.getAsLong();
+        if (entry != null && now < entry.expires) {
+            hits.incrementAndGet();
+            return (T) entry.value;
+        }
+
+        misses.incrementAndGet();
+        long since = generation.get();
+        T value = loader.get();
+        long ttl = value != null ? ttlNanos : negativeTtlNanos;
+        if (ttl > 0) {
+            entries.put(key, new Entry(value, clock.getAsLong() + ttl));
+            if (generation.get() != since) {
+                // Invalidated while loading, the loaded value may be stale
+                entries.remove(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Remove the entry of an object, used after it is created or dropped.
+     *
+     * @param kind catalog kind
+     * @param name name of the object
+     */
+    public void invalidate(String kind, String name) {
+        generation.incrementAndGet();
+        entries.remove(new Key(kind, name));
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Get the number of lookups answered from the cache
+     *
+     * @return number of hits, including cached misses
+     */
+    public long hitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of lookups that went to the server
+     *
+     * @return number of misses
+     */
+    public long missCount() {
+        return misses.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(entries=%d, hits=%d, misses=%d)", getClass().getSimpleName(), entries.size(),
+                hits.get(), misses.get());
+    }
+
+    private record Key(String kind, String name) {
+    }
+
+    private record Entry(Object value, long expires) {
+    }
+}
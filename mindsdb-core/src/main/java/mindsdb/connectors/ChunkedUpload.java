@@ -0,0 +1,280 @@
+package mindsdb.connectors;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import mindsdb.utils.DaemonThreadFactory;
+import mindsdb.utils.UploadProgressListener;
+
+/**
+ * Resumable upload of a large CSV file in parts, run by
+ * {@link RestAPI#uploadFileChunked(String, Path, long, int, Path, UploadProgressListener)}.
+ *
+ * <p>
+ * The MindsDB files API takes one file per request, so the CSV is split at row
+ * boundaries into parts of about the part size. Each part is uploaded as its own
+ * file, with the header row repeated, by a bounded pool of threads; a failed part
+ * is retried on its own. The parts are then combined into the target file with
+ * one idempotent {@code CREATE OR REPLACE TABLE ... UNION ALL} statement and
+ * dropped.
+ * </p>
+ *
+ * <p>
+ * Part boundaries and completed steps are saved to a journal after every step.
+ * When an upload of the same unchanged file is started again with the same
+ * journal, only the remaining steps are run. The journal is deleted once the
+ * upload is complete.
+ * </p>
+ */
+final class ChunkedUpload {
+    static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 200;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+    private final RestAPI api;
+    private final String name;
+    private final Path path;
+    private final long partSize;
+    private final int concurrency;
+    private final Path journalPath;
+    private final UploadProgressListener listener;
+    private Properties journal;
+
+    ChunkedUpload(RestAPI api, String name, Path path, long partSize, int concurrency, Path journalPath,
+            UploadProgressListener listener) {
+        if (partSize <= 0) {
+            throw new IllegalArgumentException("Part size must be positive");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        this.api = api;
+        this.name = name;
+        this.path = path;
+        this.partSize = partSize;
+        this.concurrency = concurrency;
+        this.journalPath = journalPath;
+        this.listener = listener;
+    }
+
+    void run() throws IOException {
+        long size = Files.size(path);
+        if (size <= partSize) {
+            api.uploadFile(name, path, listener);
+            Files.deleteIfExists(journalPath);
+            return;
+        }
+
+        openJournal(size);
+        int headerEnd = Integer.parseInt(journal.getProperty("header"));
+        byte[] header = readHeader(headerEnd);
+        int parts = Integer.parseInt(journal.getProperty("parts"));
+
+        uploadParts(parts, header, size);
+        if (!journal.containsKey("merged")) {
+            mergeParts(parts);
+        }
+        dropParts(parts);
+        Files.deleteIfExists(journalPath);
+    }
+
+    static String partName(String name, int part) {
+        return name + "_part" + part;
+    }
+
+    private void openJournal(long size) throws IOException {
+        String fingerprint = path.toAbsolutePath() + "|" + size + "|" + Files.getLastModifiedTime(path).toMillis()
+                + "|" + partSize;
+        journal = PropertiesFiles.load(journalPath);
+        if (fingerprint.equals(journal.getProperty("file")) && journal.containsKey("parts")) {
+            return;
+        }
+
+        // New upload, or the file changed since the journal was written
+        journal = new Properties();
+        journal.setProperty("file", fingerprint);
+        List<long[]> ranges = split(size);
+        journal.setProperty("header", Long.toString(ranges.get(0)[0]));
+        journal.setProperty("parts", Integer.toString(ranges.size()));
+        for (int i = 0; i < ranges.size(); i++) {
+            journal.setProperty("part." + i, ranges.get(i)[0] + "," + ranges.get(i)[1]);
+        }
+        saveJournal();
+    }
+
+    /**
+     * Split the file into ranges of whole rows, the first starting after the
+     * header row. Line breaks inside quoted fields do not end a row.
+     */
+    private List<long[]> split(long size) throws IOException {
+        List<long[]> ranges = new ArrayList<>();
+        long headerEnd = -1;
+        long start = 0;
+        boolean quoted = false;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(SCAN_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = 0;
+            while (channel.read(buffer) > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    position++;
+                    if (b == '"') {
+                        quoted = !quoted;
+                    } else if (b == '\n' && !quoted) {
+                        if (headerEnd < 0) {
+                            headerEnd = position;
+                            start = position;
+                        } else if (position - start >= partSize) {
+                            ranges.add(new long[] { start, position });
+                            start = position;
+                        }
+                    }
+                }
+                buffer.clear();
+            }
+        }
+        if (headerEnd < 0) {
+            throw new IllegalArgumentException("File has no header row: " + path);
+        }
+        if (start < size || ranges.isEmpty()) {
+            ranges.add(new long[] { start, size });
+        }
+        return ranges;
+    }
+
+    private byte[] readHeader(int headerEnd) throws IOException {
+        try (InputStream in = new FileChannelInputStream(path, 0, headerEnd, name, null)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private void uploadParts(int parts, byte[] header, long size) {
+        AtomicLong done = new AtomicLong();
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < parts; i++) {
+            if (journal.containsKey("uploaded." + i)) {
+                done.addAndGet(range(i)[1] - range(i)[0]);
+            } else {
+                pending.add(i);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, pending.size()),
+                new DaemonThreadFactory("mindsdb-chunked-upload"));
+        try {
+            List<CompletableFuture<Void>> uploads = new ArrayList<>();
+            for (int part : pending) {
+                uploads.add(CompletableFuture.runAsync(() -> {
+                    uploadPart(part, header);
+                    long[] range = range(part);
+                    recordStep("uploaded." + part);
+                    if (listener != null) {
+                        listener.progress(name, done.addAndGet(range[1] - range[0]), size);
+                    }
+                }, executor));
+            }
+
+            List<String> failed = new ArrayList<>();
+            for (int i = 0; i < uploads.size(); i++) {
+                try {
+                    uploads.get(i).join();
+                } catch (RuntimeException e) {
+                    failed.add(pending.get(i) + " (" + (e.getCause() != null ? e.getCause() : e).getMessage() + ")");
+                }
+            }
+            if (!failed.isEmpty()) {
+                throw new RuntimeException("Failed to upload parts of " + name + ": "
+                        + failed.stream().collect(Collectors.joining(", "))
+                        + "; run the upload again with the same journal to resume");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void uploadPart(int part, byte[] header) {
+        long[] range = range(part);
+        RuntimeException failure = null;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try (InputStream body = new SequenceInputStream(new ByteArrayInputStream(header),
+                    new FileChannelInputStream(path, range[0], range[1], name, null))) {
+                api.putFile(partName(name, part), body);
+                return;
+            } catch (IOException e) {
+                failure = new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            if (attempt < MAX_ATTEMPTS) {
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw failure;
+                }
+            }
+        }
+        throw failure;
+    }
+
+    private void mergeParts(int parts) {
+        StringBuilder sql = new StringBuilder("CREATE OR REPLACE TABLE files.").append(name).append(" (");
+        for (int i = 0; i < parts; i++) {
+            if (i > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT * FROM files.").append(partName(name, i));
+        }
+        sql.append(")");
+        api.sqlQuery(sql.toString());
+        api.getFileCatalog().recordUpload(name);
+        recordStep("merged");
+    }
+
+    private void dropParts(int parts) {
+        for (int i = 0; i < parts; i++) {
+            if (!journal.containsKey("dropped." + i)) {
+                api.sqlQuery("DROP TABLE files." + partName(name, i));
+                recordStep("dropped." + i);
+            }
+        }
+    }
+
+    private long[] range(int part) {
+        String[] bounds = journal.getProperty("part." + part).split(",");
+        return new long[] { Long.parseLong(bounds[0]), Long.parseLong(bounds[1]) };
+    }
+
+    private synchronized void recordStep(String step) {
+        journal.setProperty(step, "true");
+        saveJournal();
+    }
+
+    private void saveJournal() {
+        try {
+            PropertiesFiles.store(journal, journalPath, "MindsDB chunked upload of " + name);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save upload journal: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package mindsdb.connectors;
+
+import java.util.List;
+
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Column-oriented batch of rows used as prediction input.
+ *
+ * <p>
+ * The predict payload is encoded straight from the batch, so any columnar
+ * structure (for example an Arrow {@code VectorSchemaRoot}) can be sent to a
+ * model by implementing this interface over its vectors, without first copying
+ * it into a Tablesaw {@link Table}.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * ColumnBatch batch = new ColumnBatch() {
+ *     public List<String> columnNames() { ... }
+ *     public int rowCount() { return root.getRowCount(); }
+ *     public Object get(int row, int column) { return root.getVector(column).getObject(row); }
+ * };
+ * Table prediction = model.predict(batch, null);
+ * }
+ * </pre>
+ */
+public interface ColumnBatch {
+
+    /**
+     * Get the column names of the batch
+     *
+     * @return column names in batch order
+     */
+    List<String> columnNames();
+
+    /**
+     * Get the number of rows of the batch
+     *
+     * @return number of rows
+     */
+    int rowCount();
+
+    /**
+     * Get a value of the batch. Numbers and booleans are sent as JSON numbers and
+     * booleans, other values as their string representation.
+     *
+     * @param row    index of the row
+     * @param column index of the column
+     * @return value of the cell, null for missing values
+     */
+    Object get(int row, int column);
+
+    /**
+     * Wrap a Tablesaw table as a batch
+     *
+     * @param table table to wrap
+     * @return batch reading from the table columns
+     */
+    static ColumnBatch of(Table table) {
+        return new ColumnBatch() {
+            private final List<String> names = table.columnNames();
+
+            @Override
+            public List<String> columnNames() {
+                return names;
+            }
+
+            @Override
+            public int rowCount() {
+                return table.rowCount();
+            }
+
+            @Override
+            public Object get(int row, int column) {
+                Column<?> values = table.column(column);
+                // Missing strings are empty strings in Tablesaw and are sent as such
+                if (!(values instanceof StringColumn) && values.isMissing(row)) {
+                    return null;
+                }
+                return values.get(row);
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package mindsdb.connectors;
+
+/**
+ * CSV field quoting shared by the CSV writers, following RFC 4180.
+ */
+final class CsvFormat {
+
+    private CsvFormat() {
+    }
+
+    /**
+     * Append a field, quoted if it contains a separator, quote or line break.
+     *
+     * @param out   destination
+     * @param value value of the field, null for an empty field
+     */
+    static void appendField(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuotes(value)) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
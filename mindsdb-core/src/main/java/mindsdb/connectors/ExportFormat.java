@@ -0,0 +1,18 @@
+package mindsdb.connectors;
+
+/**
+ * File formats supported by {@link ExportSink}.
+ */
+public enum ExportFormat {
+    /**
+     * Comma separated values with a header row, quoted as described in RFC 4180.
+     * Missing values are written as empty fields.
+     */
+    CSV,
+
+    /**
+     * One JSON object per line, keyed by column name. Numbers and booleans keep
+     * their JSON type.
+     */
+    JSONL
+}
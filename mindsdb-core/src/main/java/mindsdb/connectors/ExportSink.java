@@ -0,0 +1,165 @@
+package mindsdb.connectors;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * {@link ResultSink} that writes decoded rows to a CSV or JSONL file as they
+ * arrive, so the size of an export is not limited by the heap.
+ *
+ * <p>
+ * The file is written through a buffered writer over a {@link FileChannel},
+ * optionally gzip compressed. {@link #result()} closes the file and returns the
+ * number of rows and bytes written. If decoding fails, {@link #discard()} closes
+ * and deletes the partial file.
+ * </p>
+ */
+public class ExportSink implements ResultSink<ExportStats> {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final ExportFormat format;
+    private final Writer writer;
+    private final long start = System.nanoTime();
+    private String[] names = new String[0];
+    private String[] row = new String[0];
+    private JsonToken[] types = new JsonToken[0];
+    private final StringBuilder line = new StringBuilder();
+    private long rows;
+
+    /**
+     * Create a sink writing to the given file, replacing it if it exists.
+     *
+     * @param path   file to write
+     * @param format format of the file
+     * @param gzip   whether to gzip compress the file
+     * @throws UncheckedIOException if the file can not be created
+     */
+    public ExportSink(Path path, ExportFormat format, boolean gzip) {
+        this.path = path;
+        this.format = format;
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            OutputStream out = Channels.newOutputStream(channel);
+            if (gzip) {
+                out = new GZIPOutputStream(out, BUFFER_SIZE);
+            }
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open export file: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void columns(List<String> names) {
+        this.names = names.toArray(new String[0]);
+        this.row = new String[names.size()];
+        this.types = new JsonToken[names.size()];
+        if (format == ExportFormat.CSV) {
+            try {
+                writeCsv(this.names);
+            } catch (IOException e) {
+                throw failure(e);
+            }
+        }
+    }
+
+    @Override
+    public void cell(int column, JsonToken type, String value) {
+        row[column] = value;
+        types[column] = type;
+    }
+
+    @Override
+    public void endRow() {
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsv(row);
+            } else {
+                writeJson();
+            }
+        } catch (IOException e) {
+            throw failure(e);
+        }
+        rows++;
+        Arrays.fill(row, null);
+        Arrays.fill(types, null);
+    }
+
+    @Override
+    public ExportStats result() {
+        try {
+            writer.close();
+            return new ExportStats(path, rows, Files.size(path), System.nanoTime() - start);
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Close and delete the partial file, used when decoding fails.
+     */
+    public void discard() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            // The file is deleted next
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Nothing left to clean up
+        }
+    }
+
+    private UncheckedIOException failure(IOException e) {
+        discard();
+        return new UncheckedIOException("Failed to write export file: " + e.getMessage(), e);
+    }
+
+    private void writeCsv(String[] values) throws IOException {
+        line.setLength(0);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            CsvFormat.appendField(line, values[i]);
+        }
+        line.append("\r\n");
+        writer.append(line);
+    }
+
+    private void writeJson() throws IOException {
+        JsonWriter json = new JsonWriter(writer);
+        json.beginObject();
+        for (int i = 0; i < names.length; i++) {
+            json.name(names[i]);
+            if (row[i] == null) {
+                json.nullValue();
+            } else if (types[i] == JsonToken.NUMBER || types[i] == JsonToken.BOOLEAN) {
+                json.jsonValue(row[i]);
+            } else {
+                json.value(row[i]);
+            }
+        }
+        json.endObject();
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,84 @@
+package mindsdb.connectors;
+
+import java.nio.file.Path;
+
+/**
+ * Summary of a query result written to a file by {@link ExportSink}.
+ */
+public final class ExportStats {
+    private final Path path;
+    private final long rows;
+    private final long bytes;
+    private final long elapsedNanos;
+
+    ExportStats(Path path, long rows, long bytes, long elapsedNanos) {
+        this.path = path;
+        this.rows = rows;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get the file the result was written to
+     *
+     * @return path of the file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Get the number of rows written
+     *
+     * @return number of rows, without the CSV header
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Get the size of the written file
+     *
+     * @return number of bytes on disk, after compression
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Get the time between the start of the export and the last byte written
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Get the write throughput in rows
+     *
+     * @return rows written per second
+     */
+    public double getRowsPerSecond() {
+        return perSecond(rows);
+    }
+
+    /**
+     * Get the write throughput in bytes
+     *
+     * @return bytes written per second
+     */
+    public double getBytesPerSecond() {
+        return perSecond(bytes);
+    }
+
+    private double perSecond(long count) {
+        return elapsedNanos > 0 ? count * 1_000_000_000.0 / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%s, rows=%d, bytes=%d, rows/s=%.1f, bytes/s=%.1f)", getClass().getSimpleName(),
+                path, rows, bytes, getRowsPerSecond(), getBytesPerSecond());
+    }
+}
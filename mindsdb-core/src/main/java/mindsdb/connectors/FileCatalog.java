@@ -0,0 +1,171 @@
+package mindsdb.connectors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Index of the files uploaded to a MindsDB server, keyed by file name.
+ *
+ * <p>
+ * The index is built from one listing of {@code /api/files} and answers name
+ * lookups and batch existence checks without scanning the list again. Files
+ * uploaded through the same {@link RestAPI} are added to the index directly, so
+ * a listing is only needed once the index is older than its maximum age. The
+ * default maximum age is zero: every single lookup lists the files, as before,
+ * while a batch check lists them once for all names.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * FileCatalog files = api.getFileCatalog();
+ * files.setMaxAge(Duration.ofMinutes(5));
+ * Set<String> missing = files.missing(List.of("report", "notes"));
+ * }
+ * </pre>
+ */
+public final class FileCatalog {
+    private final RestAPI api;
+    private final LongSupplier clock;
+    private volatile Map<String, JsonObject> index = Map.of();
+    // Names uploaded through this client since the last listing, their metadata is not known yet
+    private final Set<String> uploaded = ConcurrentHashMap.newKeySet();
+    private volatile long refreshed;
+    private volatile boolean loaded;
+    private volatile long maxAgeNanos;
+
+    /**
+     * Create a catalog over the files of a server.
+     *
+     * @param api RestAPI used to list the files
+     */
+    public FileCatalog(RestAPI api) {
+        this(api, System::nanoTime);
+    }
+
+    FileCatalog(RestAPI api, LongSupplier clock) {
+        this.api = api;
+        this.clock = clock;
+    }
+
+    /**
+     * Set how long a listing is used before the files are listed again.
+     *
+     * @param maxAge maximum age of the index, zero to list on every lookup
+     */
+    public void setMaxAge(Duration maxAge) {
+        if (maxAge == null || maxAge.isNegative()) {
+            throw new IllegalArgumentException("Maximum age must not be negative");
+        }
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    /**
+     * List the files of the server and rebuild the index.
+     */
+    public synchronized void refresh() {
+        JsonArray files = api.listFiles();
+        Map<String, JsonObject> rebuilt = new HashMap<>(files.size() * 2);
+        for (JsonElement file : files) {
+            JsonObject metadata = file.getAsJsonObject();
+            rebuilt.put(metadata.get("name").getAsString(), metadata);
+        }
+        index = rebuilt;
+        uploaded.clear();
+        refreshed = clock.getAsLong();
+        loaded = true;
+    }
+
+    /**
+     * Get the metadata of a file.
+     *
+     * @param name name of the file
+     * @return metadata of the file, or null if it does not exist
+     */
+    public JsonObject get(String name) {
+        refreshIfStale();
+        if (uploaded.contains(name)) {
+            // Uploaded since the last listing, list again to get its metadata
+            refresh();
+        }
+        return index.get(name);
+    }
+
+    /**
+     * Check whether a file exists.
+     *
+     * @param name name of the file
+     * @return true if the file exists
+     */
+    public boolean exists(String name) {
+        refreshIfStale();
+        return uploaded.contains(name) || index.containsKey(name);
+    }
+
+    /**
+     * Check whether all files exist, with at most one listing.
+     *
+     * @param names names of the files
+     * @return true if every file exists
+     */
+    public boolean existsAll(Collection<String> names) {
+        return missing(names).isEmpty();
+    }
+
+    /**
+     * Find the files that do not exist, with at most one listing.
+     *
+     * @param names names of the files
+     * @return names that do not exist, in the order given
+     */
+    public Set<String> missing(Collection<String> names) {
+        refreshIfStale();
+        Map<String, JsonObject> current = index;
+        Set<String> missing = new LinkedHashSet<>();
+        for (String name : names) {
+            if (!current.containsKey(name) && !uploaded.contains(name)) {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * List the metadata of all files.
+     *
+     * @return metadata of the files
+     */
+    public List<JsonObject> list() {
+        refreshIfStale();
+        if (!uploaded.isEmpty()) {
+            refresh();
+        }
+        return new ArrayList<>(index.values());
+    }
+
+    /**
+     * Record a file uploaded through this client, without listing the files.
+     *
+     * @param name name of the file
+     */
+    public void recordUpload(String name) {
+        uploaded.add(name);
+    }
+
+    private void refreshIfStale() {
+        if (!loaded || clock.getAsLong() - refreshed >= maxAgeNanos) {
+            refresh();
+        }
+    }
+}
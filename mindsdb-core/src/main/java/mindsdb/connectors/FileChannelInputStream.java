@@ -0,0 +1,97 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import mindsdb.utils.UploadProgressListener;
+
+/**
+ * Stream over a file read from a {@link FileChannel} through one fixed-size
+ * buffer, reporting the bytes read to an {@link UploadProgressListener}. Heap
+ * usage does not depend on the size of the file.
+ */
+final class FileChannelInputStream extends InputStream {
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final UploadProgressListener listener;
+    private final String name;
+    private final long size;
+    private long read;
+
+    FileChannelInputStream(Path path, String name, UploadProgressListener listener) throws IOException {
+        this(path, 0, -1, name, listener);
+    }
+
+    /**
+     * Stream over a byte range of a file.
+     *
+     * @param end end of the range (exclusive), -1 for the end of the file
+     */
+    FileChannelInputStream(Path path, long start, long end, String name, UploadProgressListener listener)
+            throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = (end < 0 ? channel.size() : end) - start;
+        this.name = name;
+        this.listener = listener;
+        channel.position(start);
+        buffer.limit(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return buffer.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean fill() throws IOException {
+        if (buffer.hasRemaining()) {
+            return true;
+        }
+        if (read >= size) {
+            return false;
+        }
+        buffer.clear();
+        buffer.limit((int) Math.min(BUFFER_SIZE, size - read));
+        int count = channel.read(buffer);
+        buffer.flip();
+        if (count <= 0) {
+            return false;
+        }
+        read += count;
+        if (listener != null) {
+            listener.progress(name, read, size);
+        }
+        return true;
+    }
+}
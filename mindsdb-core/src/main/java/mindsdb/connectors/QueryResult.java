@@ -0,0 +1,204 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+/**
+ * Read-only view over a SQL query result built by {@link SpillingSink}.
+ *
+ * <p>
+ * Small results are held in memory. Results larger than the memory budget of the
+ * query are kept in column files on disk and read back through memory-mapped
+ * buffers, so only the values that are accessed are loaded. Closing the result
+ * deletes the files and drops the references to the buffers; Java has no way to
+ * unmap them explicitly, so the mappings are only released once the buffers are
+ * garbage collected. Values can not be read after closing.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * try (QueryResult result = query.fetchResult(512L * 1024 * 1024)) {
+ *     for (int i = 0; i < result.rowCount(); i++) {
+ *         String value = result.get(i, "name");
+ *     }
+ * }
+ * }
+ * </pre>
+ */
+public final class QueryResult implements AutoCloseable {
+
+    /**
+     * Storage of the values of one column.
+     */
+    interface ColumnData {
+        String get(int row);
+    }
+
+    private final List<String> columnNames;
+    // Null once the result is closed
+    private ColumnData[] columns;
+    private final int rowCount;
+    private final Path spillDirectory;
+
+    QueryResult(List<String> columnNames, ColumnData[] columns, int rowCount, Path spillDirectory) {
+        this.columnNames = columnNames;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Get the column names of the result
+     *
+     * @return column names in result order
+     */
+    public List<String> columnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Get the number of columns
+     *
+     * @return number of columns
+     */
+    public int columnCount() {
+        return columnNames.size();
+    }
+
+    /**
+     * Get the number of rows
+     *
+     * @return number of rows
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Whether the result exceeded its memory budget and is stored on disk
+     *
+     * @return true if the result is read from memory-mapped files
+     */
+    public boolean isSpilled() {
+        return spillDirectory != null;
+    }
+
+    /**
+     * Get a value by row and column index
+     *
+     * @param row    index of the row
+     * @param column index of the column
+     * @return value of the cell, null for missing values
+     * @throws IllegalStateException if the result is closed
+     */
+    public String get(int row, int column) {
+        ColumnData[] columns = open();
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for " + rowCount + " rows");
+        }
+        return columns[column].get(row);
+    }
+
+    /**
+     * Get a value by row index and column name
+     *
+     * @param row    index of the row
+     * @param column name of the column
+     * @return value of the cell, null for missing values
+     * @throws IllegalArgumentException if the column does not exist
+     * @throws IllegalStateException    if the result is closed
+     */
+    public String get(int row, String column) {
+        int index = columnNames.indexOf(column);
+        if (index < 0) {
+            throw new IllegalArgumentException("Column doesn't exist: " + column);
+        }
+        return get(row, index);
+    }
+
+    /**
+     * Get a row by index
+     *
+     * @param row index of the row
+     * @return the row
+     * @throws IllegalStateException if the result is closed
+     */
+    public ResultRow row(int row) {
+        String[] values = new String[columnNames.size()];
+        for (int column = 0; column < values.length; column++) {
+            values[column] = get(row, column);
+        }
+        return new ResultRow(columnNames, values);
+    }
+
+    /**
+     * Copy the result into a Tablesaw Table. Only use this when the result fits in
+     * memory.
+     *
+     * @return Table with string columns
+     * @throws IllegalStateException if the result is closed
+     */
+    public Table toTable() {
+        ColumnData[] columns = open();
+        Table table = Table.create();
+        for (int column = 0; column < columns.length; column++) {
+            StringColumn stringColumn = StringColumn.create(columnNames.get(column));
+            for (int row = 0; row < rowCount; row++) {
+                String value = columns[column].get(row);
+                if (value == null) {
+                    stringColumn.appendMissing();
+                } else {
+                    stringColumn.append(value);
+                }
+            }
+            table.addColumns(stringColumn);
+        }
+        return table;
+    }
+
+    /**
+     * Release the result and delete its spill files, if any. Closing a closed
+     * result has no effect.
+     */
+    @Override
+    public void close() {
+        if (columns == null) {
+            return;
+        }
+        columns = null;
+        if (spillDirectory != null) {
+            deleteDirectory(spillDirectory);
+        }
+    }
+
+    private ColumnData[] open() {
+        if (columns == null) {
+            throw new IllegalStateException("Query result is closed");
+        }
+        return columns;
+    }
+
+    static void deleteDirectory(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete spill files: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(rows=%d, columns=%d%s)", this.getClass().getSimpleName(), rowCount, columnNames.size(),
+                isSpilled() ? ", spilled" : "");
+    }
+}
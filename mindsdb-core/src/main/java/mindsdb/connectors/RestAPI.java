@@ -0,0 +1,1152 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import kong.unirest.core.ContentType;
+import kong.unirest.core.HttpRequestWithBody;
+import kong.unirest.core.HttpResponse;
+import kong.unirest.core.JsonNode;
+import kong.unirest.core.MultipartBody;
+import kong.unirest.core.RawResponse;
+import kong.unirest.core.RequestBodyEntity;
+import kong.unirest.core.Unirest;
+import kong.unirest.core.UnirestException;
+import kong.unirest.core.UnirestInstance;
+import mindsdb.utils.HttpException;
+import mindsdb.utils.UploadProgressListener;
+import tech.tablesaw.api.Table;
+
+/**
+ * RestAPI class for handling REST API requests.
+ */
+public final class RestAPI {
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String apiKey;
+    private final boolean isManaged;
+    private final Gson gson = new Gson();
+    private UnirestInstance session;
+    private volatile ResultCache resultCache;
+    private volatile CatalogCache catalogCache;
+    private final FileCatalog fileCatalog = new FileCatalog(this);
+    private volatile UploadManifest uploadManifest;
+
+    /**
+     * Constructor for RestAPI
+     * @param url           URL to MindsDB server
+     * @param login         User login, for cloud version it contains email
+     * @param password      User password to login (for cloud version)
+     * @param apiKey        API key to authenticate (for cloud version)
+     * @param isManaged     Whether or not the URL points to a managed instance
+     * @param headers       Additional headers to send with the connection, optional
+     * 
+     */
+    public RestAPI(String url, String login, String password, String apiKey, boolean isManaged,
+            Map<String, String> headers) {
+        this.url = url;
+        this.username = login;
+        this.password = password;
+        this.apiKey = apiKey;
+        this.isManaged = isManaged;
+        this.session = Unirest.spawnInstance();
+
+        // Set user-agent
+        this.session.config().addDefaultHeader("User-Agent", "java-sdk/1.0");
+
+        // Add custom headers if provided
+        if (headers != null) {
+            headers.forEach((key, value) -> this.session.config().addDefaultHeader(key, value));
+        }
+
+        // Authenticate with API key if present
+        if (this.apiKey != null) {
+            this.session.config().addDefaultHeader("X-Api-Key", this.apiKey);
+            return;
+        }
+
+        // Perform login if username and password are provided
+        if (this.username != null && this.password != null) {
+            this.login();
+        }
+    }
+
+    /**
+     * Get the URL of the MindsDB server
+     * @return URL of the MindsDB server
+     */
+    public String getUrl() {
+        return this.url;
+    }
+
+    private void raiseForStatus(HttpResponse<String> response) {
+        if (response.getStatus() >= 400 && response.getStatus() < 600) {
+            throw new HttpException(response.getStatus(), response.getBody());
+        }
+    }
+
+    /**
+     * Login to the MindsDB server
+     */
+    public void login() {
+        String managedEndpoint = "/api/login";
+        String cloudEndpoint = "/cloud/login";
+
+        try {
+            String endpointUrl;
+            if (this.isManaged) {
+                endpointUrl = this.url + managedEndpoint;
+                HttpResponse<JsonNode> response = session.post(endpointUrl)
+                        .header("Content-Type", "application/json")
+                        .body("{\"username\":\"" + this.username + "\", \"password\":\"" + this.password + "\"}")
+                        .asJson();
+
+                checkAndHandleLoginFailure(response);
+            } else {
+                endpointUrl = this.url + cloudEndpoint;
+                HttpResponse<JsonNode> response = session.post(endpointUrl)
+                        .header("Content-Type", "application/json")
+                        .body("{\"email\":\"" + this.username + "\", \"password\":\"" + this.password + "\"}")
+                        .asJson();
+
+                checkAndHandleLoginFailure(response);
+
+                // Fallback in case isManaged is false but requires managed login
+                if (response.getStatus() == 404 || response.getStatus() == 405) {
+                    endpointUrl = this.url + managedEndpoint;
+                    response = session.post(endpointUrl)
+                            .header("Content-Type", "application/json")
+                            .body("{\"username\":\"" + this.username + "\", \"password\":\"" + this.password + "\"}")
+                            .asJson();
+
+                    checkAndHandleLoginFailure(response);
+                }
+            }
+        } catch (UnirestException e) {
+            throw new RuntimeException("Failed to login: " + e.getMessage(), e);
+        }
+    }
+
+    private void checkAndHandleLoginFailure(HttpResponse<JsonNode> response) {
+        if (response.getStatus() >= 400) {
+            throw new RuntimeException("Login failed: " + response.getBody().toString());
+        }
+    }
+
+    /**
+     * Execute a SQL query to the MindsDB server
+     * 
+     * @param sql      SQL query to execute
+     * @param database Database to execute the query on
+     * @return Tablesaw Table containing the result of the query
+     */
+    public Table sqlQuery(String sql, String database) {
+        return sqlQuery(sql, database, false);
+    }
+
+    /**
+     * Execute a SQL query to the MindsDB server
+     * 
+     * @param sql        SQL query to execute
+     * @param database   Database to execute the query on
+     * @param inferTypes Whether to build typed columns from the JSON values instead of string columns
+     * @return Tablesaw Table containing the result of the query
+     */
+    public Table sqlQuery(String sql, String database, boolean inferTypes) {
+        ResultCache cache = this.resultCache;
+        if (cache == null) {
+            return sqlQuery(sql, database, inferTypes ? new TypedTableSink() : new TableSink());
+        }
+
+        String db = database != null ? database : "mindsdb";
+        Table cached = cache.get(sql, db, inferTypes);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = cache.generation();
+        Table result = sqlQuery(sql, database, inferTypes ? new TypedTableSink() : new TableSink());
+        cache.put(sql, db, inferTypes, result, generation);
+        return result;
+    }
+
+    /**
+     * Enable caching of query results returned as Tables. Results are kept up to
+     * an estimated heap size and for a fixed time, and writes sent through this
+     * client remove the cached results of the tables they change. Calling it again
+     * replaces the cache.
+     * 
+     * @param maxBytes Estimated number of heap bytes the cached results may use
+     * @param ttl      Time after which a cached result expires
+     * @return The new cache, to read its counters
+     */
+    public ResultCache enableResultCache(long maxBytes, Duration ttl) {
+        this.resultCache = new ResultCache(maxBytes, ttl);
+        return this.resultCache;
+    }
+
+    /**
+     * Disable and drop the query result cache
+     */
+    public void disableResultCache() {
+        this.resultCache = null;
+    }
+
+    /**
+     * Get the query result cache
+     * 
+     * @return The cache, or null if caching is not enabled
+     */
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Enable caching of catalog lookups by name (databases, projects, ML engines
+     * and handlers). Objects created or dropped through the SDK are invalidated.
+     * Calling it again replaces the cache.
+     * 
+     * @param ttl         Time after which a found object expires
+     * @param negativeTtl Time after which a lookup that found nothing expires
+     * @return The new cache, to read its counters
+     */
+    public CatalogCache enableCatalogCache(Duration ttl, Duration negativeTtl) {
+        this.catalogCache = new CatalogCache(ttl, negativeTtl);
+        return this.catalogCache;
+    }
+
+    /**
+     * Disable and drop the catalog cache
+     */
+    public void disableCatalogCache() {
+        this.catalogCache = null;
+    }
+
+    /**
+     * Get the catalog cache
+     * 
+     * @return The cache, or null if caching is not enabled
+     */
+    public CatalogCache getCatalogCache() {
+        return catalogCache;
+    }
+
+    /**
+     * Execute a SQL query to the MindsDB server and stream the result into a sink.
+     * The response body is decoded while it is read, without buffering it first.
+     * The request body of a large statement is JSON-escaped and streamed as it is
+     * encoded, so the statement is not copied into a second string; smaller ones
+     * are sent with their length.
+     * 
+     * @param sql      SQL query to execute
+     * @param database Database to execute the query on
+     * @param sink     Sink receiving the decoded rows
+     * @param <T>      Type produced by the sink
+     * @return Result of the sink, or null if the query returned no table
+     */
+    public <T> T sqlQuery(String sql, String database, ResultSink<T> sink) {
+        if (database == null) {
+            database = "mindsdb";
+        }
+        String endpointUrl = this.url + "/api/sql/query";
+        try {
+            byte[] payload = SqlPayloadInputStream.toBytes(sql, database);
+            HttpRequestWithBody post = session.post(endpointUrl).header("Content-Type", "application/json");
+            RequestBodyEntity request = payload != null ? post.body(payload)
+                    : post.body(new SqlPayloadInputStream(sql, database));
+            HttpResponse<DecodedResponse<T>> response = request
+                    .asObject(raw -> decodeResponse(raw, reader -> ResultDecoder.decode(reader, sink)));
+
+            ResultCache cache = this.resultCache;
+            if (cache != null) {
+                // Invalidate even if the statement failed, it may have been partly applied
+                cache.invalidate(sql);
+            }
+            DecodedResponse<T> decoded = response.getBody();
+            if (decoded.error() instanceof HttpException e) {
+                throw new RuntimeException("SQL Query failed: " + e.getResponseBody());
+            }
+            return decoded.get();
+        } catch (UnirestException e) {
+            throw new RuntimeException("SQL Query execution failed: " + e.getMessage(), e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyDecoder<T> {
+        T decode(Reader reader) throws IOException;
+    }
+
+    // Runs inside the response handler, errors are carried out so that Unirest does not wrap them
+    private static <T> DecodedResponse<T> decodeResponse(RawResponse raw, BodyDecoder<T> decoder) {
+        try {
+            if (raw.getStatus() >= 400) {
+                return new DecodedResponse<>(null, new HttpException(raw.getStatus(), raw.getContentAsString()));
+            }
+            try (Reader reader = new InputStreamReader(raw.getContent(), StandardCharsets.UTF_8)) {
+                return new DecodedResponse<>(decoder.decode(reader), null);
+            }
+        } catch (IOException e) {
+            return new DecodedResponse<>(null, new UnirestException(e));
+        } catch (RuntimeException e) {
+            return new DecodedResponse<>(null, e);
+        }
+    }
+
+    private record DecodedResponse<T>(T result, RuntimeException error) {
+        T get() {
+            if (error != null) {
+                throw error;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Execute a SQL query to the MindsDB server
+     * 
+     * @param sql SQL query to execute
+     * @return Tablesaw Table containing the result of the query in form of table
+     */
+    public Table sqlQuery(String sql) {
+        return sqlQuery(sql, null);
+    }
+
+    /**
+     * Close the session
+     */
+    public void closeSession() {
+        this.session.close();
+    }
+
+    /**
+     * Create a new agent
+     * 
+     * @param project  Name of the project
+     * @param name     Name of the Agent
+     * @param model    Name of the model
+     * @param provider Name of the provider
+     * @param skills   List of skills
+     * @param params   Additional parameters
+     * @throws UnirestException when the request fails when the request fails
+     * @return JsonObject containing the agent details
+     */
+    public JsonObject createAgent(String project, String name, String model, String provider, List<String> skills,
+            Map<String, Object> params) {
+        String endpoint = this.url + "/api/projects/" + project + "/agents";
+        JsonObject agentDetails = new JsonObject();
+
+        agentDetails.addProperty("name", name);
+        agentDetails.addProperty("model_name", model);
+        agentDetails.add("skills", gson.toJsonTree(skills));
+        agentDetails.add("params", gson.toJsonTree(params));
+        agentDetails.add("provider", gson.toJsonTree(provider));
+
+        JsonObject payload = new JsonObject();
+        payload.add("agent", agentDetails);
+
+        HttpResponse<String> response = this.session.post(endpoint)
+                .header("Content-Type", "application/json")
+                .body(payload)
+                .asString();
+
+        raiseForStatus(response);
+
+        return gson.fromJson(response.getBody(), JsonObject.class);
+    }
+
+    /**
+     * Update an agent
+     * @param project      Project name 
+     * @param name          Agent name
+     * @param updatedName   Updated agent name
+     * @param updatedModel Updated model name
+     * @param skillsToAdd  List of skills to add
+     * @param skillsToRemove    List of skills to remove
+     * @param updatedParams    Updated parameters
+     * @return  JsonObject containing the updated agent details
+     */
+    public JsonObject updateAgent(String project, String name, String updatedName, String updatedModel,
+            List<String> skillsToAdd, List<String> skillsToRemove, JsonObject updatedParams) {
+        String endpoint = this.url + "/api/projects/" + project + "/agents/" + name;
+        JsonObject agentDetails = new JsonObject();
+        agentDetails.addProperty("name", updatedName);
+        agentDetails.addProperty("model_name", updatedModel);
+        agentDetails.add("skills_to_add", gson.toJsonTree(skillsToAdd));
+        agentDetails.add("skills_to_remove", gson.toJsonTree(skillsToRemove));
+        agentDetails.add("params", gson.toJsonTree(updatedParams));
+
+        JsonObject body = new JsonObject();
+        body.add("agent", agentDetails);
+
+        HttpResponse<String> response = session.put(endpoint)
+                .header("Content-Type", "application/json")
+                .body(body.toString())
+                .asString();
+        raiseForStatus(response);
+
+        return gson.fromJson(response.getBody(), JsonObject.class);
+    }
+
+    
+    private void uploadByom(String name, String code, String requirements) throws UnirestException {
+        HttpResponse<String> response = Unirest.put(this.url + "/api/handlers/byom/" + name)
+                .field("code", code)
+                .field("modules", requirements)
+                .asString();
+
+        raiseForStatus(response);
+    }
+
+    /**
+     * Upload a custom handler to MindsDB
+     * @return JsonObject containing the response
+     *  @throws UnirestException  when the request fails
+     */
+    public JsonObject status() throws UnirestException {
+        HttpResponse<String> response = session.get(this.url + "/api/status").asString();
+
+        raiseForStatus(response);
+
+        return gson.fromJson(response.getBody(), JsonObject.class);
+    }
+
+    /**
+     * Get the status of the MindsDB server
+     * @param project Name of the project
+     * @return JsonObject containing the status of the project
+     * @throws UnirestException when the request fails
+     */
+    public JsonArray agents(String project) throws UnirestException {
+        HttpResponse<String> response = session.get(this.url + "/api/projects/" + project + "/agents").asString();
+
+        raiseForStatus(response);
+
+        return gson.fromJson(response.getBody(), JsonArray.class);
+    }
+
+    /**
+     * Get the status of the MindsDB server 
+     * @param project Name of the project
+     * @param name  Name of the agent
+     * @return JsonObject containing the status of the agent
+     * @throws UnirestException when the request fails
+     */
+    public JsonObject agent(String project, String name) throws UnirestException {
+        HttpResponse<String> response = session.get(this.url + "/api/projects/" + project + "/agents/" + name)
+                .asString();
+
+        raiseForStatus(response);
+
+        return gson.fromJson(response.getBody(), JsonObject.class);
+    }
+
+    /**
+     * Get the status of the MindsDB server
+     * @param project   Name of the project
+     * @param name    Name of the agent
+     * @param messages  List of messages
+     * @return  JsonObject containing the completion of the agent
+     * @throws UnirestException when the request fails 
+     */
+    public JsonObject agentCompletion(String project, String name, List<JsonObject> messages) throws UnirestException {
+        JsonObject body = new JsonObject();
+        body.add("messages", gson.toJsonTree(messages));
+
+        HttpResponse<String> response = session
+                .post(this.url + "/api/projects/" + project + "/agents/" + name + "/completions")
+                .header("Content-Type", "application/json")
+                .body(body.toString())
+                .asString();
+
+        raiseForStatus(response);
+
+        return gson.fromJson(response.getBody(), JsonObject.class);
+    }
+
+    /**
+     * Delete an agent  
+     * @param project   Name of the project
+     * @param name  Name of the agent
+     * @throws UnirestException when the request fails     
+     */
+    public void deleteAgent(String project, String name) throws UnirestException {
+        HttpResponse<String> response = Unirest.delete(this.url + "/api/projects/" + project + "/agents/" + name)
+                .asString();
+
+        raiseForStatus(response);
+    }
+
+    /**
+     *  Get skills of a project
+     * @param project Name of the project
+     * @return  JsonArray containing the skills of the project
+     * @throws UnirestException when the request fails     
+     */
+    public JsonArray skills(String project) throws UnirestException {
+        HttpResponse<String> response = session.get(this.url + "/api/projects/" + project + "/skills").asString();
+
+        raiseForStatus(response);
+
+        return gson.fromJson(response.getBody(), JsonArray.class);
+    }
+
+    /**
+     * Get a skill of a project
+     * @param project   Name of the project 
+     * @param name  Name of the skill
+     * @return  JsonObject containing the skill details
+     * @throws UnirestException when the request fails
+     */
+    public JsonObject skill(String project, String name) throws UnirestException {
+        HttpResponse<String> response = session.get(this.url + "/api/projects/" + project + "/skills/" + name)
+                .asString();
+
+        raiseForStatus(response);
+
+        return gson.fromJson(response.getBody(), JsonObject.class);
+    }
+
+    /**
+     * Create a skill
+     * @param project  Name of the project
+     * @param name  Name of the skill   
+     * @param type  Type of the skill
+     * @param params    Parameters of the skill
+     * @throws UnirestException when the request fails
+     */
+    public void createSkill(String project, String name, String type, JsonObject params) throws UnirestException {
+        JsonObject body = new JsonObject();
+        JsonObject skill = new JsonObject();
+        skill.addProperty("name", name);
+        skill.addProperty("type", type);
+        skill.add("params", params);
+
+        body.add("skill", skill);
+
+        HttpResponse<String> response = session.post(this.url + "/api/projects/" + project + "/skills")
+                .header("Content-Type", "application/json")
+                .body(body.toString())
+                .asString();
+
+        raiseForStatus(response);
+    }
+
+    /**
+     * Update a skill
+     * @param project   Name of the project
+     * @param name  Name of the skill
+     * @param updatedName   Updated name of the skill
+     * @param updatedType   Updated type of the skill
+     * @param updatedParams Updated parameters of the skill
+     * @throws UnirestException when the request fails
+     */
+    public void updateSkill(String project, String name, String updatedName, String updatedType,
+            JsonObject updatedParams) throws UnirestException {
+        JsonObject body = new JsonObject();
+        JsonObject skill = new JsonObject();
+        skill.addProperty("name", updatedName);
+        skill.addProperty("type", updatedType);
+        skill.add("params", updatedParams);
+
+        body.add("skill", skill);
+
+        HttpResponse<String> response = session.put(this.url + "/api/projects/" + project + "/skills/" + name)
+                .header("Content-Type", "application/json")
+                .body(body.toString())
+                .asString();
+
+        raiseForStatus(response);
+    }
+
+    /**
+     * Delete a skill
+     * @param project  Name of the project
+     * @param name  Name of the skill
+     * @throws UnirestException when the request fails 
+     */
+    public void deleteSkill(String project, String name) throws UnirestException {
+        HttpResponse<String> response = session.delete(this.url + "/api/projects/" + project + "/skills/" + name)
+                .asString();
+
+        raiseForStatus(response);
+    }
+
+    /**
+     * Insert files into a knowledge base
+     * @param project   Name of the project
+     * @param knowledgeBaseName     Name of the knowledge base
+     * @param fileNames     List of file names
+     * @throws UnirestException when the request fails 
+     */
+    public void insertFilesIntoKnowledgeBase(String project, String knowledgeBaseName, List<String> fileNames)
+            throws UnirestException {
+        JsonObject body = new JsonObject();
+        JsonObject knowledgeBase = new JsonObject();
+        knowledgeBase.add("files", gson.toJsonTree(fileNames));
+
+        body.add("knowledge_base", knowledgeBase);
+
+        HttpResponse<String> response = session
+                .put(this.url + "/api/projects/" + project + "/knowledge_bases/" + knowledgeBaseName)
+                .header("Content-Type", "application/json")
+                .body(body.toString())
+                .asString();
+
+        raiseForStatus(response);
+    }
+
+    /**
+     * Insert webpages into a knowledge base
+     * @param project  Name of the project
+     * @param knowledgeBaseName         Name of the knowledge base
+     * @param urls  List of URLs
+     * @param crawlDepth    Crawl depth
+     * @param filters   List of filters
+     * @throws UnirestException when the request fails
+     */
+    public void insertWebpagesIntoKnowledgeBase(String project, String knowledgeBaseName, List<String> urls,
+            int crawlDepth, List<String> filters) throws UnirestException {
+        JsonObject body = new JsonObject();
+        JsonObject knowledgeBase = new JsonObject();
+        knowledgeBase.add("urls", gson.toJsonTree(urls));
+        knowledgeBase.addProperty("crawl_depth", crawlDepth);
+        knowledgeBase.add("filters", gson.toJsonTree(filters != null ? filters : List.of()));
+
+        body.add("knowledge_base", knowledgeBase);
+
+        HttpResponse<String> response = session
+                .put(this.url + "/api/projects/" + project + "/knowledge_bases/" + knowledgeBaseName)
+                .header("Content-Type", "application/json")
+                .body(body.toString())
+                .asString();
+
+        raiseForStatus(response);
+    }
+
+    /**
+     * Insert data into a knowledge base
+     * @param item Name of the item
+     * @return Tablesaw Table containing the data
+     */
+    public Table objectsTree(String item) {
+        HttpResponse<DecodedResponse<Table>> response = this.session.get(this.url + "/api/tree/" + item)
+                .header("Content-Type", "application/json")
+                .asObject(raw -> decodeResponse(raw, reader -> ResultDecoder.decodeRecords(reader, new TableSink())));
+        return response.getBody().get();
+    }
+
+    /**
+     * Insert data into a knowledge base
+     * @return Tablesaw Table containing the data
+     */
+    public Table objectsTree() {
+        return objectsTree("");
+    }
+
+    /**
+     * Make a batch prediction using a MindsDB model
+     * 
+     * @param project Name of the project
+     * @param model   Name of the model
+     * @param data    Tablesaw table containing the data
+     * @param params  Additional params for model
+     * @param version Version of model to use
+     * @return Tablesaw table object containing prediction
+     */
+    public Table modelPredict(String project, String model, Table data, Map<String, String> params, Integer version) {
+        return modelPredict(project, model, data, params, version, false);
+    }
+
+    /**
+     * Make a batch prediction using a MindsDB model
+     * 
+     * @param project    Name of the project
+     * @param model      Name of the model
+     * @param data       Tablesaw table containing the data
+     * @param params     Additional params for model
+     * @param version    Version of model to use
+     * @param inferTypes Whether to build typed columns from the JSON values instead of string columns
+     * @return Tablesaw table object containing prediction
+     */
+    public Table modelPredict(String project, String model, Table data, Map<String, String> params, Integer version,
+            boolean inferTypes) {
+        return modelPredict(project, model, ColumnBatch.of(data), params, version,
+                inferTypes ? new TypedTableSink() : new TableSink());
+    }
+
+    /**
+     * Make a single prediction using a MindsDB model
+     * 
+     * @param project Name of field to predict
+     * @param model   Name of the model
+     * @param data    Data provided to model
+     * @param params  Additional parameters
+     * @param version Version of the model
+     * @return Tablesaw Table containing the prediction
+     */
+    public Table modelPredict(String project, String model, Map<String, String> data, Map<String, String> params,
+            Integer version) {
+        return modelPredict(project, model, data, params, version, false);
+    }
+
+    /**
+     * Make a single prediction using a MindsDB model
+     * 
+     * @param project    Name of field to predict
+     * @param model      Name of the model
+     * @param data       Data provided to model
+     * @param params     Additional parameters
+     * @param version    Version of the model
+     * @param inferTypes Whether to build typed columns from the JSON values instead of string columns
+     * @return Tablesaw Table containing the prediction
+     */
+    public Table modelPredict(String project, String model, Map<String, String> data, Map<String, String> params,
+            Integer version, boolean inferTypes) {
+        List<String> names = new ArrayList<>(data.keySet());
+        ColumnBatch row = new ColumnBatch() {
+            @Override
+            public List<String> columnNames() {
+                return names;
+            }
+
+            @Override
+            public int rowCount() {
+                return 1;
+            }
+
+            @Override
+            public Object get(int rowIndex, int column) {
+                return data.get(names.get(column));
+            }
+        };
+
+        return modelPredict(project, model, row, params, version,
+                inferTypes ? new TypedTableSink() : new TableSink());
+    }
+
+    /**
+     * Make a batch prediction using a MindsDB model. The payload is encoded
+     * straight from the columns of the batch and the response is decoded into the
+     * sink, so callers can use their own columnar formats on both sides.
+     * 
+     * @param project Name of the project
+     * @param model   Name of the model
+     * @param data    Batch of input rows
+     * @param params  Additional params for model
+     * @param version Version of model to use
+     * @param sink    Sink receiving the prediction rows
+     * @param <T>     Type produced by the sink
+     * @return Result of the sink
+     */
+    public <T> T modelPredict(String project, String model, ColumnBatch data, Map<String, String> params,
+            Integer version, ResultSink<T> sink) {
+        String modelName = model + (version != null ? "." + version : "");
+        if (params == null) {
+            params = Map.of();
+        }
+
+        String endpointUrl = this.url + "/api/projects/" + project + "/models/" + modelName + "/predict";
+        HttpResponse<DecodedResponse<T>> response = session.post(endpointUrl)
+                .header("Content-Type", "application/json")
+                .body(predictPayload(data, params))
+                .asObject(raw -> decodeResponse(raw, reader -> ResultDecoder.decodeRecords(reader, sink)));
+
+        return response.getBody().get();
+    }
+
+    private static String predictPayload(ColumnBatch data, Map<String, String> params) {
+        StringWriter out = new StringWriter();
+        try (JsonWriter json = new JsonWriter(out)) {
+            List<String> names = data.columnNames();
+            json.beginObject().name("data").beginArray();
+            for (int row = 0; row < data.rowCount(); row++) {
+                json.beginObject();
+                for (int column = 0; column < names.size(); column++) {
+                    json.name(names.get(column));
+                    writeValue(json, data.get(row, column));
+                }
+                json.endObject();
+            }
+            json.endArray();
+
+            json.name("params").beginObject();
+            for (Map.Entry<String, String> param : params.entrySet()) {
+                json.name(param.getKey()).value(param.getValue());
+            }
+            json.endObject().endObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode prediction data: " + e.getMessage(), e);
+        }
+        return out.toString();
+    }
+
+    private static void writeValue(JsonWriter json, Object value) throws IOException {
+        if (value == null) {
+            json.nullValue();
+        } else if (value instanceof Double number && !Double.isFinite(number)) {
+            json.nullValue();
+        } else if (value instanceof Float number && !Float.isFinite(number)) {
+            json.nullValue();
+        } else if (value instanceof Number number) {
+            json.value(number);
+        } else if (value instanceof Boolean bool) {
+            json.value(bool);
+        } else {
+            json.value(value.toString());
+        }
+    }
+
+    /**
+     * Read the content of a file as bytes
+     * @param filePath  Path to the file
+     * @return  Byte array of the file
+     */
+    public static byte[] readFileAsBytes(String filePath) {
+        try {
+            return Files.readAllBytes(Paths.get(filePath));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read the content of dataframe as csv in bytes
+     * 
+     * @param dataframe DataFrame to read
+     * @return DataFrame as csv in bytes
+     */
+    public static byte[] readDataFrameAsCSV(Table dataframe) {
+        try (InputStream csv = new TableCsvInputStream(dataframe)) {
+            return csv.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode table: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read the content of a file as a webpage
+     * @param url        URL of the webpage
+     * @return  Content of the webpage
+     */
+    public static String readFileAsWebpage(String url) {
+        HttpResponse<String> response = Unirest.get(url).asString();
+        return response.getBody();
+    }
+
+    /**
+     * Upload a file to the MindsDB server
+     * 
+     * @param fileName Name of the file
+     * @param data     Byte array of the file
+     */
+    public void uploadData(String fileName, byte[] data) {
+        fileName = serverFileName(fileName);
+        UploadManifest manifest = this.uploadManifest;
+        String hash = null;
+        if (manifest != null) {
+            hash = UploadManifest.sha256(data);
+            if (isUploaded(manifest, fileName, hash)) {
+                manifest.recordSkip(data.length);
+                return;
+            }
+        }
+        putFile(fileName, data);
+        if (manifest != null) {
+            manifest.recordUpload(manifestKey(fileName), hash, data.length);
+        }
+    }
+
+    private void putFile(String fileName, byte[] data) {
+        completePut(fileName, filePart(fileName).field("file", data, fileName).asString());
+    }
+
+    void putFile(String fileName, InputStream data) {
+        putFile(fileName, data, fileName);
+    }
+
+    private void putFile(String fileName, InputStream data, String originalFileName) {
+        completePut(fileName, filePart(fileName, originalFileName)
+                .field("file", data, ContentType.APPLICATION_OCTET_STREAM, originalFileName).asString());
+    }
+
+    private MultipartBody filePart(String fileName) {
+        return filePart(fileName, fileName);
+    }
+
+    private MultipartBody filePart(String fileName, String originalFileName) {
+        String endpoint = this.url + "/api/files/" + fileName;
+        return session.put(endpoint)
+                .field("original_file_name", originalFileName)
+                .field("name", fileName)
+                .field("source_type", "file");
+    }
+
+    private void completePut(String fileName, HttpResponse<String> response) {
+        ResultCache cache = this.resultCache;
+        if (cache != null) {
+            cache.invalidateTable(fileName);
+        }
+        raiseForStatus(response);
+        fileCatalog.recordUpload(fileName);
+    }
+
+    private static String serverFileName(String fileName) {
+        if (fileName.contains(".")) {
+            fileName = fileName.split("\\.")[0];
+        }
+        return fileName;
+    }
+
+    private String manifestKey(String fileName) {
+        return this.url + "/api/files/" + fileName;
+    }
+
+    // The manifest can be stale if the file was deleted on the server, so check that it still exists
+    private boolean isUploaded(UploadManifest manifest, String fileName, String hash) {
+        return manifest.isUnchanged(manifestKey(fileName), hash) && fileCatalog.exists(fileName);
+    }
+
+    /**
+     * Upload a file to the MindsDB server
+     * 
+     * @param name Name of the file
+     * @param data Data of the file
+     */
+    public void uploadFile(String name, String data) {
+        uploadFile(name, Paths.get(data), null);
+    }
+
+    /**
+     * Upload a file to the MindsDB server, streaming it from disk
+     * 
+     * @param name Name of the file
+     * @param path Path of the file to upload
+     */
+    public void uploadFile(String name, Path path) {
+        uploadFile(name, path, null);
+    }
+
+    /**
+     * Upload a file to the MindsDB server, streaming it from disk. The file is
+     * read from a FileChannel through a fixed-size buffer into the multipart body,
+     * so heap usage does not depend on the file size.
+     * 
+     * @param name     Name of the file
+     * @param path     Path of the file to upload
+     * @param listener Listener receiving the upload progress, may be null
+     */
+    public void uploadFile(String name, Path path, UploadProgressListener listener) {
+        String fileName = serverFileName(name);
+        UploadManifest manifest = this.uploadManifest;
+        try {
+            String hash = null;
+            if (manifest != null) {
+                // Hash the file without loading it, so unchanged files are never read into memory
+                try (InputStream in = new FileChannelInputStream(path, fileName, null)) {
+                    hash = UploadManifest.sha256(in);
+                }
+                if (isUploaded(manifest, fileName, hash)) {
+                    manifest.recordSkip(Files.size(path));
+                    return;
+                }
+            }
+            try (InputStream in = new FileChannelInputStream(path, fileName, listener)) {
+                putFile(fileName, in);
+            }
+            if (manifest != null) {
+                manifest.recordUpload(manifestKey(fileName), hash, Files.size(path));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Upload a large CSV file to the MindsDB server in parts that can be resumed.
+     * The file is split at row boundaries into parts of about partSize bytes, which
+     * are uploaded as separate files by up to concurrency threads, each retried on
+     * its own if it fails. The parts are then combined into one file and dropped.
+     * Progress is saved to the journal, so calling this again with the same file
+     * and journal after a failure only runs the remaining steps. Files no larger
+     * than a part are uploaded in one request.
+     * 
+     * @param name        Name of the file
+     * @param path        Path of the CSV file, with a header row
+     * @param partSize    Approximate size of a part in bytes
+     * @param concurrency Maximum number of parts uploaded at the same time
+     * @param journal     File to save the progress to, deleted once the upload is complete
+     * @param listener    Listener receiving the bytes uploaded after each part, may be null
+     */
+    public void uploadFileChunked(String name, Path path, long partSize, int concurrency, Path journal,
+            UploadProgressListener listener) {
+        try {
+            new ChunkedUpload(this, serverFileName(name), path, partSize, concurrency, journal, listener).run();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Upload a large CSV file to the MindsDB server in parts that can be resumed
+     * 
+     * @param name        Name of the file
+     * @param path        Path of the CSV file, with a header row
+     * @param partSize    Approximate size of a part in bytes
+     * @param concurrency Maximum number of parts uploaded at the same time
+     * @param journal     File to save the progress to, deleted once the upload is complete
+     * @see #uploadFileChunked(String, Path, long, int, Path, UploadProgressListener)
+     */
+    public void uploadFileChunked(String name, Path path, long partSize, int concurrency, Path journal) {
+        uploadFileChunked(name, path, partSize, concurrency, journal, null);
+    }
+
+    /**
+     * Skip uploads of content that is already on the server. The SHA-256 hash of
+     * every upload is recorded in a manifest file and an upload is skipped when
+     * the file still exists on the server with the same hash. Calling it again
+     * replaces the manifest.
+     * 
+     * @param manifestFile Properties file holding the hashes, created if missing
+     * @return The manifest, to read the bytes saved
+     */
+    public UploadManifest enableUploadDeduplication(Path manifestFile) {
+        this.uploadManifest = new UploadManifest(manifestFile);
+        return this.uploadManifest;
+    }
+
+    /**
+     * Upload all files in full again
+     */
+    public void disableUploadDeduplication() {
+        this.uploadManifest = null;
+    }
+
+    /**
+     * Get the upload manifest
+     * 
+     * @return The manifest, or null if deduplication is not enabled
+     */
+    public UploadManifest getUploadManifest() {
+        return uploadManifest;
+    }
+
+    /**
+     * Upload a file to the MindsDB server
+     * @param name  Name of the file
+     * @param data  Tablesaw Table containing the data
+     */
+    public void uploadFile(String name, Table data) {
+        uploadFile(name, data, TableEncoder.CSV);
+    }
+
+    /**
+     * Upload a Tablesaw table to the MindsDB server in the given file format
+     * @param name    Name of the file
+     * @param data    Tablesaw Table containing the data
+     * @param encoder File format to encode the table in
+     */
+    public void uploadFile(String name, Table data, TableEncoder encoder) {
+        String fileName = serverFileName(name);
+        UploadManifest manifest = this.uploadManifest;
+        String hash = null;
+        long size = 0;
+        try {
+            if (manifest != null) {
+                // Encoding is repeated for the hash instead of keeping the file in memory
+                try (CountingInputStream encoded = new CountingInputStream(encoder.encode(data))) {
+                    hash = UploadManifest.sha256(encoded);
+                    size = encoded.getCount();
+                }
+                if (isUploaded(manifest, fileName, hash)) {
+                    manifest.recordSkip(size);
+                    return;
+                }
+            }
+            putTable(fileName, data, encoder);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode table: " + e.getMessage(), e);
+        }
+        if (manifest != null) {
+            manifest.recordUpload(manifestKey(fileName), hash, size);
+        }
+    }
+
+    /**
+     * Upload a Tablesaw table that is dropped again after use, such as a staging
+     * file. The table is encoded once and the upload is neither skipped nor
+     * recorded by upload deduplication.
+     * @param name    Name of the file
+     * @param data    Tablesaw Table containing the data
+     * @param encoder File format to encode the table in
+     */
+    public void uploadTemporaryFile(String name, Table data, TableEncoder encoder) {
+        try {
+            putTable(serverFileName(name), data, encoder);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode table: " + e.getMessage(), e);
+        }
+    }
+
+    private void putTable(String fileName, Table data, TableEncoder encoder) throws IOException {
+        // The file is encoded while the request body is sent
+        try (InputStream encoded = encoder.encode(data)) {
+            putFile(fileName, encoded, fileName + "." + encoder.fileExtension());
+        }
+    }
+
+    /**
+     * List the metadata of all files on the MindsDB server
+     * 
+     * @return JsonArray with one object per file
+     * @throws UnirestException when the request fails
+     */
+    public JsonArray listFiles() throws UnirestException {
+        HttpResponse<String> response = session.get(url + "/api/files").asString();
+
+        raiseForStatus(response);
+        return gson.fromJson(response.getBody(), JsonArray.class);
+    }
+
+    /**
+     * Get the index of the files on the MindsDB server
+     * 
+     * @return FileCatalog of this client
+     */
+    public FileCatalog getFileCatalog() {
+        return fileCatalog;
+    }
+
+    /**
+     * Get the metadata of a file on the MindsDB server
+     * @param name  Name of the file
+     * @return  JsonObject with the metadata of the file
+     * @throws UnirestException when the request fails
+     * @throws HttpException with status 404 when the file does not exist
+     */
+    public JsonObject getFileMetadata(String name) throws UnirestException {
+        JsonObject metadata = fileCatalog.get(name);
+        if (metadata == null) {
+            throw new HttpException(404, "File not found");
+        }
+        return metadata;
+    }
+}
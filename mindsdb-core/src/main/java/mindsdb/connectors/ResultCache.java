@@ -0,0 +1,336 @@
+package mindsdb.connectors;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Least recently used cache of SQL query results, used by {@link RestAPI} once
+ * enabled with {@link RestAPI#enableResultCache(long, Duration)}.
+ *
+ * <p>
+ * Entries are keyed by SQL text and database and the cache is bounded by the
+ * estimated heap size of the cached tables rather than by their number. Every
+ * entry expires after the time to live. Only read statements ({@code SELECT},
+ * {@code WITH}, {@code SHOW} and {@code DESCRIBE}) are cached; an
+ * {@code INSERT}, {@code UPDATE}, {@code DELETE}, {@code DROP}, {@code ALTER}
+ * or {@code CREATE [OR REPLACE] TABLE} sent through the same client removes the
+ * entries that reference the affected table. Statements are classified from
+ * their first few hundred characters, so large inserts are not scanned whole.
+ * </p>
+ *
+ * <p>
+ * Cached tables are copied on the way in and out, so callers can modify the
+ * tables they receive.
+ * </p>
+ */
+public final class ResultCache {
+    // Rough heap cost of a String object and its column slot, without the characters
+    private static final long VALUE_OVERHEAD = 56;
+    // Characters of a statement read to classify it, enough for the keywords and target
+    private static final int HEAD_LENGTH = 512;
+    private static final Pattern READ = Pattern.compile("^(SELECT|WITH|SHOW|DESCRIBE|DESC)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern WRITE = Pattern.compile(
+            "^(INSERT|UPDATE|DELETE|DROP|ALTER|CREATE\\s+(OR\\s+REPLACE\\s+)?TABLE)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WRITE_TARGET = Pattern.compile(
+            "^(?:INSERT\\s+INTO|UPDATE|DELETE\\s+FROM|(?:DROP|ALTER)\\s+(?:KNOWLEDGE[_\\s]BASE|\\w+)(?:\\s+IF\\s+EXISTS)?"
+                    + "|CREATE\\s+(?:OR\\s+REPLACE\\s+)?TABLE(?:\\s+IF\\s+NOT\\s+EXISTS)?)\\s+([`\"\\w.]+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern IDENTIFIER = Pattern.compile("\\w+");
+
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    // Bumped by every invalidation so that results read before a write are not cached after it
+    private long generation;
+
+    /**
+     * Create a cache.
+     *
+     * @param maxBytes estimated number of heap bytes the cached tables may use
+     * @param ttl      time after which an entry expires
+     */
+    public ResultCache(long maxBytes, Duration ttl) {
+        this(maxBytes, ttl, System::nanoTime);
+    }
+
+    ResultCache(long maxBytes, Duration ttl, LongSupplier clock) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache time to live must be positive");
+        }
+        this.maxBytes = maxBytes;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Get a cached result.
+     *
+     * @param sql      SQL query
+     * @param database database the query runs on
+     * @param typed    whether the result has typed columns
+     * @return copy of the cached table, or null if there is no live entry
+     */
+    public synchronized Table get(String sql, String database, boolean typed) {
+        Key key = new Key(sql, database, typed);
+        Entry entry = entries.get(key);
+        if (entry != null && clock.getAsLong() - entry.created >= ttlNanos) {
+            remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.table.copy();
+    }
+
+    /**
+     * Cache a result. Results of statements that are not reads and results larger
+     * than the cache are ignored. Least recently used entries are evicted to make
+     * room.
+     *
+     * @param sql      SQL query
+     * @param database database the query runs on
+     * @param typed    whether the result has typed columns
+     * @param table    result of the query
+     * @param since    value of {@link #generation()} taken before the query was sent
+     */
+    public synchronized void put(String sql, String database, boolean typed, Table table, long since) {
+        if (table == null || since != generation || !isCacheable(sql)) {
+            return;
+        }
+        long size = estimateBytes(table);
+        if (size > maxBytes) {
+            return;
+        }
+        Key key = new Key(sql, database, typed);
+        remove(key);
+        while (bytes + size > maxBytes && !entries.isEmpty()) {
+            Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+            bytes -= eldest.next().getValue().bytes;
+            eldest.remove();
+            evictions++;
+        }
+        entries.put(key, new Entry(table.copy(), size, references(sql, database), clock.getAsLong()));
+        bytes += size;
+    }
+
+    /**
+     * Remove the entries affected by a statement if it writes to a table.
+     *
+     * @param sql SQL statement that was executed
+     */
+    public void invalidate(String sql) {
+        String statement = strip(sql, HEAD_LENGTH);
+        if (!WRITE.matcher(statement).find()) {
+            return;
+        }
+        Matcher target = WRITE_TARGET.matcher(statement);
+        if (target.find()) {
+            invalidateTable(target.group(1));
+        } else {
+            clear();
+        }
+    }
+
+    /**
+     * Remove the entries whose query references a table. Qualified names are
+     * matched on their last part.
+     *
+     * @param table name of the table, optionally qualified and quoted
+     */
+    public synchronized void invalidateTable(String table) {
+        generation++;
+        String[] parts = table.replaceAll("[`\"]", "").toLowerCase(Locale.ROOT).split("\\.");
+        String name = parts[parts.length - 1];
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (entry.references.contains(name)) {
+                bytes -= entry.bytes;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Get the invalidation generation of the cache. A result is only cached if no
+     * invalidation happened since the generation was read.
+     *
+     * @return current generation
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Get the number of lookups that returned a cached result
+     *
+     * @return number of hits
+     */
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    /**
+     * Get the number of lookups that found no live entry
+     *
+     * @return number of misses
+     */
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    /**
+     * Get the number of entries evicted to make room for newer ones
+     *
+     * @return number of evictions
+     */
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Get the number of cached results
+     *
+     * @return number of entries, including expired ones not removed yet
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the estimated heap size of the cached results
+     *
+     * @return estimated number of bytes
+     */
+    public synchronized long byteSize() {
+        return bytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%s(entries=%d, bytes=%d, hits=%d, misses=%d, evictions=%d)",
+                getClass().getSimpleName(), entries.size(), bytes, hits, misses, evictions);
+    }
+
+    static boolean isCacheable(String sql) {
+        return READ.matcher(strip(sql, HEAD_LENGTH)).find();
+    }
+
+    static long estimateBytes(Table table) {
+        long size = 0;
+        for (Column<?> column : table.columns()) {
+            if (column instanceof StringColumn strings) {
+                for (String value : strings) {
+                    size += VALUE_OVERHEAD + (value != null ? 2L * value.length() : 0);
+                }
+            } else {
+                size += (long) column.type().byteSize() * column.size();
+            }
+        }
+        return size;
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.bytes;
+        }
+    }
+
+    /**
+     * Replace the comments of a statement with spaces, leaving quoted text as is.
+     *
+     * @param sql   SQL statement
+     * @param limit number of characters of the result after which the rest of
+     *              the statement is ignored
+     * @return statement without comments, stripped of surrounding whitespace
+     */
+    static String strip(String sql, int limit) {
+        StringBuilder out = new StringBuilder(Math.min(sql.length(), limit));
+        char quote = 0;
+        int i = 0;
+        while (i < sql.length() && out.length() < limit) {
+            char c = sql.charAt(i);
+            char next = i + 1 < sql.length() ? sql.charAt(i + 1) : 0;
+            if (quote != 0) {
+                if (c == '\\' && quote == '\'' && next != 0) {
+                    out.append(c);
+                    c = next;
+                    i++;
+                } else if (c == quote) {
+                    // A doubled quote closes and reopens the quoted text
+                    quote = 0;
+                }
+                out.append(c);
+                i++;
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+                out.append(c);
+                i++;
+            } else if (c == '-' && next == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? sql.length() : end;
+                out.append(' ');
+            } else if (c == '/' && next == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? sql.length() : end + 2;
+                out.append(' ');
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString().strip();
+    }
+
+    private static Set<String> references(String sql, String database) {
+        Set<String> names = new HashSet<>();
+        Matcher matcher = IDENTIFIER.matcher(strip(sql, Integer.MAX_VALUE).toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            names.add(matcher.group());
+        }
+        if (database != null) {
+            names.add(database.toLowerCase(Locale.ROOT));
+        }
+        return names;
+    }
+
+    private record Key(String sql, String database, boolean typed) {
+    }
+
+    private record Entry(Table table, long bytes, Set<String> references, long created) {
+    }
+}
@@ -0,0 +1,221 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Streaming decoder for responses of the {@code /api/sql/query} endpoint and
+ * for the row lists returned by the predict and tree endpoints.
+ *
+ * <p>
+ * The response is read token by token and every cell is handed to a
+ * {@link ResultSink} as soon as it is parsed, so the raw body and a parsed JSON
+ * tree are never held in memory next to the final result.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * Table table = ResultDecoder.decode(reader, new TableSink());
+ * }
+ * </pre>
+ */
+public final class ResultDecoder {
+
+    private ResultDecoder() {
+    }
+
+    /**
+     * Decode a SQL query response.
+     *
+     * @param reader reader over the response body
+     * @param sink   sink receiving the decoded rows
+     * @param <T>    type produced by the sink
+     * @return result of the sink for table responses, {@code null} for responses
+     *         without data
+     * @throws IOException if the body can not be read or is not valid JSON
+     * @throws RuntimeException if the server reported an error for the query
+     */
+    public static <T> T decode(Reader reader, ResultSink<T> sink) throws IOException {
+        JsonReader json = new JsonReader(reader);
+        String type = null;
+        String errorMessage = null;
+        List<String> columns = null;
+        JsonArray pendingRows = null;
+
+        json.beginObject();
+        while (json.hasNext()) {
+            String key = json.nextName();
+            if (json.peek() == JsonToken.NULL) {
+                json.nextNull();
+                continue;
+            }
+            switch (key) {
+                case "type" -> type = json.nextString();
+                case "error_message" -> errorMessage = json.nextString();
+                case "column_names" -> {
+                    columns = readColumns(json);
+                    sink.columns(columns);
+                    if (pendingRows != null) {
+                        // Rows arrived before the column names, replay them now
+                        replayRows(pendingRows, columns.size(), sink);
+                        pendingRows = null;
+                    }
+                }
+                case "data" -> {
+                    if (columns != null) {
+                        readRows(json, columns.size(), sink);
+                    } else {
+                        pendingRows = JsonParser.parseReader(json).getAsJsonArray();
+                    }
+                }
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+
+        if ("error".equals(type)) {
+            throw new RuntimeException("SQL Query failed: " + errorMessage);
+        }
+        if (!"table".equals(type)) {
+            return null;
+        }
+        if (columns == null) {
+            columns = List.of();
+            sink.columns(columns);
+        }
+        if (pendingRows != null) {
+            replayRows(pendingRows, columns.size(), sink);
+        }
+        return sink.result();
+    }
+
+    /**
+     * Decode a response made of a JSON array of row objects, as returned by the
+     * predict and tree endpoints. Columns are taken from the keys of the first
+     * row; keys that only appear in later rows are ignored.
+     *
+     * @param reader reader over the response body
+     * @param sink   sink receiving the decoded rows
+     * @param <T>    type produced by the sink
+     * @return result of the sink
+     * @throws IOException if the body can not be read or is not valid JSON
+     */
+    public static <T> T decodeRecords(Reader reader, ResultSink<T> sink) throws IOException {
+        JsonReader json = new JsonReader(reader);
+        Map<String, Integer> columns = null;
+
+        json.beginArray();
+        while (json.hasNext()) {
+            if (columns == null) {
+                // Keys of the first row define the columns
+                JsonObject first = JsonParser.parseReader(json).getAsJsonObject();
+                columns = new LinkedHashMap<>();
+                for (String key : first.keySet()) {
+                    columns.put(key, columns.size());
+                }
+                sink.columns(new ArrayList<>(columns.keySet()));
+                for (Map.Entry<String, JsonElement> entry : first.entrySet()) {
+                    emit(entry.getValue(), columns.get(entry.getKey()), sink);
+                }
+                sink.endRow();
+                continue;
+            }
+
+            json.beginObject();
+            while (json.hasNext()) {
+                Integer column = columns.get(json.nextName());
+                if (column != null) {
+                    readCell(json, column, sink);
+                } else {
+                    json.skipValue();
+                }
+            }
+            json.endObject();
+            sink.endRow();
+        }
+        json.endArray();
+
+        if (columns == null) {
+            sink.columns(List.of());
+        }
+        return sink.result();
+    }
+
+    private static List<String> readColumns(JsonReader json) throws IOException {
+        List<String> columns = new ArrayList<>();
+        json.beginArray();
+        while (json.hasNext()) {
+            columns.add(json.nextString().toLowerCase());
+        }
+        json.endArray();
+        return columns;
+    }
+
+    private static void readRows(JsonReader json, int columnCount, ResultSink<?> sink) throws IOException {
+        json.beginArray();
+        while (json.hasNext()) {
+            json.beginArray();
+            int column = 0;
+            while (json.hasNext()) {
+                if (column < columnCount) {
+                    readCell(json, column, sink);
+                } else {
+                    json.skipValue();
+                }
+                column++;
+            }
+            json.endArray();
+            sink.endRow();
+        }
+        json.endArray();
+    }
+
+    private static void readCell(JsonReader json, int column, ResultSink<?> sink) throws IOException {
+        JsonToken token = json.peek();
+        switch (token) {
+            case NULL -> {
+                json.nextNull();
+                sink.cell(column, JsonToken.NULL, null);
+            }
+            case BOOLEAN -> sink.cell(column, JsonToken.BOOLEAN, String.valueOf(json.nextBoolean()));
+            case NUMBER -> sink.cell(column, JsonToken.NUMBER, json.nextString());
+            case STRING -> sink.cell(column, JsonToken.STRING, json.nextString());
+            default -> sink.cell(column, JsonToken.STRING, JsonParser.parseReader(json).toString());
+        }
+    }
+
+    private static void replayRows(JsonArray rows, int columnCount, ResultSink<?> sink) {
+        for (JsonElement row : rows) {
+            JsonArray values = row.getAsJsonArray();
+            for (int column = 0; column < Math.min(columnCount, values.size()); column++) {
+                emit(values.get(column), column, sink);
+            }
+            sink.endRow();
+        }
+    }
+
+    private static void emit(JsonElement value, int column, ResultSink<?> sink) {
+        if (value.isJsonNull()) {
+            sink.cell(column, JsonToken.NULL, null);
+        } else if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isBoolean()) {
+            sink.cell(column, JsonToken.BOOLEAN, value.getAsString());
+        } else if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber()) {
+            sink.cell(column, JsonToken.NUMBER, value.getAsString());
+        } else if (value.isJsonPrimitive()) {
+            sink.cell(column, JsonToken.STRING, value.getAsString());
+        } else {
+            sink.cell(column, JsonToken.STRING, value.toString());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package mindsdb.connectors;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A single row of a SQL query result, handed out by {@link RowCursor} before
+ * the rest of the result has been read.
+ */
+public final class ResultRow {
+    private final List<String> columnNames;
+    private final String[] values;
+
+    /**
+     * Create a new row
+     *
+     * @param columnNames names of the columns, shared by all rows of a result
+     * @param values      values of the row, in column order
+     */
+    public ResultRow(List<String> columnNames, String[] values) {
+        this.columnNames = columnNames;
+        this.values = values;
+    }
+
+    /**
+     * Get the column names of the row
+     *
+     * @return column names in result order
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Get the number of values in the row
+     *
+     * @return number of values
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Get a value by column index
+     *
+     * @param index index of the column
+     * @return value of the column, null for missing values
+     */
+    public String get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Get a value by column name
+     *
+     * @param column name of the column
+     * @return value of the column, null for missing values
+     * @throws IllegalArgumentException if the column does not exist
+     */
+    public String get(String column) {
+        int index = columnNames.indexOf(column);
+        if (index < 0) {
+            throw new IllegalArgumentException("Column doesn't exist: " + column);
+        }
+        return values[index];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%s", this.getClass().getSimpleName(), Arrays.toString(values));
+    }
+}
@@ -0,0 +1,51 @@
+package mindsdb.connectors;
+
+import java.util.List;
+
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Receiver for the rows of a SQL query response as they are decoded by
+ * {@link ResultDecoder}.
+ *
+ * <p>
+ * The decoder calls {@link #columns(List)} once, then {@link #cell(int, JsonToken, String)}
+ * for every value of a row followed by {@link #endRow()}, and finally {@link #result()}.
+ * No intermediate copy of the response is kept, so a sink decides how much of the
+ * result is held in memory.
+ * </p>
+ *
+ * @param <T> type of the value produced once the response has been consumed
+ */
+public interface ResultSink<T> {
+
+    /**
+     * Called once with the column names of the result, before any cell.
+     *
+     * @param names column names in response order
+     */
+    void columns(List<String> names);
+
+    /**
+     * Called for every value of the current row.
+     *
+     * @param column index of the column
+     * @param type   JSON token type of the value ({@code NULL}, {@code STRING},
+     *               {@code NUMBER} or {@code BOOLEAN}; nested arrays and objects
+     *               are reported as {@code STRING} holding their JSON text)
+     * @param value  textual value, {@code null} for JSON null
+     */
+    void cell(int column, JsonToken type, String value);
+
+    /**
+     * Called after the last value of a row.
+     */
+    void endRow();
+
+    /**
+     * Called once the whole response has been decoded.
+     *
+     * @return value built from the decoded rows
+     */
+    T result();
+}
@@ -0,0 +1,166 @@
+package mindsdb.connectors;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Iterator over the rows of a SQL query that hands out every row as soon as it
+ * has been decoded from the HTTP response.
+ *
+ * <p>
+ * The request runs on a background thread which decodes the body into a small
+ * bounded queue, so memory use does not depend on the size of the result.
+ * Closing the cursor stops decoding and releases the connection; a cursor that
+ * has been read to the end is closed automatically.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * try (RowCursor cursor = query.iterator()) {
+ *     while (cursor.hasNext()) {
+ *         ResultRow row = cursor.next();
+ *     }
+ * }
+ * }
+ * </pre>
+ */
+public class RowCursor implements Iterator<ResultRow>, AutoCloseable {
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread producer;
+    private volatile boolean closed;
+    private Object next;
+
+    /**
+     * Start executing a query and stream its rows
+     *
+     * @param api      RestAPI object
+     * @param sql      SQL query to execute
+     * @param database Database to execute the query on
+     */
+    public RowCursor(RestAPI api, String sql, String database) {
+        this.producer = new Thread(() -> run(api, sql, database), "mindsdb-row-cursor");
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    private void run(RestAPI api, String sql, String database) {
+        try {
+            api.sqlQuery(sql, database, new QueueSink());
+            put(END);
+        } catch (CancellationException e) {
+            // Cursor was closed by the consumer
+        } catch (Throwable e) {
+            // Errors too, so that the consumer does not wait for rows forever
+            if (!closed) {
+                try {
+                    put(e);
+                } catch (CancellationException cancelled) {
+                    // Cursor was closed while the error was reported
+                }
+            }
+        }
+    }
+
+    private void put(Object item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Cursor closed");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            if (closed) {
+                return false;
+            }
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new RuntimeException("Interrupted while waiting for query rows", e);
+            }
+        }
+        if (next == END) {
+            close();
+            return false;
+        }
+        if (next instanceof Throwable e) {
+            next = END;
+            close();
+            if (e instanceof Error error) {
+                throw error;
+            }
+            throw e instanceof RuntimeException runtime ? runtime : new RuntimeException(e);
+        }
+        return true;
+    }
+
+    @Override
+    public ResultRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ResultRow row = (ResultRow) next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Stop reading the response and release the connection.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (producer.isAlive()) {
+            producer.interrupt();
+        }
+        queue.clear();
+    }
+
+    private class QueueSink implements ResultSink<Void> {
+        private List<String> columnNames = List.of();
+        private String[] values = new String[0];
+
+        @Override
+        public void columns(List<String> names) {
+            this.columnNames = Collections.unmodifiableList(names);
+            this.values = new String[names.size()];
+        }
+
+        @Override
+        public void cell(int column, JsonToken type, String value) {
+            values[column] = value;
+        }
+
+        @Override
+        public void endRow() {
+            if (closed) {
+                throw new CancellationException("Cursor closed");
+            }
+            put(new ResultRow(columnNames, values));
+            values = new String[columnNames.size()];
+        }
+
+        @Override
+        public Void result() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.gson.stream.JsonToken;
+
+/**
+ * {@link ResultSink} that keeps a result in memory up to a byte budget and spills
+ * it to disk beyond that.
+ *
+ * <p>
+ * Once the estimated size of the decoded values exceeds the budget, every column
+ * is written to its own pair of files in a temporary directory: a data file with
+ * the UTF-8 bytes of the values and an index file with one {@code long} end
+ * offset per row (negative for missing values). Later rows are appended to the
+ * files directly. The finished {@link QueryResult} reads the files through
+ * read-only memory-mapped buffers.
+ * </p>
+ */
+public class SpillingSink implements ResultSink<QueryResult> {
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+    private static final long SEGMENT_SIZE = 1L << 30;
+    // Rough heap cost of a String object and its list slot, without the characters
+    private static final long VALUE_OVERHEAD = 56;
+
+    private final long memoryBudget;
+    private final Path parentDirectory;
+    private List<String> names = List.of();
+    private String[] row = new String[0];
+    private List<List<String>> memoryColumns = new ArrayList<>();
+    private long memoryUsed;
+    private int rowCount;
+    private Path spillDirectory;
+    private ColumnWriter[] writers;
+
+    /**
+     * Create a sink that spills to the default temporary directory.
+     *
+     * @param memoryBudget estimated number of heap bytes the result may use before it is spilled
+     */
+    public SpillingSink(long memoryBudget) {
+        this(memoryBudget, null);
+    }
+
+    /**
+     * Create a sink that spills to the given directory.
+     *
+     * @param memoryBudget    estimated number of heap bytes the result may use before it is spilled
+     * @param parentDirectory directory to create the spill files in, null for the default temporary directory
+     */
+    public SpillingSink(long memoryBudget, Path parentDirectory) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("Memory budget must not be negative");
+        }
+        this.memoryBudget = memoryBudget;
+        this.parentDirectory = parentDirectory;
+    }
+
+    @Override
+    public void columns(List<String> names) {
+        this.names = Collections.unmodifiableList(new ArrayList<>(names));
+        this.row = new String[names.size()];
+        this.memoryColumns = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            memoryColumns.add(new ArrayList<>());
+        }
+    }
+
+    @Override
+    public void cell(int column, JsonToken type, String value) {
+        row[column] = value;
+    }
+
+    @Override
+    public void endRow() {
+        try {
+            if (writers != null) {
+                for (int i = 0; i < row.length; i++) {
+                    writers[i].write(row[i]);
+                }
+            } else {
+                for (int i = 0; i < row.length; i++) {
+                    memoryColumns.get(i).add(row[i]);
+                    memoryUsed += VALUE_OVERHEAD + (row[i] != null ? 2L * row[i].length() : 0);
+                }
+                if (memoryUsed > memoryBudget) {
+                    spill();
+                }
+            }
+        } catch (IOException e) {
+            discard();
+            throw new UncheckedIOException("Failed to spill query result: " + e.getMessage(), e);
+        }
+        rowCount++;
+        row = new String[row.length];
+    }
+
+    private void spill() throws IOException {
+        spillDirectory = parentDirectory != null ? Files.createTempDirectory(parentDirectory, "mindsdb-result")
+                : Files.createTempDirectory("mindsdb-result");
+        writers = new ColumnWriter[names.size()];
+        for (int i = 0; i < writers.length; i++) {
+            writers[i] = new ColumnWriter(spillDirectory, i);
+            for (String value : memoryColumns.get(i)) {
+                writers[i].write(value);
+            }
+        }
+        memoryColumns = null;
+        memoryUsed = 0;
+    }
+
+    @Override
+    public QueryResult result() {
+        QueryResult.ColumnData[] columns = new QueryResult.ColumnData[names.size()];
+        if (writers == null) {
+            for (int i = 0; i < columns.length; i++) {
+                List<String> values = memoryColumns.get(i);
+                columns[i] = values::get;
+            }
+            return new QueryResult(names, columns, rowCount, null);
+        }
+
+        try {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = writers[i].finish();
+            }
+        } catch (IOException e) {
+            discard();
+            throw new UncheckedIOException("Failed to map spilled query result: " + e.getMessage(), e);
+        }
+        return new QueryResult(names, columns, rowCount, spillDirectory);
+    }
+
+    /**
+     * Drop the decoded rows and delete the spill files, used when decoding fails.
+     */
+    public void discard() {
+        if (writers != null) {
+            for (ColumnWriter writer : writers) {
+                writer.closeQuietly();
+            }
+            writers = null;
+        }
+        if (spillDirectory != null) {
+            QueryResult.deleteDirectory(spillDirectory);
+            spillDirectory = null;
+        }
+        memoryColumns = new ArrayList<>();
+    }
+
+    private static final class ColumnWriter {
+        private final Path dataPath;
+        private final Path indexPath;
+        private final FileChannel data;
+        private final FileChannel index;
+        private final ByteBuffer dataBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        private final ByteBuffer indexBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        private long dataSize;
+
+        ColumnWriter(Path directory, int column) throws IOException {
+            this.dataPath = directory.resolve(column + ".data");
+            this.indexPath = directory.resolve(column + ".index");
+            this.data = FileChannel.open(dataPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            this.index = FileChannel.open(indexPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        }
+
+        void write(String value) throws IOException {
+            if (value == null) {
+                putIndex(-dataSize - 1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!dataBuffer.hasRemaining()) {
+                    flush(dataBuffer, data);
+                }
+                int length = Math.min(dataBuffer.remaining(), bytes.length - offset);
+                dataBuffer.put(bytes, offset, length);
+                offset += length;
+            }
+            dataSize += bytes.length;
+            putIndex(dataSize);
+        }
+
+        private void putIndex(long end) throws IOException {
+            if (indexBuffer.remaining() < Long.BYTES) {
+                flush(indexBuffer, index);
+            }
+            indexBuffer.putLong(end);
+        }
+
+        private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        MappedColumn finish() throws IOException {
+            flush(dataBuffer, data);
+            flush(indexBuffer, index);
+            data.close();
+            index.close();
+            return new MappedColumn(map(dataPath), map(indexPath));
+        }
+
+        void closeQuietly() {
+            try {
+                data.close();
+                index.close();
+            } catch (IOException e) {
+                // Files are deleted next
+            }
+        }
+
+        private static MappedByteBuffer[] map(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                int count = (int) Math.max(1, (size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+                MappedByteBuffer[] segments = new MappedByteBuffer[count];
+                for (int i = 0; i < count; i++) {
+                    long position = i * SEGMENT_SIZE;
+                    segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                            Math.min(SEGMENT_SIZE, size - position));
+                }
+                return segments;
+            }
+        }
+    }
+
+    private static final class MappedColumn implements QueryResult.ColumnData {
+        private final MappedByteBuffer[] data;
+        private final MappedByteBuffer[] index;
+
+        MappedColumn(MappedByteBuffer[] data, MappedByteBuffer[] index) {
+            this.data = data;
+            this.index = index;
+        }
+
+        @Override
+        public String get(int row) {
+            long end = readIndex(row);
+            if (end < 0) {
+                return null;
+            }
+            long start = row == 0 ? 0 : endPosition(readIndex(row - 1));
+            byte[] bytes = new byte[(int) (end - start)];
+            int copied = 0;
+            while (copied < bytes.length) {
+                long position = start + copied;
+                // Duplicate so concurrent readers do not share buffer positions
+                ByteBuffer segment = data[(int) (position / SEGMENT_SIZE)].duplicate();
+                segment.position((int) (position % SEGMENT_SIZE));
+                int length = Math.min(segment.remaining(), bytes.length - copied);
+                segment.get(bytes, copied, length);
+                copied += length;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        // Missing values store their position as -position - 1
+        private static long endPosition(long entry) {
+            return entry >= 0 ? entry : -entry - 1;
+        }
+
+        private long readIndex(int row) {
+            long position = (long) row * Long.BYTES;
+            // Segments are a multiple of 8 bytes, so an entry never spans two of them
+            return index[(int) (position / SEGMENT_SIZE)].getLong((int) (position % SEGMENT_SIZE));
+        }
+    }
+}
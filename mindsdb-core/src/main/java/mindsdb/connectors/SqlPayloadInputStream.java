@@ -0,0 +1,235 @@
+package mindsdb.connectors;
+
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Stream of the JSON body of a SQL query request, produced on demand.
+ *
+ * <p>
+ * The body is {@code {"query": "<sql>", "context": {"db": "<database>"}}}. The
+ * SQL is JSON-escaped and encoded to UTF-8 one chunk at a time as the stream is
+ * read, straight from the query string, so a large statement is never copied
+ * into a second string or a byte array of its full size. Chunk buffers are taken
+ * from a small shared pool and returned when the stream is closed, which the
+ * HTTP client does once the body is sent.
+ * </p>
+ *
+ * <p>
+ * A stream body is sent with chunked transfer encoding. Statements below
+ * {@link #STREAM_THRESHOLD} bytes are encoded into an array of their exact
+ * length with {@link #toBytes(String, String)} instead, so the request carries
+ * a {@code Content-Length}.
+ * </p>
+ */
+final class SqlPayloadInputStream extends InputStream {
+    static final int CHUNK_SIZE = 32 * 1024;
+    /** Payload size from which the body is streamed instead of sent as an array */
+    static final int STREAM_THRESHOLD = 1024 * 1024;
+    private static final int POOL_SIZE = 16;
+    private static final ArrayBlockingQueue<byte[]> POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    // Longest encoding of one char: a surrogate pair (4 bytes) or an escape (6 bytes)
+    private static final int MAX_CHAR_BYTES = 6;
+
+    private final String[] parts;
+    private byte[] chunk;
+    private int limit;
+    private int position;
+    // Index into parts, odd parts are JSON-escaped
+    private int part;
+    private int index;
+
+    SqlPayloadInputStream(String sql, String database) {
+        this(sql, database, CHUNK_SIZE);
+    }
+
+    SqlPayloadInputStream(String sql, String database, int chunkSize) {
+        if (chunkSize < MAX_CHAR_BYTES) {
+            throw new IllegalArgumentException("Chunk size must be at least " + MAX_CHAR_BYTES);
+        }
+        this.parts = new String[] { "{\"query\": \"", sql, "\", \"context\": {\"db\": \"", database, "\"}}" };
+        this.chunk = chunkSize == CHUNK_SIZE ? acquire() : new byte[chunkSize];
+    }
+
+    /**
+     * Encode the body of a statement into an array of its exact length.
+     *
+     * @param sql      SQL statement
+     * @param database database the statement runs on
+     * @return the body, or null if it is larger than {@link #STREAM_THRESHOLD}
+     *         and should be streamed
+     */
+    static byte[] toBytes(String sql, String database) {
+        // Every char takes at least one byte, no need to measure statements that are too long anyway
+        if (sql.length() >= STREAM_THRESHOLD) {
+            return null;
+        }
+        long length = length(sql, database);
+        if (length >= STREAM_THRESHOLD) {
+            return null;
+        }
+        byte[] bytes = new byte[(int) length];
+        try (SqlPayloadInputStream in = new SqlPayloadInputStream(sql, database)) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                offset += in.read(bytes, offset, bytes.length - offset);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Get the length of the body of a statement in bytes, without encoding it.
+     *
+     * @param sql      SQL statement
+     * @param database database the statement runs on
+     * @return number of bytes of the body
+     */
+    static long length(String sql, String database) {
+        // Unescaped parts are ASCII
+        long length = "{\"query\": \"".length() + "\", \"context\": {\"db\": \"".length() + "\"}}".length();
+        return length + escapedLength(sql) + escapedLength(database);
+    }
+
+    private static long escapedLength(String text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\' || c == '\n' || c == '\r' || c == '\t' || c == '\b' || c == '\f') {
+                length += 2;
+            } else if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                length += 6;
+            } else if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return chunk[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(length, limit - position);
+        System.arraycopy(chunk, position, bytes, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return chunk == null ? 0 : limit - position;
+    }
+
+    @Override
+    public void close() {
+        byte[] buffer = chunk;
+        chunk = null;
+        part = parts.length;
+        if (buffer != null && buffer.length == CHUNK_SIZE) {
+            POOL.offer(buffer);
+        }
+    }
+
+    private static byte[] acquire() {
+        byte[] buffer = POOL.poll();
+        return buffer != null ? buffer : new byte[CHUNK_SIZE];
+    }
+
+    private boolean fill() {
+        if (chunk == null) {
+            return false;
+        }
+        if (position < limit) {
+            return true;
+        }
+        position = 0;
+        limit = 0;
+        while (part < parts.length && limit <= chunk.length - MAX_CHAR_BYTES) {
+            String text = parts[part];
+            boolean escaped = (part & 1) == 1;
+            while (index < text.length() && limit <= chunk.length - MAX_CHAR_BYTES) {
+                char c = text.charAt(index++);
+                if (escaped) {
+                    escape(c, text);
+                } else {
+                    chunk[limit++] = (byte) c;
+                }
+            }
+            if (index == text.length()) {
+                part++;
+                index = 0;
+            }
+        }
+        return limit > 0;
+    }
+
+    private void escape(char c, String text) {
+        switch (c) {
+            case '"' -> putEscape('"');
+            case '\\' -> putEscape('\\');
+            case '\n' -> putEscape('n');
+            case '\r' -> putEscape('r');
+            case '\t' -> putEscape('t');
+            case '\b' -> putEscape('b');
+            case '\f' -> putEscape('f');
+            default -> {
+                if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                    chunk[limit++] = '\\';
+                    chunk[limit++] = 'u';
+                    chunk[limit++] = HEX[c >> 12];
+                    chunk[limit++] = HEX[(c >> 8) & 0xf];
+                    chunk[limit++] = HEX[(c >> 4) & 0xf];
+                    chunk[limit++] = HEX[c & 0xf];
+                } else if (c < 0x80) {
+                    chunk[limit++] = (byte) c;
+                } else if (c < 0x800) {
+                    chunk[limit++] = (byte) (0xc0 | (c >> 6));
+                    chunk[limit++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isHighSurrogate(c) && index < text.length()
+                        && Character.isLowSurrogate(text.charAt(index))) {
+                    int codePoint = Character.toCodePoint(c, text.charAt(index++));
+                    chunk[limit++] = (byte) (0xf0 | (codePoint >> 18));
+                    chunk[limit++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                    chunk[limit++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                    chunk[limit++] = (byte) (0x80 | (codePoint & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    // Unpaired surrogate, encoded as '?' like String.getBytes
+                    chunk[limit++] = '?';
+                } else {
+                    chunk[limit++] = (byte) (0xe0 | (c >> 12));
+                    chunk[limit++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    chunk[limit++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+        }
+    }
+
+    private void putEscape(char c) {
+        chunk[limit++] = '\\';
+        chunk[limit++] = (byte) c;
+    }
+}
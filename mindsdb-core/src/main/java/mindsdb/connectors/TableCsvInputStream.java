@@ -0,0 +1,85 @@
+package mindsdb.connectors;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import tech.tablesaw.api.Table;
+
+/**
+ * Stream of the CSV encoding of a Tablesaw {@link Table}, produced on demand.
+ *
+ * <p>
+ * Rows are encoded a few kilobytes at a time as the stream is read, so a table
+ * can be sent as a request body without a temporary file or a buffer holding
+ * the whole CSV. Each stream keeps its own state, so tables can be encoded
+ * concurrently. The output has a header row, RFC 4180 quoting and empty fields
+ * for missing values.
+ * </p>
+ */
+final class TableCsvInputStream extends InputStream {
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final Table table;
+    private final int columnCount;
+    private final StringBuilder text = new StringBuilder(CHUNK_SIZE * 2);
+    private byte[] chunk = new byte[0];
+    private int position;
+    // -1 while the header has not been encoded
+    private int row = -1;
+
+    TableCsvInputStream(Table table) {
+        this.table = table;
+        this.columnCount = table.columnCount();
+    }
+
+    @Override
+    public int read() {
+        if (!fill()) {
+            return -1;
+        }
+        return chunk[position++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int count = Math.min(length, chunk.length - position);
+        System.arraycopy(chunk, position, bytes, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return chunk.length - position;
+    }
+
+    private boolean fill() {
+        if (position < chunk.length) {
+            return true;
+        }
+        text.setLength(0);
+        while (text.length() < CHUNK_SIZE && row < table.rowCount()) {
+            for (int column = 0; column < columnCount; column++) {
+                if (column > 0) {
+                    text.append(',');
+                }
+                CsvFormat.appendField(text,
+                        row < 0 ? table.column(column).name() : table.getString(row, column));
+            }
+            text.append('\n');
+            row++;
+        }
+        if (text.length() == 0) {
+            return false;
+        }
+        chunk = text.toString().getBytes(StandardCharsets.UTF_8);
+        position = 0;
+        return true;
+    }
+}
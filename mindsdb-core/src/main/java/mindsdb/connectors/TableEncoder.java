@@ -0,0 +1,61 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import tech.tablesaw.api.Table;
+
+/**
+ * File format used to upload a Tablesaw {@link Table} to the MindsDB files
+ * database.
+ *
+ * <p>
+ * {@link #CSV} is built in. Other formats the server can read are added by
+ * implementing this interface in a separate library, so the SDK itself does not
+ * depend on their encoders; the optional {@code mindsdb-java-sdk-parquet} module
+ * provides Parquet. The server picks the reader from the file extension.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * TableEncoder json = new TableEncoder() {
+ *     public String fileExtension() { return "json"; }
+ *     public InputStream encode(Table table) throws IOException { ... }
+ * };
+ * database.getTables().create("sales", salesFrame, true, json);
+ * }
+ * </pre>
+ */
+public interface TableEncoder {
+
+    /**
+     * CSV with a header row, encoded while the upload is sent.
+     */
+    TableEncoder CSV = new TableEncoder() {
+        @Override
+        public String fileExtension() {
+            return "csv";
+        }
+
+        @Override
+        public InputStream encode(Table table) {
+            return new TableCsvInputStream(table);
+        }
+    };
+
+    /**
+     * Get the extension of the encoded file
+     *
+     * @return file extension without the dot, for example {@code "parquet"}
+     */
+    String fileExtension();
+
+    /**
+     * Encode a table. The stream is read once and closed by the caller.
+     *
+     * @param table table to encode
+     * @return stream of the encoded file
+     * @throws IOException if the table can not be encoded
+     */
+    InputStream encode(Table table) throws IOException;
+}
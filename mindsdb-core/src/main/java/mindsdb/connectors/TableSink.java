@@ -0,0 +1,52 @@
+package mindsdb.connectors;
+
+import java.util.List;
+
+import com.google.gson.stream.JsonToken;
+
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+/**
+ * {@link ResultSink} that appends decoded values straight into the
+ * {@link StringColumn}s of a Tablesaw {@link Table}.
+ */
+public class TableSink implements ResultSink<Table> {
+    private final Table table = Table.create();
+    private StringColumn[] columns = new StringColumn[0];
+    private int rowCount;
+
+    @Override
+    public void columns(List<String> names) {
+        columns = new StringColumn[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            columns[i] = StringColumn.create(names.get(i));
+        }
+        table.addColumns(columns);
+    }
+
+    @Override
+    public void cell(int column, JsonToken type, String value) {
+        if (value == null) {
+            columns[column].appendMissing();
+        } else {
+            columns[column].append(value);
+        }
+    }
+
+    @Override
+    public void endRow() {
+        rowCount++;
+        // Pad columns missing from short rows so that all columns stay aligned
+        for (StringColumn column : columns) {
+            while (column.size() < rowCount) {
+                column.appendMissing();
+            }
+        }
+    }
+
+    @Override
+    public Table result() {
+        return table;
+    }
+}
@@ -0,0 +1,226 @@
+package mindsdb.connectors;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.google.gson.stream.JsonToken;
+
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * {@link ResultSink} that builds a Tablesaw {@link Table} with typed columns.
+ *
+ * <p>
+ * Column types are inferred from the JSON values: integral numbers become
+ * {@link IntColumn} or {@link LongColumn}, other numbers {@link DoubleColumn},
+ * booleans {@link BooleanColumn} and valid ISO-8601 local timestamps
+ * {@link DateTimeColumn}. A column is widened when a later value does not fit
+ * (int to long to double) and falls back to {@link StringColumn} when values
+ * of different kinds are mixed. Columns listed in the schema hint are created
+ * with the given type and their values are parsed by Tablesaw.
+ * </p>
+ */
+public class TypedTableSink implements ResultSink<Table> {
+    private static final Pattern DATE_TIME = Pattern
+            .compile("\\d{4}-\\d{2}-\\d{2}[T ]\\d{2}:\\d{2}(:\\d{2}(\\.\\d{1,9})?)?");
+
+    private enum Kind {
+        INTEGER, LONG, DOUBLE, BOOLEAN, DATE_TIME, STRING
+    }
+
+    private final Map<String, ColumnType> columnTypes;
+    private String[] names = new String[0];
+    private Column<?>[] columns = new Column<?>[0];
+    private Kind[] kinds = new Kind[0];
+    private int rowCount;
+    // Timestamp parsed while inferring the kind of the current value
+    private LocalDateTime dateTime;
+
+    /**
+     * Create a sink that infers the type of every column.
+     */
+    public TypedTableSink() {
+        this(null);
+    }
+
+    /**
+     * Create a sink with a schema hint.
+     *
+     * @param columnTypes column types by column name, columns not listed are inferred
+     */
+    public TypedTableSink(Map<String, ColumnType> columnTypes) {
+        this.columnTypes = columnTypes != null ? columnTypes : Map.of();
+    }
+
+    @Override
+    public void columns(List<String> names) {
+        this.names = names.toArray(new String[0]);
+        this.columns = new Column<?>[names.size()];
+        this.kinds = new Kind[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            ColumnType hint = columnTypes.get(names.get(i));
+            if (hint != null) {
+                columns[i] = hint.create(names.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void cell(int column, JsonToken type, String value) {
+        Column<?> target = columns[column];
+        if (value == null) {
+            if (target != null) {
+                target.appendMissing();
+            }
+            // Otherwise the column is padded once its type is known
+            return;
+        }
+
+        if (target != null && kinds[column] == null) {
+            // Column type given by the schema hint
+            target.appendCell(value);
+            return;
+        }
+
+        Kind kind = infer(type, value);
+        if (target == null) {
+            kinds[column] = kind;
+            target = create(kind, names[column]);
+            pad(target, rowCount);
+            columns[column] = target;
+        } else if (kinds[column] != kind) {
+            Kind widened = widen(kinds[column], kind);
+            if (widened != kinds[column]) {
+                target = convert(target, widened);
+                kinds[column] = widened;
+                columns[column] = target;
+            }
+        }
+        append(target, kinds[column], value);
+    }
+
+    @Override
+    public void endRow() {
+        rowCount++;
+        for (Column<?> column : columns) {
+            if (column != null) {
+                pad(column, rowCount);
+            }
+        }
+    }
+
+    @Override
+    public Table result() {
+        Table table = Table.create();
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] == null) {
+                // Only nulls were seen for this column
+                columns[i] = StringColumn.create(names[i]);
+                pad(columns[i], rowCount);
+            }
+            table.addColumns(columns[i]);
+        }
+        return table;
+    }
+
+    private Kind infer(JsonToken type, String value) {
+        switch (type) {
+            case NUMBER:
+                if (value.indexOf('.') >= 0 || value.indexOf('e') >= 0 || value.indexOf('E') >= 0) {
+                    return Kind.DOUBLE;
+                }
+                try {
+                    long number = Long.parseLong(value);
+                    return number == (int) number ? Kind.INTEGER : Kind.LONG;
+                } catch (NumberFormatException e) {
+                    return Kind.DOUBLE;
+                }
+            case BOOLEAN:
+                return Kind.BOOLEAN;
+            default:
+                if (!DATE_TIME.matcher(value).matches()) {
+                    return Kind.STRING;
+                }
+                try {
+                    // The pattern also matches values such as 2024-02-30 or 25:61
+                    dateTime = LocalDateTime.parse(value.replace(' ', 'T'));
+                    return Kind.DATE_TIME;
+                } catch (DateTimeParseException e) {
+                    return Kind.STRING;
+                }
+        }
+    }
+
+    private static Kind widen(Kind current, Kind incoming) {
+        if (current == Kind.STRING) {
+            return Kind.STRING;
+        }
+        if (current == Kind.INTEGER && incoming == Kind.LONG) {
+            return Kind.LONG;
+        }
+        if (current == Kind.LONG && incoming == Kind.INTEGER) {
+            return Kind.LONG;
+        }
+        if (isNumeric(current) && isNumeric(incoming)) {
+            return Kind.DOUBLE;
+        }
+        return Kind.STRING;
+    }
+
+    private static boolean isNumeric(Kind kind) {
+        return kind == Kind.INTEGER || kind == Kind.LONG || kind == Kind.DOUBLE;
+    }
+
+    private static Column<?> create(Kind kind, String name) {
+        return switch (kind) {
+            case INTEGER -> IntColumn.create(name);
+            case LONG -> LongColumn.create(name);
+            case DOUBLE -> DoubleColumn.create(name);
+            case BOOLEAN -> BooleanColumn.create(name);
+            case DATE_TIME -> DateTimeColumn.create(name);
+            case STRING -> StringColumn.create(name);
+        };
+    }
+
+    private static Column<?> convert(Column<?> column, Kind kind) {
+        Column<?> converted;
+        if (kind == Kind.LONG) {
+            converted = ((IntColumn) column).asLongColumn();
+        } else if (kind == Kind.DOUBLE && column instanceof IntColumn intColumn) {
+            converted = intColumn.asDoubleColumn();
+        } else if (kind == Kind.DOUBLE) {
+            converted = ((LongColumn) column).asDoubleColumn();
+        } else {
+            converted = column.asStringColumn();
+        }
+        return converted.setName(column.name());
+    }
+
+    private void append(Column<?> column, Kind kind, String value) {
+        switch (kind) {
+            case INTEGER -> ((IntColumn) column).append(Integer.parseInt(value));
+            case LONG -> ((LongColumn) column).append(Long.parseLong(value));
+            case DOUBLE -> ((DoubleColumn) column).append(Double.parseDouble(value));
+            case BOOLEAN -> ((BooleanColumn) column).append(Boolean.parseBoolean(value));
+            case DATE_TIME -> ((DateTimeColumn) column).append(dateTime);
+            case STRING -> ((StringColumn) column).append(value);
+        }
+    }
+
+    private static void pad(Column<?> column, int size) {
+        while (column.size() < size) {
+            column.appendMissing();
+        }
+    }
+}
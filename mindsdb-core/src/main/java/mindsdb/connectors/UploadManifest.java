@@ -0,0 +1,168 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local record of the SHA-256 hashes of the files uploaded to MindsDB servers,
+ * used by {@link RestAPI} to skip uploads of unchanged content once enabled with
+ * {@link RestAPI#enableUploadDeduplication(Path)}.
+ *
+ * <p>
+ * The manifest maps the server URL and file name to the hash of the content last
+ * uploaded under that name and is saved to a properties file after every upload,
+ * so it survives between runs. An upload is skipped when the hash matches and
+ * the file still exists on the server. The counters report the uploads and bytes
+ * skipped since the manifest was opened.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * UploadManifest manifest = api.enableUploadDeduplication(Path.of(".mindsdb-uploads"));
+ * api.uploadFile("sales", "/data/sales.csv");
+ * System.out.println(manifest.getBytesSaved());
+ * }
+ * </pre>
+ */
+public final class UploadManifest {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final Properties hashes;
+    private final AtomicLong skippedUploads = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+    private final AtomicLong bytesUploaded = new AtomicLong();
+
+    /**
+     * Open a manifest, loading it if the file exists.
+     *
+     * @param file properties file holding the manifest
+     * @throws UncheckedIOException if the file exists but can not be read
+     */
+    public UploadManifest(Path file) {
+        this.file = file;
+        try {
+            this.hashes = PropertiesFiles.load(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read upload manifest: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Check whether content was already uploaded under a key.
+     *
+     * @param key    key of the upload, server URL and file name
+     * @param sha256 hex encoded hash of the content
+     * @return true if the last upload under the key had the same hash
+     */
+    public boolean isUnchanged(String key, String sha256) {
+        return sha256.equals(hashes.getProperty(key));
+    }
+
+    /**
+     * Record a completed upload and save the manifest.
+     *
+     * @param key    key of the upload, server URL and file name
+     * @param sha256 hex encoded hash of the content
+     * @param size   number of bytes uploaded
+     * @throws UncheckedIOException if the manifest can not be saved
+     */
+    public synchronized void recordUpload(String key, String sha256, long size) {
+        hashes.setProperty(key, sha256);
+        bytesUploaded.addAndGet(size);
+        save();
+    }
+
+    /**
+     * Record an upload skipped because the content was unchanged.
+     *
+     * @param size number of bytes not uploaded
+     */
+    public void recordSkip(long size) {
+        skippedUploads.incrementAndGet();
+        bytesSaved.addAndGet(size);
+    }
+
+    /**
+     * Get the number of uploads skipped since the manifest was opened
+     *
+     * @return number of skipped uploads
+     */
+    public long getSkippedUploads() {
+        return skippedUploads.get();
+    }
+
+    /**
+     * Get the number of bytes not uploaded since the manifest was opened
+     *
+     * @return bytes saved by skipped uploads
+     */
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * Get the number of bytes uploaded since the manifest was opened
+     *
+     * @return bytes of the uploads that were sent
+     */
+    public long getBytesUploaded() {
+        return bytesUploaded.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%s, skipped=%d, saved=%d, uploaded=%d)", getClass().getSimpleName(), file,
+                skippedUploads.get(), bytesSaved.get(), bytesUploaded.get());
+    }
+
+    /**
+     * Compute the SHA-256 hash of a stream, reading it in fixed-size chunks.
+     *
+     * @param in stream to hash, read to the end but not closed
+     * @return hex encoded hash
+     * @throws IOException if the stream can not be read
+     */
+    public static String sha256(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Compute the SHA-256 hash of a byte array.
+     *
+     * @param data bytes to hash
+     * @return hex encoded hash
+     */
+    public static String sha256(byte[] data) {
+        return HexFormat.of().formatHex(newDigest().digest(data));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private void save() {
+        try {
+            PropertiesFiles.store(hashes, file, "MindsDB upload manifest");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save upload manifest: " + e.getMessage(), e);
+        }
+    }
+}
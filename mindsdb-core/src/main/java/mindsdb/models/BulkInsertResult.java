@@ -0,0 +1,115 @@
+package mindsdb.models;
+
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Summary of a chunked insert run by {@link MDBTable#insert(tech.tablesaw.api.Table, int, long, int)}
+ * or {@link KnowledgeBase#insert(tech.tablesaw.api.Table, int, int)}.
+ *
+ * <p>
+ * Chunks are sent independently, so some can fail while the others are
+ * inserted. The failed chunks are listed with the rows they held and the error
+ * they raised, so that those rows can be sent again. The time each chunk took
+ * is kept to show how latency varies across the insert.
+ * </p>
+ */
+@Getter
+public class BulkInsertResult {
+    private final long totalRows;
+    private final long insertedRows;
+    private final int chunkCount;
+    private final List<ChunkError> errors;
+    @Getter(AccessLevel.NONE)
+    private final long[] chunkNanos;
+    private final long elapsedNanos;
+
+    BulkInsertResult(long totalRows, long insertedRows, int chunkCount, List<ChunkError> errors, long[] chunkNanos,
+            long elapsedNanos) {
+        this.totalRows = totalRows;
+        this.insertedRows = insertedRows;
+        this.chunkCount = chunkCount;
+        this.errors = List.copyOf(errors);
+        this.chunkNanos = chunkNanos;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get the time each chunk took to be inserted, or to fail
+     *
+     * @return nanoseconds per chunk, in chunk order
+     */
+    public long[] getChunkNanos() {
+        return chunkNanos.clone();
+    }
+
+    /**
+     * Get the mean time a chunk took
+     *
+     * @return nanoseconds, 0 if no chunk was sent
+     */
+    public double getMeanChunkNanos() {
+        return Arrays.stream(chunkNanos).average().orElse(0);
+    }
+
+    /**
+     * Get the time the slowest chunk took
+     *
+     * @return nanoseconds, 0 if no chunk was sent
+     */
+    public long getMaxChunkNanos() {
+        return Arrays.stream(chunkNanos).max().orElse(0);
+    }
+
+    /**
+     * Check whether every chunk was inserted
+     *
+     * @return true if no chunk failed
+     */
+    public boolean isComplete() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * Get the insert throughput
+     *
+     * @return rows inserted per second
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos > 0 ? insertedRows * 1_000_000_000.0 / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(rows=%d, inserted=%d, chunks=%d, failed=%d, rows/s=%.1f, chunk ms=%.1f avg/%.1f max)",
+                getClass().getSimpleName(), totalRows, insertedRows, chunkCount, errors.size(), getRowsPerSecond(),
+                getMeanChunkNanos() / 1_000_000, getMaxChunkNanos() / 1_000_000.0);
+    }
+
+    /**
+     * A chunk of rows that could not be inserted.
+     */
+    @Getter
+    public static class ChunkError {
+        private final int chunk;
+        private final int firstRow;
+        private final int rowCount;
+        private final RuntimeException error;
+
+        ChunkError(int chunk, int firstRow, int rowCount, RuntimeException error) {
+            this.chunk = chunk;
+            this.firstRow = firstRow;
+            this.rowCount = rowCount;
+            this.error = error;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s(chunk=%d, rows=%d..%d, error=%s)", getClass().getSimpleName(), chunk, firstRow,
+                    firstRow + rowCount - 1, error.getMessage());
+        }
+    }
+}
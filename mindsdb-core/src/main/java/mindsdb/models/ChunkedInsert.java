@@ -0,0 +1,276 @@
+package mindsdb.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mindsdb.connectors.RestAPI;
+import mindsdb.sql.Identifier;
+import mindsdb.sql.Insert;
+import mindsdb.sql.SqlWriter;
+import mindsdb.utils.DaemonThreadFactory;
+import mindsdb.utils.InsertProgressListener;
+import tech.tablesaw.api.Table;
+
+/**
+ * Chunked {@code INSERT ... VALUES} of rows, shared by {@link MDBTable} and
+ * {@link KnowledgeBase}.
+ *
+ * <p>
+ * The rows are split into statements of at most a number of rows and UTF-8
+ * bytes, a single row larger than the byte budget is sent on its own.
+ * Statements are built while earlier ones are sent; when the given number of
+ * chunks is in flight, building the next one blocks until one of them is done,
+ * so memory stays bounded by the concurrency. Each chunk is timed, a failed
+ * chunk does not stop the others.
+ * </p>
+ */
+final class ChunkedInsert {
+    private final RestAPI api;
+    private final Identifier table;
+    private final String tableName;
+    private final String database;
+    private final boolean terminated;
+
+    /**
+     * @param api        API the statements are sent with
+     * @param table      Table the rows are inserted into
+     * @param tableName  Name of the table reported to listeners and in errors
+     * @param database   Database the statements run on, null for the default
+     * @param terminated Whether statements end with a semicolon
+     */
+    ChunkedInsert(RestAPI api, Identifier table, String tableName, String database, boolean terminated) {
+        this.api = api;
+        this.table = table;
+        this.tableName = tableName;
+        this.database = database;
+        this.terminated = terminated;
+    }
+
+    BulkInsertResult run(Table data, int maxRows, long maxBytes, int concurrency, InsertProgressListener listener) {
+        List<String> columns = data.columnNames();
+        try (Batches batches = start(columns, data.rowCount(), maxRows, maxBytes, concurrency, listener)) {
+            SqlWriter rowSql = new SqlWriter();
+            for (int index = 0; index < data.rowCount(); index++) {
+                rowSql.setLength(0);
+                rowSql.row(data.row(index), columns.size());
+                batches.add(rowSql);
+            }
+            return batches.finish();
+        }
+    }
+
+    /**
+     * Start an insert whose rows are added one by one.
+     *
+     * @param columns     Columns of the rows
+     * @param totalRows   Number of rows reported to the listener, -1 if unknown
+     * @param maxRows     Maximum number of rows in one statement
+     * @param maxBytes    Maximum size of one statement in UTF-8 bytes
+     * @param concurrency Maximum number of statements sent at the same time
+     * @param listener    Listener receiving each inserted chunk, may be null
+     * @return Batches receiving the rows, to be finished and closed
+     */
+    Batches start(List<String> columns, long totalRows, int maxRows, long maxBytes, int concurrency,
+            InsertProgressListener listener) {
+        if (maxRows <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        return new Batches(Insert.into(this.table, columns).valuesPrefix(), totalRows, maxRows, maxBytes,
+                concurrency, listener);
+    }
+
+    /**
+     * Throw the errors of an incomplete insert. A single failed chunk is thrown
+     * as is, several are combined into one exception.
+     */
+    static void check(BulkInsertResult result, String tableName) {
+        if (result.isComplete()) {
+            return;
+        }
+        List<BulkInsertResult.ChunkError> errors = result.getErrors();
+        if (result.getChunkCount() == 1) {
+            throw errors.get(0).getError();
+        }
+        RuntimeException failure = new RuntimeException(String.format("Failed to insert %d of %d chunks into %s: %s",
+                errors.size(), result.getChunkCount(), tableName, errors), errors.get(0).getError());
+        errors.stream().skip(1).forEach(error -> failure.addSuppressed(error.getError()));
+        throw failure;
+    }
+
+    static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                // A surrogate pair is 4 bytes, 2 per char
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Rows of one insert, grouped into statements as they are added.
+     */
+    final class Batches implements AutoCloseable {
+        private final String prefix;
+        private final long prefixBytes;
+        private final long totalRows;
+        private final int maxRows;
+        private final long maxBytes;
+        private final InsertProgressListener listener;
+        private final long start = System.nanoTime();
+        private final ExecutorService executor;
+        // Bounds the chunks built but not inserted yet
+        private final Semaphore inFlight;
+        private final List<CompletableFuture<Void>> sends = new ArrayList<>();
+        private final List<BulkInsertResult.ChunkError> errors = Collections.synchronizedList(new ArrayList<>());
+        private final Map<Integer, Long> chunkNanos = new ConcurrentHashMap<>();
+        private final AtomicLong inserted = new AtomicLong();
+        private final SqlWriter sql;
+        private long bytes;
+        private int rows;
+        private int firstRow;
+        private int chunks;
+
+        private Batches(String prefix, long totalRows, int maxRows, long maxBytes, int concurrency,
+                InsertProgressListener listener) {
+            this.prefix = prefix;
+            this.prefixBytes = utf8Length(prefix) + (terminated ? 1 : 0);
+            this.totalRows = totalRows;
+            this.maxRows = maxRows;
+            this.maxBytes = maxBytes;
+            this.listener = listener;
+            this.executor = concurrency > 1
+                    ? Executors.newFixedThreadPool(concurrency, new DaemonThreadFactory("mindsdb-bulk-insert"))
+                    : null;
+            this.inFlight = new Semaphore(concurrency);
+            this.sql = new SqlWriter(prefix.length() + 1024);
+            this.sql.append(prefix);
+            this.bytes = prefixBytes;
+        }
+
+        /**
+         * Add a row, sending the current statement first if the row does not
+         * fit in it. Blocks while the maximum number of statements is in flight.
+         *
+         * @param rowSql Values of the row in parentheses, see {@link SqlWriter#row}
+         */
+        void add(CharSequence rowSql) {
+            long rowBytes = utf8Length(rowSql);
+            if (rows > 0 && bytes + 2 + rowBytes > maxBytes) {
+                sendChunk();
+            }
+            if (rows > 0) {
+                sql.append(", ");
+                bytes += 2;
+            }
+            sql.append(rowSql);
+            bytes += rowBytes;
+            rows++;
+            if (rows == maxRows) {
+                sendChunk();
+            }
+        }
+
+        /**
+         * Send the remaining rows and wait for every statement.
+         *
+         * @return Summary of the insert
+         */
+        BulkInsertResult finish() {
+            if (rows > 0) {
+                sendChunk();
+            }
+            try {
+                sends.forEach(CompletableFuture::join);
+            } catch (CompletionException e) {
+                // Thrown by the listener
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            errors.sort(Comparator.comparingInt(BulkInsertResult.ChunkError::getChunk));
+            long[] latencies = new long[chunks];
+            for (int i = 0; i < chunks; i++) {
+                latencies[i] = chunkNanos.getOrDefault(i, 0L);
+            }
+            return new BulkInsertResult(totalRows >= 0 ? totalRows : firstRow, inserted.get(), chunks, errors,
+                    latencies, System.nanoTime() - start);
+        }
+
+        /**
+         * Stop the threads sending statements.
+         */
+        @Override
+        public void close() {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+
+        private void sendChunk() {
+            if (terminated) {
+                // Cut off again when the writer is reset to the prefix
+                sql.append(";");
+            }
+            sends.add(send(sql.toString(), chunks++, firstRow, rows));
+            sql.setLength(prefix.length());
+            bytes = prefixBytes;
+            firstRow += rows;
+            rows = 0;
+        }
+
+        private CompletableFuture<Void> send(String statement, int chunk, int chunkFirstRow, int chunkRows) {
+            Runnable task = () -> {
+                long taskStart = System.nanoTime();
+                try {
+                    if (database != null) {
+                        api.sqlQuery(statement, database);
+                    } else {
+                        api.sqlQuery(statement);
+                    }
+                } catch (RuntimeException e) {
+                    chunkNanos.put(chunk, System.nanoTime() - taskStart);
+                    errors.add(new BulkInsertResult.ChunkError(chunk, chunkFirstRow, chunkRows, e));
+                    return;
+                }
+                long elapsed = System.nanoTime() - taskStart;
+                chunkNanos.put(chunk, elapsed);
+                long done = inserted.addAndGet(chunkRows);
+                // Outside the try, a failing listener must not mark an inserted chunk as failed
+                if (listener != null) {
+                    listener.chunkInserted(tableName, chunk, chunkRows, elapsed);
+                    listener.progress(tableName, done, totalRows);
+                }
+            };
+            if (executor == null) {
+                task.run();
+                return CompletableFuture.completedFuture(null);
+            }
+            inFlight.acquireUninterruptibly();
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlight.release();
+                }
+            }, executor);
+        }
+    }
+}
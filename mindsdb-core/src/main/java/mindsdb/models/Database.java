@@ -5,6 +5,7 @@ import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
 import mindsdb.connectors.RestAPI;
+import mindsdb.connectors.TableEncoder;
 import mindsdb.services.Query;
 import mindsdb.services.Tables;
 
@@ -140,6 +141,19 @@ public class Database {
         this.tables.drop(tableName);
     }
 
+    /**
+     * Create a table from a DataFrame, uploaded in the given file format
+     * 
+     * @param name    - Name of the table
+     * @param df      - DataFrame
+     * @param replace - Replace the table if it already exists
+     * @param encoder - File format to upload the DataFrame in
+     * @return Table
+     */
+    public MDBTable createTable(String name, tech.tablesaw.api.Table df, boolean replace, TableEncoder encoder) {
+        return tables.create(name, df, replace, encoder);
+    }
+
     /**
      * Create a table from a query
      * 
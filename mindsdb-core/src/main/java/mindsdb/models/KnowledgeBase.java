@@ -0,0 +1,688 @@
+
+package mindsdb.models;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import kong.unirest.core.UnirestException;
+import kong.unirest.core.json.JSONException;
+import kong.unirest.core.json.JSONObject;
+import lombok.Getter;
+import mindsdb.connectors.RestAPI;
+import mindsdb.connectors.ResultRow;
+import mindsdb.connectors.RowCursor;
+import mindsdb.services.Query;
+import mindsdb.sql.Comparison;
+import mindsdb.sql.Identifier;
+import mindsdb.sql.Select;
+import mindsdb.sql.SqlWriter;
+import mindsdb.sql.Statement;
+import mindsdb.utils.DaemonThreadFactory;
+import mindsdb.utils.DocumentChunker;
+import mindsdb.utils.InsertProgressListener;
+
+/**
+ * The KnowledgeBase class represents a knowledge base within a MindsDB project.
+ * It extends the Query class and implements the Cloneable interface.
+ * 
+ * <p>
+ * This class provides methods to interact with the knowledge base, including
+ * finding data, inserting files, inserting webpages, and inserting data using
+ * various formats such as Table objects, Query objects, and maps.
+ * </p>
+ * 
+ * <p>
+ * The KnowledgeBase class also supports deep cloning of its instances.
+ * </p>
+ * 
+ * <p>
+ * Example usage:
+ * </p>
+ * 
+ * <pre>
+ * {@code
+ * // Get KnowledgeBase object
+ * KnowledgeBase kb = server.knowledgeBases.get("knowledge_base_name");
+ * 
+ * // Find data in the knowledge base
+ * KnowledgeBase result = kb.find("some query", 10);
+ * 
+ * // Run several searches at the same time, results by query
+ * Map<String, tech.tablesaw.api.Table> results = kb.findAll(List.of("first query", "second query"), 10);
+ * 
+ * // Insert files into the knowledge base
+ * List<String> filePaths = List.of("/path/to/file1.txt", "/path/to/file2.txt");
+ * kb.insertFiles(filePaths);
+ * 
+ * // Insert webpages into the knowledge base
+ * List<String> urls = List.of("http://example.com/page1", "http://example.com/page2");
+ * kb.insertWebpages(urls, 2, List.of("filter1", "filter2"));
+ * 
+ * // Insert data using a Table object
+ * tech.tablesaw.api.Table table = tech.tablesaw.api.Table.create("data");
+ * kb.insert(table);
+ * 
+ * // Insert data using a Query object
+ * Query query = new Query(api, "SELECT * FROM some_table");
+ * kb.insert(query);
+ * 
+ * // Insert text files split into overlapping chunks
+ * kb.insertDocuments(List.of(Path.of("/path/to/manual.txt")), new DocumentChunker(1000, 200));
+ * 
+ * // Insert only the rows of a query that changed since the last sync
+ * SyncResult sync = kb.sync(query);
+ * 
+ * // Insert data using a map
+ * Map<String, String> dataMap = new HashMap<>();
+ * dataMap.put("column1", "value1");
+ * dataMap.put("column2", "value2");
+ * kb.insert(dataMap);
+ * }
+ * </pre>
+ * 
+ * <p>
+ * Note: This class requires the Tablesaw library for handling table data and
+ * the Unirest library for making HTTP requests.
+ * </p>
+ * 
+ * @see mindsdb.services.Query
+ * @see mindsdb.connectors.RestAPI
+ * @see tech.tablesaw.api.Table
+ * @see kong.unirest.core.UnirestException
+ */
+@Getter
+public class KnowledgeBase extends Query implements Cloneable {
+    private static final int DEFAULT_BATCH_ROWS = 1_000;
+    private static final long MAX_BATCH_BYTES = 8L * 1024 * 1024;
+    private static final int DELETE_BATCH_ROWS = 500;
+    private static final int DEFAULT_SEARCH_CONCURRENCY = 8;
+    private static final List<String> DOCUMENT_COLUMNS = List.of("id", "chunk_index", "content", "metadata");
+
+    private RestAPI api;
+    private Project project;
+    private String name;
+    private String tableName;
+    private MDBTable storage;
+    private Model model;
+    private Map<String, Object> params;
+    private List<String> metadataColumns;
+    private List<String> contentColumns;
+    private final String idColumn;
+    private String query;
+    private Integer limit;
+
+    /**
+     * Create a new KnowledgeBase object
+     * 
+     * @param api     - RestAPI object
+     * @param project - Project object
+     * @param data    - Map containing knowledge base data
+     */
+    public KnowledgeBase(RestAPI api, Project project, Map<String, Object> data) {
+        super(api, null);
+        this.api = api;
+        this.project = project;
+        this.name = data.containsKey("name") ? data.get("name").toString() : null;
+        this.tableName = String.format("%s.%s", project.getName(), name);
+        this.storage = null;
+
+        if (data.get("storage") != null) {
+            String[] parts = data.get("storage").toString().split("\\.");
+            if (parts.length == 2) {
+                String databaseName = parts[0];
+                String table = parts[1];
+                Database db = new Database(project, databaseName, null);
+                this.storage = new MDBTable(db, table);
+            }
+        }
+
+        this.model = null;
+        if (data.get("model") != null) {
+            this.model = new Model(project, Map.of("name", data.get("model").toString()));
+        }
+
+        Object paramObject = data.getOrDefault("params", new HashMap<>());
+        if (paramObject instanceof String string) {
+            try {
+                paramObject = new JSONObject(string).toMap();
+            } catch (JSONException e) {
+                paramObject = new HashMap<>();
+            }
+        }
+
+        if (paramObject instanceof Map<?, ?> map) {
+            this.params = new HashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (entry.getKey() instanceof String && entry.getValue() instanceof Object) {
+                    String key = (String) entry.getKey();
+                    Object value = entry.getValue();
+                    this.params.put(key, value);
+                }
+            }
+        } else {
+            this.params = new HashMap<>();
+        }
+
+        Object metadataColumnsObj = this.params.getOrDefault("metadata_columns", new ArrayList<>());
+        if (metadataColumnsObj instanceof List<?> list) {
+            this.metadataColumns = new ArrayList<>();
+            for (Object item : list) {
+                if (item instanceof String string) {
+                    this.metadataColumns.add(string);
+                }
+            }
+        } else {
+            this.metadataColumns = new ArrayList<>();
+        }
+
+        this.contentColumns = new ArrayList<>();
+        Object contentColumnsObj = this.params.get("content_columns");
+        if (contentColumnsObj instanceof List<?> list) {
+            for (Object item : list) {
+                if (item instanceof String string) {
+                    this.contentColumns.add(string);
+                }
+            }
+        }
+
+        this.idColumn = (String) this.params.getOrDefault("id_column", null);
+        this.query = null;
+        this.limit = null;
+        updateQuery();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%s.%s)", this.getClass().getSimpleName(), this.project.getName(), this.name);
+    }
+
+    /**
+     * Find data in the knowledge base
+     * 
+     * @param query - query string
+     * @param limit - limit the number of results
+     * @return KnowledgeBase object
+     */
+    public KnowledgeBase find(String query, Integer limit) {
+        KnowledgeBase kb;
+        try {
+            kb = this.clone();
+            kb.query = query;
+            kb.limit = limit;
+            kb.updateQuery();
+
+            return kb;
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException("Clone not supported", e);
+        }
+    }
+
+    /**
+     * Find data in the knowledge base
+     * 
+     * @param query - query string
+     * @return KnowledgeBase object
+     */
+    public KnowledgeBase find(String query) {
+        return find(query, 100);
+    }
+
+    /**
+     * Run several searches on the knowledge base, up to
+     * {@value #DEFAULT_SEARCH_CONCURRENCY} at a time.
+     * 
+     * @param queries - query strings
+     * @param limit   - limit the number of results of each query
+     * @return Results by query string
+     * @see #findAll(List, Integer, int)
+     */
+    public Map<String, tech.tablesaw.api.Table> findAll(List<String> queries, Integer limit) {
+        return findAll(queries, limit, DEFAULT_SEARCH_CONCURRENCY);
+    }
+
+    /**
+     * Run several searches on the knowledge base at the same time.
+     * 
+     * <p>
+     * Each distinct query string is searched once, with the same statement as
+     * {@link #find(String, Integer)}, by a pool of at most {@code concurrency}
+     * threads sharing the HTTP session, so the round trips overlap instead of
+     * adding up. The results are grouped by query string, in the order the
+     * queries were given.
+     * </p>
+     * 
+     * @param queries     - query strings
+     * @param limit       - limit the number of results of each query
+     * @param concurrency - maximum number of searches run at the same time
+     * @return Results by query string
+     * @throws RuntimeException if a search failed, after the other searches finished
+     */
+    public Map<String, tech.tablesaw.api.Table> findAll(List<String> queries, Integer limit, int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(queries));
+        Map<String, tech.tablesaw.api.Table> results = new LinkedHashMap<>();
+        if (distinct.isEmpty()) {
+            return results;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, distinct.size()),
+                new DaemonThreadFactory("mindsdb-kb-search"));
+        try {
+            List<CompletableFuture<tech.tablesaw.api.Table>> searches = new ArrayList<>();
+            for (String query : distinct) {
+                searches.add(CompletableFuture.supplyAsync(() -> find(query, limit).fetch(), executor));
+            }
+
+            List<RuntimeException> errors = new ArrayList<>();
+            List<String> failed = new ArrayList<>();
+            for (int i = 0; i < searches.size(); i++) {
+                try {
+                    results.put(distinct.get(i), searches.get(i).join());
+                } catch (CompletionException e) {
+                    RuntimeException error = e.getCause() instanceof RuntimeException cause ? cause : e;
+                    errors.add(error);
+                    failed.add(distinct.get(i) + " (" + error.getMessage() + ")");
+                }
+            }
+            if (!errors.isEmpty()) {
+                RuntimeException failure = new RuntimeException(String.format("Failed %d of %d searches in %s: %s",
+                        errors.size(), distinct.size(), this.tableName, String.join(", ", failed)), errors.get(0));
+                errors.stream().skip(1).forEach(failure::addSuppressed);
+                throw failure;
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void updateQuery() {
+        Select astQuery = Select.from(Identifier.parse(this.tableName));
+        if (this.query != null) {
+            astQuery = astQuery.where(Comparison.equal("CONTENT", this.query));
+        }
+        this.setSql(astQuery.limit(this.limit).terminated().toSql());
+    }
+
+    /**
+     * Insert files into the knowledge base
+     * 
+     * @param filePaths - list of file paths to insert
+     */
+    public void insertFiles(List<String> filePaths) {
+        try {
+            this.api.insertFilesIntoKnowledgeBase(this.project.getName(), this.name, filePaths);
+        } catch (UnirestException e) {
+            throw new RuntimeException("Failed to insert files into knowledge base", e);
+        }
+    }
+
+    /**
+     * Insert webpages into the knowledge base
+     * 
+     * @param urls       - list of URLs to insert
+     * @param crawlDepth - depth of the crawl
+     * @param filters    - list of filters
+     */
+    public void insertWebpages(List<String> urls, int crawlDepth, List<String> filters) {
+        try {
+            this.api.insertWebpagesIntoKnowledgeBase(this.project.getName(), this.name, urls, crawlDepth, filters);
+        } catch (UnirestException e) {
+            throw new RuntimeException("Failed to insert webpages into knowledge base", e);
+        }
+    }
+
+    /**
+     * Insert data into the knowledge base using a Table object. Rows are sent
+     * in batches of {@value #DEFAULT_BATCH_ROWS}, one after another, so that
+     * the server embeds them in steps instead of in one long request.
+     * 
+     * @param data - Table object containing the data to insert
+     * @throws RuntimeException if a batch could not be inserted, the other
+     *                          batches are inserted
+     * @see #insert(tech.tablesaw.api.Table, int, int, InsertProgressListener)
+     */
+    public void insert(tech.tablesaw.api.Table data) {
+        ChunkedInsert.check(insert(data, DEFAULT_BATCH_ROWS, 1), this.tableName);
+    }
+
+    /**
+     * Insert data into the knowledge base in batches
+     * 
+     * @param data         - Table object containing the data to insert
+     * @param rowsPerBatch - Maximum number of rows in one batch
+     * @param parallelism  - Maximum number of batches sent at the same time
+     * @return Summary of the insert, with the batches that failed
+     * @see #insert(tech.tablesaw.api.Table, int, int, InsertProgressListener)
+     */
+    public BulkInsertResult insert(tech.tablesaw.api.Table data, int rowsPerBatch, int parallelism) {
+        return insert(data, rowsPerBatch, parallelism, null);
+    }
+
+    /**
+     * Insert data into the knowledge base in batches.
+     * 
+     * <p>
+     * Each batch is one {@code INSERT} statement of at most
+     * {@code rowsPerBatch} rows and {@value #MAX_BATCH_BYTES} bytes, which the
+     * server embeds before it responds. Up to {@code parallelism} batches are
+     * sent at the same time; building the next batch waits while that many are
+     * in flight, so memory and server load stay bounded. A failed batch does not
+     * stop the others. The result has the time each batch took and the overall
+     * throughput, the listener is told as each batch completes.
+     * </p>
+     * 
+     * @param data         - Table object containing the data to insert
+     * @param rowsPerBatch - Maximum number of rows in one batch
+     * @param parallelism  - Maximum number of batches sent at the same time
+     * @param listener     - Listener receiving each inserted batch, may be null
+     * @return Summary of the insert, with the batches that failed
+     */
+    public BulkInsertResult insert(tech.tablesaw.api.Table data, int rowsPerBatch, int parallelism,
+            InsertProgressListener listener) {
+        return new ChunkedInsert(this.api, Identifier.parse(this.tableName), this.tableName, this.project.getName(),
+                true).run(data, rowsPerBatch, MAX_BATCH_BYTES, parallelism, listener);
+    }
+
+    /**
+     * Split text files into chunks and insert them into the knowledge base, in
+     * batches of {@value #DEFAULT_BATCH_ROWS} chunks sent one after another.
+     * 
+     * @param files   - Paths of UTF-8 text files
+     * @param chunker - Chunker splitting the files
+     * @return Summary of the insert, with the batches that failed
+     * @see #insertDocuments(List, DocumentChunker, int, int, InsertProgressListener)
+     */
+    public BulkInsertResult insertDocuments(List<Path> files, DocumentChunker chunker) {
+        return insertDocuments(files, chunker, DEFAULT_BATCH_ROWS, 1, null);
+    }
+
+    /**
+     * Split text files into chunks and insert them into the knowledge base.
+     * 
+     * <p>
+     * Each chunk is a row with the columns {@code id}, {@code chunk_index},
+     * {@code content} and {@code metadata}. The id is the file name and the
+     * chunk index joined by {@code ":"}, the metadata is a JSON object with the
+     * file name under {@code "source"}. Files are read as a stream and chunks
+     * go into batches as they are produced. Batches are sent like those of
+     * {@link #insert(tech.tablesaw.api.Table, int, int, InsertProgressListener)},
+     * and while {@code parallelism} of them are in flight reading waits, so
+     * memory stays bounded for files of any size.
+     * </p>
+     * 
+     * @param files        - Paths of UTF-8 text files
+     * @param chunker      - Chunker splitting the files
+     * @param rowsPerBatch - Maximum number of chunks in one batch
+     * @param parallelism  - Maximum number of batches sent at the same time
+     * @param listener     - Listener receiving each inserted batch, may be null
+     * @return Summary of the insert, with the batches that failed
+     * @throws UncheckedIOException if a file cannot be read, batches already
+     *                              built are still sent
+     */
+    public BulkInsertResult insertDocuments(List<Path> files, DocumentChunker chunker, int rowsPerBatch,
+            int parallelism, InsertProgressListener listener) {
+        ChunkedInsert insert = new ChunkedInsert(this.api, Identifier.parse(this.tableName), this.tableName,
+                this.project.getName(), true);
+        try (ChunkedInsert.Batches batches = insert.start(DOCUMENT_COLUMNS, -1, rowsPerBatch, MAX_BATCH_BYTES,
+                parallelism, listener)) {
+            SqlWriter row = new SqlWriter();
+            for (Path file : files) {
+                String source = file.getFileName().toString();
+                String metadata = SqlWriter.quoteLiteral(Map.of("source", source));
+                try {
+                    chunker.chunk(file, (index, content) -> {
+                        row.setLength(0);
+                        row.append('(').literal(source + ":" + index).append(", ").literal(index).append(", ")
+                                .literal(content).append(", ").literal(metadata).append(')');
+                        batches.add(row);
+                    });
+                } catch (IOException e) {
+                    batches.finish();
+                    throw new UncheckedIOException("Failed to read document " + file + ": " + e.getMessage(), e);
+                }
+            }
+            return batches.finish();
+        }
+    }
+
+    /**
+     * Insert data into the knowledge base using a Query object
+     * 
+     * @param data Query object containing the data to insert
+     */
+    public void insert(Query data) {
+        String astQuery;
+        if (data.getDatabase() != null) {
+            astQuery = String.format("INSERT INTO %s SELECT * FROM %s (%s) ;", this.tableName, data.getDatabase(),
+                    data.getSql());
+        } else {
+            astQuery = String.format("INSERT INTO %s (%s)", this.tableName, data.getSql());
+        }
+
+        this.api.sqlQuery(astQuery, data.getDatabase());
+    }
+
+    /**
+     * Insert data into the knowledge base using a map
+     * 
+     * @param data Map containing the data to insert
+     */
+    public void insert(Map<String, String> data) {
+        tech.tablesaw.api.Table table = tech.tablesaw.api.Table.create("data");
+        for (Map.Entry<String, String> entry : data.entrySet()) {
+            table.addColumns(tech.tablesaw.api.StringColumn.create(entry.getKey(), entry.getValue()));
+        }
+
+        insert(table);
+    }
+
+    /**
+     * Sync the rows of a query into the knowledge base, keeping the sync index
+     * in {@code ~/.mindsdb/sync/<project>.<knowledge base>.idx}.
+     * 
+     * @param source Query returning the rows the knowledge base should hold
+     * @return Summary of the sync
+     * @see #sync(Query, Path)
+     */
+    public SyncResult sync(Query source) {
+        return sync(source, Path.of(System.getProperty("user.home"), ".mindsdb", "sync",
+                this.project.getName() + "." + this.name + ".idx"));
+    }
+
+    /**
+     * Sync the rows of a query into the knowledge base, embedding only what
+     * changed since the last sync.
+     * 
+     * <p>
+     * Every source row is hashed by its id column and its content and metadata
+     * columns, or all its columns if the knowledge base has no content columns.
+     * The hashes are compared with a local index of the last sync: new and
+     * changed rows are inserted in batches of {@value #DEFAULT_BATCH_ROWS}, and
+     * once the whole source has been read, the rows it no longer returns are
+     * deleted. Rows with the same hash are not sent. The index is a
+     * memory-mapped file, so it holds tens of millions of ids without using
+     * heap. Deleting the index file makes the next sync insert every row again.
+     * </p>
+     * 
+     * @param source    Query returning the rows the knowledge base should hold
+     * @param indexFile File of the sync index, created if it does not exist
+     * @return Summary of the sync
+     * @throws IllegalStateException    if the knowledge base has no id column
+     * @throws IllegalArgumentException if the source is missing a synced column
+     *                                  or returns a row without id
+     * @throws UncheckedIOException     if the index cannot be read or written
+     */
+    public SyncResult sync(Query source, Path indexFile) {
+        if (this.idColumn == null) {
+            throw new IllegalStateException("Knowledge base has no id column: " + this.tableName);
+        }
+        long start = System.nanoTime();
+        try (SyncIndex index = SyncIndex.open(indexFile); RowCursor rows = source.iterator()) {
+            long generation = index.nextGeneration();
+            long sourceRows = 0;
+            long inserted = 0;
+            long updated = 0;
+            long unchanged = 0;
+            SyncBatch batch = null;
+            int idIndex = -1;
+            int[] hashed = null;
+            while (rows.hasNext()) {
+                ResultRow row = rows.next();
+                if (batch == null) {
+                    List<String> columns = row.getColumnNames();
+                    idIndex = columns.indexOf(this.idColumn);
+                    if (idIndex < 0) {
+                        throw new IllegalArgumentException("Source has no id column: " + this.idColumn);
+                    }
+                    hashed = hashedColumns(columns, idIndex);
+                    batch = new SyncBatch(columns);
+                }
+                sourceRows++;
+                String id = row.get(idIndex);
+                if (id == null) {
+                    throw new IllegalArgumentException("Source row has no id: " + row);
+                }
+                long hash = SyncIndex.rowHash(row, hashed);
+                long slot = index.find(id);
+                if (slot < 0) {
+                    inserted++;
+                    batch.add(row, id, hash);
+                } else if (index.contentHash(slot) != hash) {
+                    updated++;
+                    batch.add(row, id, hash);
+                } else {
+                    unchanged++;
+                    index.mark(slot, generation);
+                }
+                if (batch.size() == DEFAULT_BATCH_ROWS) {
+                    batch.flush(index, generation);
+                }
+            }
+            if (batch != null) {
+                batch.flush(index, generation);
+            }
+
+            // Only reached when the whole source was read, so missing rows are really gone
+            long deleted = index.removeStale(generation, DELETE_BATCH_ROWS, this::deleteIds);
+            return new SyncResult(sourceRows, inserted, updated, unchanged, deleted, System.nanoTime() - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to use sync index " + indexFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    private int[] hashedColumns(List<String> columns, int idIndex) {
+        List<String> names = new ArrayList<>(this.contentColumns);
+        names.addAll(this.metadataColumns);
+        if (this.contentColumns.isEmpty()) {
+            names = new ArrayList<>(columns);
+            names.remove(idIndex);
+        }
+        int[] indexes = new int[names.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = columns.indexOf(names.get(i));
+            if (indexes[i] < 0) {
+                throw new IllegalArgumentException("Source has no column: " + names.get(i));
+            }
+        }
+        return indexes;
+    }
+
+    private void deleteIds(List<String> ids) {
+        // Rows of a knowledge base are identified by its id column, whatever the source column was called
+        String sql = Statement.of("DELETE FROM").append(Identifier.parse(this.tableName))
+                .append("WHERE", Comparison.in("id", ids))
+                .terminated()
+                .toSql();
+        this.api.sqlQuery(sql, this.project.getName());
+    }
+
+    /**
+     * Rows waiting to be inserted by a sync. Their hashes are added to the index
+     * only once the insert succeeded.
+     */
+    private final class SyncBatch {
+        private final List<String> columns;
+        private final List<String[]> rows = new ArrayList<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<Long> hashes = new ArrayList<>();
+
+        SyncBatch(List<String> columns) {
+            this.columns = columns;
+        }
+
+        void add(ResultRow row, String id, long hash) {
+            String[] values = new String[row.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = row.get(i);
+            }
+            rows.add(values);
+            ids.add(id);
+            hashes.add(hash);
+        }
+
+        int size() {
+            return rows.size();
+        }
+
+        void flush(SyncIndex index, long generation) throws IOException {
+            if (rows.isEmpty()) {
+                return;
+            }
+            tech.tablesaw.api.Table table = tech.tablesaw.api.Table.create("sync");
+            for (int column = 0; column < columns.size(); column++) {
+                String[] values = new String[rows.size()];
+                for (int row = 0; row < values.length; row++) {
+                    values[row] = rows.get(row)[column];
+                }
+                table.addColumns(tech.tablesaw.api.StringColumn.create(columns.get(column), values));
+            }
+            insert(table);
+            for (int i = 0; i < ids.size(); i++) {
+                index.put(ids.get(i), hashes.get(i), generation);
+            }
+            rows.clear();
+            ids.clear();
+            hashes.clear();
+        }
+    }
+
+    @Override
+    protected KnowledgeBase clone() throws CloneNotSupportedException {
+        try {
+            KnowledgeBase cloned = (KnowledgeBase) super.clone();
+
+            // Deep copy mutable fields
+            cloned.params = new HashMap<>(this.params);
+            cloned.metadataColumns = new ArrayList<>(this.metadataColumns);
+            cloned.contentColumns = new ArrayList<>(this.contentColumns);
+
+            // Handle deep copy for storage if necessary
+            if (this.storage != null) {
+                cloned.storage = new MDBTable(this.storage.getDb(), this.storage.getName());
+            }
+
+            // Handle deep copy for model if necessary
+            if (this.model != null) {
+                cloned.model = new Model(this.project, Map.of("name", this.model.getName()));
+            }
+
+            return cloned;
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException("Clone not supported", e);
+        }
+    }
+}
\ No newline at end of file
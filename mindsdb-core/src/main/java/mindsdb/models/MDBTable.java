@@ -0,0 +1,574 @@
+package mindsdb.models;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import mindsdb.connectors.TableEncoder;
+import mindsdb.services.PageIterator;
+import mindsdb.sql.Assignments;
+import mindsdb.sql.Comparison;
+import mindsdb.sql.Identifier;
+import mindsdb.sql.Insert;
+import mindsdb.sql.Literal;
+import mindsdb.sql.Raw;
+import mindsdb.sql.Select;
+import mindsdb.services.Query;
+import mindsdb.utils.DaemonThreadFactory;
+import mindsdb.utils.InsertProgressListener;
+import mindsdb.utils.RangePartitioner;
+import tech.tablesaw.api.Table;
+
+/**
+ * The MDBTable class represents a table in the MindsDB system. It extends the
+ * Query class and provides methods to interact with the table, such as
+ * filtering, limiting, tracking, inserting, deleting, and updating data.
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * {@code
+ * Database db = server.getDatabase("my_database");
+ * MDBTable table = db.getTable("my_table");
+ * table.filter("column1=value1").limit(10).track("column2");
+ * table.insert(someQuery);
+ * table.insert(someDataFrame);
+ * table.delete("column1=value1");
+ * table.update(Map.of("column1", "new_value"), "column2=value2");
+ * }
+ * </pre>
+ *
+ * <p>
+ * The class also overrides the {@code toString} method to provide a string
+ * representation of the MDBTable object.
+ * </p>
+ *
+ * @see Database
+ * @see Query
+ * @see tech.tablesaw.api.Table
+ */
+@Getter
+public class MDBTable extends Query {
+    private static final int DEFAULT_PARALLELISM = 8;
+    private static final int DEFAULT_INSERT_ROWS = 10_000;
+    private static final long DEFAULT_INSERT_BYTES = 8L * 1024 * 1024;
+    private static final int DEFAULT_BULK_LOAD_ROWS = 50_000;
+
+    private String name;
+    private String tableName;
+    private Database db;
+    private Map<String, String> filters;
+    private Integer limit;
+    private String trackColumn;
+    private Project project;
+    @Getter(AccessLevel.NONE)
+    private Identifier table;
+    // Select of the table with its filters, its rendered text is reused by every query built from it
+    @Getter(AccessLevel.NONE)
+    private Select select;
+
+    /**
+     * Create a new Mindsdb Table object
+     *
+     * @param database - Database object
+     * @param name - Name of the table
+     */
+    public MDBTable(Database database, String name) {
+        super(database.getApi(), "");
+        this.name = name;
+        this.db = database;
+        this.tableName = database.getName() + "." + name;
+        this.table = Identifier.parse(this.tableName);
+        this.filters = new HashMap<>();
+        this.limit = null;
+        this.trackColumn = null;
+        this.updateQuery();
+    }
+
+    /**
+     * Create a new Mindsdb Table object
+     *
+     * @param project - Project object
+     * @param name - Name of the table
+     */
+    public MDBTable(Project project, String name) {
+        super(project.getApi(), "");
+        this.name = name;
+        this.project = project;
+        this.tableName = project.getName() + "." + name;
+        this.table = Identifier.parse(this.tableName);
+        this.updateQuery();
+
+    }
+
+    private String filterRepr() {
+        if (filters == null || filters.isEmpty()) {
+            return "";
+        }
+        String filtersStr = filters.entrySet().stream()
+                .map(e -> e.getKey() + " = " + e.getValue())
+                .collect(Collectors.joining(", "));
+        return ", " + filtersStr;
+    }
+
+    private void updateQuery() {
+        Select base = Select.from(this.table);
+        if (filters != null) {
+            for (Map.Entry<String, String> filter : filters.entrySet()) {
+                base = base.where(Comparison.of(Identifier.parse(filter.getKey()), "=", Literal.of(filter.getValue())));
+            }
+        }
+        if (this.trackColumn != null) {
+            base = base.where(Comparison.of(Identifier.parse(this.trackColumn), ">", Raw.of("last")));
+        }
+        this.select = base;
+        // Convert the query to a string and assign it to the SQL query
+        this.setSql(buildQuery("*", null, null, this.limit, null));
+    }
+
+    private String buildQuery(String selectList, String condition, String orderColumn, Integer limit,
+            Integer offset) {
+        Select query = this.select;
+        if (!"*".equals(selectList)) {
+            query = query.columns(Raw.of(selectList));
+        }
+        if (condition != null) {
+            query = query.where(Raw.of(condition));
+        }
+        if (orderColumn != null) {
+            query = query.orderBy(Identifier.parse(orderColumn));
+        }
+        return query.limit(limit).offset(offset).toSql();
+    }
+
+    /**
+     * Fetch the table page by page using LIMIT/OFFSET. The next page is prefetched
+     * in the background while the current one is processed. A limit set on the
+     * table caps the total number of rows.
+     *
+     * @param pageSize - Number of rows per page
+     * @return PageIterator over the table pages
+     */
+    @Override
+    public PageIterator fetchPages(int pageSize) {
+        return new PageIterator(this.getApi(), this.getDatabase(), pageSize, this.limit,
+                (previousPage, offset, limit) -> buildQuery("*", null, null, limit, offset));
+    }
+
+    /**
+     * Fetch the table page by page using keyset pagination on an ordering column,
+     * which should hold unique values. Each page continues after the last value of
+     * the previous one, so no rows are skipped and the server never scans an
+     * offset. The next page is prefetched in the background while the current one
+     * is processed. A limit set on the table caps the total number of rows.
+     *
+     * @param pageSize - Number of rows per page
+     * @param orderColumn - Column to order and continue the pages by
+     * @return PageIterator over the table pages
+     */
+    @Override
+    public PageIterator fetchPages(int pageSize, String orderColumn) {
+        return new PageIterator(this.getApi(), this.getDatabase(), pageSize, this.limit,
+                (previousPage, offset, limit) -> buildQuery("*",
+                        previousPage != null
+                                ? Identifier.parse(orderColumn).toSql() + " > " + keysetValue(previousPage, orderColumn)
+                                : null,
+                        orderColumn, limit, null));
+    }
+
+    /**
+     * Fetch the whole table with several range-filtered queries at once.
+     *
+     * @param column - Numeric, date or timestamp column to partition on
+     * @param partitions - Number of range partitions
+     * @return Table object with the rows of all partitions, in partition order
+     * @see #parallelFetch(String, int, int)
+     */
+    public Table parallelFetch(String column, int partitions) {
+        return parallelFetch(column, partitions, Math.min(partitions, DEFAULT_PARALLELISM));
+    }
+
+    /**
+     * Fetch the whole table with several range-filtered queries at once.
+     *
+     * <p>
+     * The min and max of the column are queried first and the range between them
+     * is split into partitions. Each partition is fetched with its own query, at
+     * most {@code maxConcurrency} at a time, and rows where the column is null are
+     * fetched with one more query. The results are merged in partition order. A
+     * limit set on the table disables partitioning.
+     * </p>
+     *
+     * @param column - Numeric, date or timestamp column to partition on
+     * @param partitions - Number of range partitions
+     * @param maxConcurrency - Maximum number of queries running at once
+     * @return Table object with the rows of all partitions, in partition order
+     */
+    public Table parallelFetch(String column, int partitions, int maxConcurrency) {
+        Table result = null;
+        try (Stream<Table> parts = parallelFetchPartitions(column, partitions, maxConcurrency)) {
+            for (Table part : (Iterable<Table>) parts::iterator) {
+                if (result == null) {
+                    result = part;
+                } else {
+                    result.append(part);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fetch the table with several range-filtered queries at once and stream the
+     * partition results in partition order, so each partition can be processed as
+     * soon as it and all partitions before it have arrived. Closing the stream
+     * cancels the queries that have not finished.
+     *
+     * @param column - Numeric, date or timestamp column to partition on
+     * @param partitions - Number of range partitions
+     * @param maxConcurrency - Maximum number of queries running at once
+     * @return Stream of partition results, ordered by column range
+     * @see #parallelFetch(String, int, int)
+     */
+    public Stream<Table> parallelFetchPartitions(String column, int partitions, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        if (this.limit != null) {
+            return Stream.of(this.fetch());
+        }
+
+        Table range = this.getApi().sqlQuery(
+                buildQuery("MIN(" + column + ") AS min_value, MAX(" + column + ") AS max_value", null, null, null,
+                        null),
+                this.getDatabase());
+        if (range == null || range.rowCount() == 0 || range.column(0).isMissing(0)) {
+            // Empty table or only nulls, nothing to split
+            return Stream.of(this.fetch());
+        }
+
+        List<String> conditions = new ArrayList<>(RangePartitioner.partition(column,
+                range.column(0).getString(0), range.column(1).getString(0), partitions));
+        conditions.add(column + " IS NULL");
+
+        ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency,
+                new DaemonThreadFactory("mindsdb-parallel-fetch"));
+        List<CompletableFuture<Table>> futures = conditions.stream()
+                .map(condition -> CompletableFuture.supplyAsync(() -> this.getApi()
+                        .sqlQuery(buildQuery("*", condition, null, null, null), this.getDatabase()), executor))
+                .toList();
+        executor.shutdown();
+
+        return futures.stream()
+                .map(MDBTable::await)
+                .filter(Objects::nonNull)
+                .onClose(() -> {
+                    futures.forEach(future -> future.cancel(true));
+                    executor.shutdownNow();
+                });
+    }
+
+    private static Table await(CompletableFuture<Table> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    // Creates a copy of the filters to ensure immutability of the original table
+    private Map<String, String> copyFilters() {
+        return this.filters == null ? new HashMap<>() : new HashMap<>(this.filters);
+    }
+
+    @Override
+    public String toString() {
+        String limitStr = "";
+        if (this.limit != null) {
+            limitStr = ", limit=" + this.limit;
+        }
+        return String.format("%s(%s%s%s)", this.getClass().getSimpleName(), this.tableName, this.filterRepr(),
+                limitStr);
+    }
+
+    /**
+     * Filter the table by key-value pairs >>> table.filter("a=1", "b=2") *
+     * Spaces around the key and the value are ignored, a key with dots is a
+     * qualified column name such as {@code "t.a"}.
+     *
+     * @param filters - Key-value pairs to filter the table by
+     * @return Table object with the filters set
+     */
+    public MDBTable filter(String... filters) {
+        for (String param : filters) {
+            if (param.split("=").length != 2) {
+                throw new IllegalArgumentException("Filter parameters should be in key=value format");
+            }
+        }
+
+        // Create a new Table object (deep copy) and copy the filters
+        MDBTable queryTable = new MDBTable(this.db, this.name);
+        queryTable.filters = this.copyFilters(); // Copy existing filters
+
+        for (String param : filters) {
+            String[] keyValue = param.split("=");
+            queryTable.filters.put(keyValue[0].trim(), keyValue[1].trim());
+        }
+        queryTable.limit = this.limit;
+        queryTable.trackColumn = this.trackColumn;
+        queryTable.updateQuery();
+        return queryTable;
+    }
+
+    /**
+     * Limit the number of rows returned by the query
+     *
+     * @param limit - Number of rows to limit the query to
+     * @return Table object with the limit set
+     */
+    public MDBTable limit(Integer limit) {
+        MDBTable queryTable = new MDBTable(this.db, this.name);
+        queryTable.filters = this.copyFilters();
+        queryTable.limit = limit;
+        queryTable.updateQuery();
+        return queryTable;
+    }
+
+    /**
+     * Track the table by a column
+     *
+     * @param column - Column to track the table by
+     * @return Table object with the track column set
+     */
+    public MDBTable track(String column) {
+        MDBTable queryTable;
+        if(this.db != null) {
+            queryTable = new MDBTable(this.db, this.name);
+        } else {
+            queryTable = new MDBTable(this.project, this.name);
+        }
+        queryTable.filters = this.copyFilters();
+        queryTable.limit = this.limit;
+        queryTable.trackColumn = column;
+        queryTable.updateQuery();
+        return queryTable;
+    }
+
+    /**
+     * Insert data into table
+     *
+     * @param query a Query object representing the data to insert
+     */
+    public void insert(Query query) {
+        String astQuery;
+        if (query.getDatabase() != null) {
+            String fromQueryString = String.format("SELECT * FROM %s (%s)", query.getDatabase(), query.getSql());
+            astQuery = String.format("INSERT INTO %s %s", this.tableName, fromQueryString);
+        } else {
+            astQuery = String.format("INSERT INTO %s (%s)", this.tableName, query.getSql());
+        }
+        this.db.getApi().sqlQuery(astQuery);
+    }
+
+    /**
+     * Insert data into table. Large tables are sent in chunks of at most
+     * {@value #DEFAULT_INSERT_ROWS} rows or {@value #DEFAULT_INSERT_BYTES} bytes of
+     * SQL, one after another.
+     *
+     * @param query a Tablesaw Table object representing the data to insert
+     * @throws RuntimeException if a chunk could not be inserted, the other chunks
+     * are inserted
+     * @see #insert(Table, int, long, int, InsertProgressListener)
+     */
+    public void insert(Table query) {
+        ChunkedInsert.check(insert(query, DEFAULT_INSERT_ROWS, DEFAULT_INSERT_BYTES, 1), this.tableName);
+    }
+
+    /**
+     * Insert data into table in chunks
+     *
+     * @param data - Tablesaw Table object with the rows to insert
+     * @param maxRows - Maximum number of rows in one INSERT statement
+     * @param maxBytes - Maximum size of one INSERT statement in UTF-8 bytes
+     * @param concurrency - Maximum number of chunks sent at the same time
+     * @return Summary of the insert, with the chunks that failed
+     * @see #insert(Table, int, long, int, InsertProgressListener)
+     */
+    public BulkInsertResult insert(Table data, int maxRows, long maxBytes, int concurrency) {
+        return insert(data, maxRows, maxBytes, concurrency, null);
+    }
+
+    /**
+     * Insert data into table in chunks.
+     *
+     * <p>
+     * The rows are split into {@code INSERT ... VALUES} statements of at most
+     * {@code maxRows} rows and {@code maxBytes} bytes, a single row larger than
+     * the byte budget is sent on its own. Statements are built while earlier ones
+     * are sent, at most {@code concurrency} at a time, so only that many chunks
+     * are held in memory. A failed chunk does not stop the others; it is reported
+     * in the result with the rows it held. The result also has the time each
+     * chunk took.
+     * </p>
+     *
+     * @param data - Tablesaw Table object with the rows to insert
+     * @param maxRows - Maximum number of rows in one INSERT statement
+     * @param maxBytes - Maximum size of one INSERT statement in UTF-8 bytes
+     * @param concurrency - Maximum number of chunks sent at the same time
+     * @param listener - Listener receiving the rows inserted after each chunk, may be null
+     * @return Summary of the insert, with the chunks that failed
+     */
+    public BulkInsertResult insert(Table data, int maxRows, long maxBytes, int concurrency,
+            InsertProgressListener listener) {
+        return new ChunkedInsert(this.db.getApi(), this.table, this.tableName, null, false)
+                .run(data, maxRows, maxBytes, concurrency, listener);
+    }
+
+    /**
+     * Load data into table, picking the fastest way for its size. Tables with
+     * fewer than {@value #DEFAULT_BULK_LOAD_ROWS} rows are inserted with
+     * {@code INSERT ... VALUES} statements, larger ones are staged as a file.
+     *
+     * @param data - Tablesaw Table object with the rows to insert
+     * @see #bulkLoad(Table, int)
+     */
+    public void bulkLoad(Table data) {
+        bulkLoad(data, DEFAULT_BULK_LOAD_ROWS);
+    }
+
+    /**
+     * Load data into table, picking the fastest way for its size.
+     *
+     * <p>
+     * Tables with fewer rows than the threshold are inserted with
+     * {@link #insert(Table)}. Larger tables are uploaded as a CSV file with a
+     * unique name, copied into the table by the server with one
+     * {@code INSERT INTO ... SELECT} statement, and the staging file is dropped
+     * again, also when the insert fails.
+     * </p>
+     *
+     * @param data - Tablesaw Table object with the rows to insert
+     * @param threshold - Number of rows from which the data is staged as a file
+     * @throws RuntimeException if the rows could not be inserted, or were
+     * inserted but the staging file could not be dropped
+     */
+    public void bulkLoad(Table data, int threshold) {
+        if (data.rowCount() < threshold) {
+            insert(data);
+            return;
+        }
+
+        String stage = "mindsdb_stage_" + UUID.randomUUID().toString().replace("-", "");
+        Insert insert = Insert.into(this.table, data.columnNames())
+                .select(Select.from(Identifier.of("files", stage)).columns(Identifier.list(data.columnNames())));
+        // Not recorded for upload deduplication, the file is dropped below
+        this.getApi().uploadTemporaryFile(stage, data, TableEncoder.CSV);
+        try {
+            this.getApi().sqlQuery(insert.toSql());
+        } catch (RuntimeException e) {
+            try {
+                dropStage(stage);
+            } catch (RuntimeException dropFailure) {
+                e.addSuppressed(dropFailure);
+            }
+            throw e;
+        }
+        try {
+            dropStage(stage);
+        } catch (RuntimeException e) {
+            throw new RuntimeException(String.format("Inserted the rows into %s but failed to drop staging file %s: %s",
+                    this.tableName, stage, e.getMessage()), e);
+        }
+    }
+
+    private void dropStage(String stage) {
+        this.getApi().sqlQuery("DROP TABLE files." + stage);
+    }
+
+    /**
+     * Deletes record from table using filters
+     *
+     * >>> table.delete("a=1", "b=2")
+     *
+     * @param filters array of filters to filter deleted rows,
+     * delete("column=value", ...)
+     */
+    public void delete(String... filters) {
+
+        StringBuilder deleteQuery = new StringBuilder("DELETE FROM ");
+        deleteQuery.append(this.tableName);
+
+        if (filters.length != 0) {
+            deleteQuery.append(" WHERE ");
+            String whereClause = String.join(" AND ", filters);
+            deleteQuery.append(whereClause);
+        }
+
+        deleteQuery.append(";");
+
+        this.db.getApi().sqlQuery(deleteQuery.toString());
+    }
+
+    /**
+     * Update table by condition
+     *
+     * @param values a map representing fields to update
+     * @param filters array of filters to filter updated rows, update(values,
+     * "column=value", ...)
+     */
+    public void update(Map<String, Object> values, String... filters) {
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException("Values map cannot be null or empty.");
+        }
+
+        if (filters == null || filters.length == 0) {
+            throw new IllegalArgumentException("Filters cannot be null or empty.");
+        }
+
+        StringBuilder updateQuery = new StringBuilder("UPDATE ");
+        updateQuery.append(this.tableName);
+        updateQuery.append(" SET ");
+
+        updateQuery.append(Assignments.of(values).toSql());
+
+        updateQuery.append(" WHERE ");
+        String whereClause = String.join(" AND ", filters);
+        updateQuery.append(whereClause);
+
+        this.db.getApi().sqlQuery(updateQuery.toString());
+    }
+
+    /**
+     * Update table by condition
+     * @param value a Query object representing the data to update
+     * @param on array of the columns to update on
+     */
+    public void update(Query value, List<String> on) {
+        if (on == null) {
+            throw new IllegalArgumentException("On cannot be null or empty.");
+        }
+
+        if (value.getDatabase() != null) {
+            StringBuilder astQuery = new StringBuilder();
+            astQuery.append("UPDATE ").append(this.tableName).append(" ON ").append(String.join(", ", on)).append(" FROM ");
+            String subquery = String.format("SELECT * FROM %s (%s)", value.getDatabase(), value.getSql());
+            astQuery.append("(").append(subquery).append(")");
+            this.getApi().sqlQuery(astQuery.toString());
+        } else {
+            String astQuery = String.format("UPDATE %s ON %s FROM (%s)", this.tableName, String.join(", ", on), value.getSql());
+            this.getApi().sqlQuery(astQuery);
+        }
+    }
+}
@@ -7,6 +7,13 @@ import java.util.concurrent.TimeUnit;
 
 import lombok.Getter;
 import lombok.Setter;
+import mindsdb.connectors.ColumnBatch;
+import mindsdb.connectors.ResultSink;
+import mindsdb.connectors.TableSink;
+import mindsdb.sql.Assignments;
+import mindsdb.sql.Identifier;
+import mindsdb.sql.Raw;
+import mindsdb.sql.Statement;
 import tech.tablesaw.api.Table;
 
 /**
@@ -69,6 +76,18 @@ public class Model {
         return project.getApi().modelPredict(project.getName(), name, data, params, version);
     }
 
+    /**
+     * Make prediction with the model
+     * 
+     * @param data       input data
+     * @param params     prediction parameters
+     * @param inferTypes whether to build typed columns from the JSON values instead of string columns
+     * @return prediction result in Tablesaw Table
+     */
+    public Table predict(Table data, Map<String, String> params, boolean inferTypes) {
+        return project.getApi().modelPredict(project.getName(), name, data, params, version, inferTypes);
+    }
+
     /**
      * Make prediction with the model
      * 
@@ -80,6 +99,31 @@ public class Model {
                 version);
     }
 
+    /**
+     * Make prediction with the model from a columnar batch
+     * 
+     * @param data   input rows
+     * @param params prediction parameters
+     * @return prediction result in Tablesaw Table
+     */
+    public Table predict(ColumnBatch data, Map<String, String> params) {
+        return predict(data, params, new TableSink());
+    }
+
+    /**
+     * Make prediction with the model from a columnar batch, decoding the result
+     * into the given sink
+     * 
+     * @param data   input rows
+     * @param params prediction parameters
+     * @param sink   sink receiving the prediction rows
+     * @param <T>    type produced by the sink
+     * @return result of the sink
+     */
+    public <T> T predict(ColumnBatch data, Map<String, String> params, ResultSink<T> sink) {
+        return project.getApi().modelPredict(project.getName(), name, data, params, version, sink);
+    }
+
     /**
      * Make prediction with the model using MDBTable
      * 
@@ -102,6 +146,18 @@ public class Model {
         return project.getApi().modelPredict(project.getName(), name, data, params, version);
     }
 
+    /**
+     * Make prediction with the model
+     * 
+     * @param data       input data
+     * @param params     prediction parameters
+     * @param inferTypes whether to build typed columns from the JSON values instead of string columns
+     * @return prediction result in Tablesaw Table
+     */
+    public Table predict(Map<String, String> data, Map<String, String> params, boolean inferTypes) {
+        return project.getApi().modelPredict(project.getName(), name, data, params, version, inferTypes);
+    }
+
     /**
      * Make prediction with the model
      * 
@@ -275,26 +331,19 @@ public class Model {
     }
 
     private String createAstQuery(String operation, String query, String database, Map<String, String> options) {
-        String identifier = getIdentifier();
-        StringBuilder sqlBuilder = new StringBuilder();
-
         String databaseName = database != null ? database : project.getName();
 
-        sqlBuilder.append(operation)
-                .append(" MODEL ")
-                .append(identifier);
+        Statement sql = Statement.of(operation + " MODEL").append(Raw.of(getIdentifier()));
 
         if (query != null) {
-            sqlBuilder.append(" FROM ").append(databaseName).append(" (").append(query).append(")");
+            sql.append("FROM", Identifier.parse(databaseName)).appendParenthesized(Raw.of(query));
         }
 
         if (!options.isEmpty()) {
-            sqlBuilder.append(" USING ");
-            options.forEach((key, value) -> sqlBuilder.append(key).append(" = '").append(value).append("', "));
-            sqlBuilder.setLength(sqlBuilder.length() - 2); // Remove trailing comma and space
+            sql.append("USING", Assignments.of(options));
         }
 
-        return sqlBuilder.toString();
+        return sql.toSql();
     }
 
 }
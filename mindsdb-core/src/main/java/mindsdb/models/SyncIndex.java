@@ -0,0 +1,578 @@
+package mindsdb.models;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import mindsdb.connectors.ResultRow;
+
+/**
+ * Persistent index of the rows synced into a knowledge base by
+ * {@link KnowledgeBase#sync(mindsdb.services.Query, Path)}, mapping the hash of
+ * each row id to the hash of its content and the sync run it was last seen in.
+ *
+ * <p>
+ * The index is an open addressing hash table of fixed size slots in a
+ * memory-mapped file, so it holds tens of millions of ids without using heap
+ * and is read by the operating system only where it is probed. Each slot has
+ * the 64-bit hash of the id, the 64-bit hash of the content, the position of
+ * the id in a side file and the generation of the sync that last saw it. The
+ * ids themselves are only read back for rows that are deleted. Ids are compared
+ * by hash, two ids with the same 64-bit hash are treated as one row.
+ * </p>
+ *
+ * <p>
+ * The table doubles when three quarters of its slots are used, which also
+ * drops removed slots and the ids they referenced. The new table and ids are
+ * written to new files first; the ids file is numbered and the header names
+ * the one that belongs to it, so the old files stay valid until the complete
+ * new table replaces them. A rebuild interrupted during that copy is finished
+ * when the index is opened again.
+ * </p>
+ *
+ * <p>
+ * Ids are buffered and saved in batches, so after a process crash some slots
+ * can point past the saved ids. The header records whether the index is open;
+ * if it was not closed, opening it drops those slots, and their rows are sent
+ * again by the next sync. Instances are not thread-safe.
+ * </p>
+ */
+final class SyncIndex implements Closeable {
+    private static final long MAGIC = 0x4d444253594e4331L;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 32;
+    private static final long SEGMENT_SIZE = 1L << 30;
+    static final long INITIAL_CAPACITY = 1L << 16;
+    private static final int ID_BUFFER_SIZE = 64 * 1024;
+
+    // Header fields, OPEN is an int that is 1 while an instance has the index open
+    private static final int OPEN = 12;
+    private static final int CAPACITY = 16;
+    private static final int SIZE = 24;
+    private static final int USED = 32;
+    private static final int GENERATION = 40;
+    private static final int IDS_LENGTH = 48;
+    private static final int IDS_VERSION = 56;
+
+    // Slot fields, an id hash of 0 or 1 marks an empty or removed slot
+    private static final int ID_HASH = 0;
+    private static final int CONTENT_HASH = 8;
+    private static final int ID_OFFSET = 16;
+    private static final int SEEN = 24;
+    private static final long EMPTY = 0;
+    private static final long REMOVED = 1;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Path path;
+    // Complete rebuilt table waiting to be copied over the index file
+    private final Path pendingPath;
+    private Path idsPath;
+    private long idsVersion;
+    private FileChannel channel;
+    private MappedByteBuffer[] segments;
+    private FileChannel ids;
+    private final ByteBuffer idBuffer = ByteBuffer.allocate(ID_BUFFER_SIZE);
+    private long idsLength;
+    private long capacity;
+    private long size;
+    private long used;
+
+    private SyncIndex(Path path) {
+        this.path = path;
+        this.pendingPath = path.resolveSibling(path.getFileName() + ".new");
+    }
+
+    private Path idsPath(long version) {
+        return path.resolveSibling(path.getFileName() + (version == 0 ? ".ids" : ".ids." + version));
+    }
+
+    /**
+     * Open an index, creating it if the file does not exist.
+     *
+     * @param path file of the index, the ids are kept next to it
+     * @return the open index
+     * @throws IOException if the file cannot be read or is not an index
+     */
+    static SyncIndex open(Path path) throws IOException {
+        SyncIndex index = new SyncIndex(path);
+        try {
+            index.load();
+        } catch (IOException | RuntimeException e) {
+            index.closeQuietly();
+            throw e;
+        }
+        return index;
+    }
+
+    private void load() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        if (Files.exists(pendingPath)) {
+            // A rebuild stopped while its table was copied over the index file
+            try (FileChannel pending = FileChannel.open(pendingPath, StandardOpenOption.READ)) {
+                copy(pending, channel);
+            }
+            Files.delete(pendingPath);
+        }
+        if (channel.size() == 0) {
+            initialize(channel, INITIAL_CAPACITY);
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+            // Read the whole header
+        }
+        if (header.getLong(0) != MAGIC || header.getInt(8) != VERSION) {
+            throw new IOException("Not a knowledge base sync index: " + path);
+        }
+        capacity = header.getLong(CAPACITY);
+        size = header.getLong(SIZE);
+        used = header.getLong(USED);
+        idsLength = header.getLong(IDS_LENGTH);
+        idsVersion = header.getLong(IDS_VERSION);
+        segments = map(channel, capacity);
+
+        idsPath = idsPath(idsVersion);
+        ids = FileChannel.open(idsPath, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        // Drop ids written after the header was last saved
+        ids.truncate(idsLength);
+        if (header.getInt(OPEN) != 0) {
+            dropUnsavedSlots();
+        }
+        segments[0].putInt(OPEN, 1);
+        if (idsVersion > 0) {
+            // Left behind if the process stopped right after a rebuild
+            Files.deleteIfExists(idsPath(idsVersion - 1));
+        }
+    }
+
+    /**
+     * Drop the slots of ids that were still buffered when the process stopped.
+     * Their offsets are past the saved ids and would be reused by new ids.
+     */
+    private void dropUnsavedSlots() {
+        size = 0;
+        used = 0;
+        for (long slot = 0; slot < capacity; slot++) {
+            long hash = get(segments, slot, ID_HASH);
+            if (hash == EMPTY) {
+                continue;
+            }
+            used++;
+            if (hash != REMOVED) {
+                if (get(segments, slot, ID_OFFSET) >= idsLength) {
+                    put(segments, slot, ID_HASH, REMOVED);
+                } else {
+                    size++;
+                }
+            }
+        }
+        // Counts are saved after the slot, so they may also be stale
+        saveCounts();
+    }
+
+    private static void initialize(FileChannel channel, long capacity) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putLong(0, MAGIC).putInt(8, VERSION).putLong(CAPACITY, capacity);
+        channel.write(header, 0);
+        // Extend the file, the slots read as empty until written
+        channel.write(ByteBuffer.allocate(1), HEADER_SIZE + capacity * SLOT_SIZE - 1);
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel, long capacity) throws IOException {
+        long length = HEADER_SIZE + capacity * SLOT_SIZE;
+        int count = (int) ((length + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+        MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long position = i * SEGMENT_SIZE;
+            segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, position,
+                    Math.min(SEGMENT_SIZE, length - position));
+        }
+        return segments;
+    }
+
+    /**
+     * Get the number of ids in the index
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Start a sync run. Rows not marked with the returned generation during the
+     * run are stale at its end.
+     *
+     * @return generation of the new run
+     */
+    long nextGeneration() {
+        long generation = segments[0].getLong(GENERATION) + 1;
+        segments[0].putLong(GENERATION, generation);
+        return generation;
+    }
+
+    /**
+     * Find the slot of an id
+     *
+     * @param id row id
+     * @return slot of the id, -1 if it is not in the index
+     */
+    long find(String id) {
+        long hash = idHash(id);
+        long mask = capacity - 1;
+        for (long slot = hash & mask;; slot = (slot + 1) & mask) {
+            long current = get(segments, slot, ID_HASH);
+            if (current == EMPTY) {
+                return -1;
+            }
+            if (current == hash) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Get the content hash stored in a slot found by {@link #find(String)}
+     */
+    long contentHash(long slot) {
+        return get(segments, slot, CONTENT_HASH);
+    }
+
+    /**
+     * Mark a slot found by {@link #find(String)} as seen in a sync run
+     */
+    void mark(long slot, long generation) {
+        put(segments, slot, SEEN, generation);
+    }
+
+    /**
+     * Add an id, or update its content hash, and mark it as seen.
+     *
+     * @param id          row id
+     * @param contentHash hash of the row content
+     * @param generation  sync run the row was seen in
+     * @throws IOException if the id cannot be written
+     */
+    void put(String id, long contentHash, long generation) throws IOException {
+        long slot = find(id);
+        if (slot >= 0) {
+            put(segments, slot, CONTENT_HASH, contentHash);
+            put(segments, slot, SEEN, generation);
+            return;
+        }
+        if ((used + 1) * 4 > capacity * 3) {
+            // Rebuild at the same size if most used slots were removed
+            rebuild(size * 2 < capacity ? capacity : capacity * 2);
+        }
+        long hash = idHash(id);
+        long mask = capacity - 1;
+        slot = hash & mask;
+        long current;
+        while ((current = get(segments, slot, ID_HASH)) != EMPTY && current != REMOVED) {
+            slot = (slot + 1) & mask;
+        }
+        if (current == EMPTY) {
+            used++;
+        }
+        size++;
+        write(segments, slot, hash, contentHash, appendId(id), generation);
+        saveCounts();
+    }
+
+    /**
+     * Remove the ids not seen in a sync run, in batches. Each batch is passed
+     * to the action first and removed from the index once the action returns,
+     * so an action that fails leaves its batch, and the ones after it, in the
+     * index for the next run.
+     *
+     * @param generation sync run the current ids were seen in
+     * @param batchSize  maximum number of ids passed to the action at once
+     * @param action     deletes a batch of ids from the knowledge base
+     * @return number of ids removed
+     * @throws IOException if the ids cannot be read
+     */
+    long removeStale(long generation, int batchSize, Consumer<List<String>> action) throws IOException {
+        flushIds();
+        List<String> batch = new ArrayList<>(batchSize);
+        List<Long> slots = new ArrayList<>(batchSize);
+        long removed = 0;
+        for (long slot = 0; slot < capacity; slot++) {
+            long hash = get(segments, slot, ID_HASH);
+            if (hash == EMPTY || hash == REMOVED || get(segments, slot, SEEN) == generation) {
+                continue;
+            }
+            batch.add(readId(get(segments, slot, ID_OFFSET)));
+            slots.add(slot);
+            if (batch.size() == batchSize) {
+                removed += remove(batch, slots, action);
+            }
+        }
+        if (!batch.isEmpty()) {
+            removed += remove(batch, slots, action);
+        }
+        return removed;
+    }
+
+    private long remove(List<String> batch, List<Long> slots, Consumer<List<String>> action) {
+        action.accept(List.copyOf(batch));
+        for (long slot : slots) {
+            put(segments, slot, ID_HASH, REMOVED);
+        }
+        size -= slots.size();
+        saveCounts();
+        int count = slots.size();
+        batch.clear();
+        slots.clear();
+        return count;
+    }
+
+    /**
+     * Write buffered ids and the mapped slots to disk and close the files.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushIds();
+            segments[0].putInt(OPEN, 0);
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private void closeQuietly() {
+        for (Closeable file : new Closeable[] { ids, channel }) {
+            try {
+                if (file != null) {
+                    file.close();
+                }
+            } catch (IOException e) {
+                // Already failing or closed
+            }
+        }
+    }
+
+    private void rebuild(long newCapacity) throws IOException {
+        flushIds();
+        long generation = segments[0].getLong(GENERATION);
+        long newIdsVersion = idsVersion + 1;
+        Path newIdsPath = idsPath(newIdsVersion);
+        Path slotsTemp = path.resolveSibling(path.getFileName() + ".tmp");
+        long newUsed = 0;
+        long newIdsLength = 0;
+        try (FileChannel slotsOut = FileChannel.open(slotsTemp, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+                FileChannel idsOut = FileChannel.open(newIdsPath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            initialize(slotsOut, newCapacity);
+            MappedByteBuffer[] target = map(slotsOut, newCapacity);
+            ByteBuffer out = ByteBuffer.allocate(ID_BUFFER_SIZE);
+            long mask = newCapacity - 1;
+            for (long slot = 0; slot < capacity; slot++) {
+                long hash = get(segments, slot, ID_HASH);
+                if (hash == EMPTY || hash == REMOVED) {
+                    continue;
+                }
+                // Copy the id, dropping the ones of removed slots
+                byte[] id = readIdBytes(get(segments, slot, ID_OFFSET));
+                long idOffset = newIdsLength;
+                newIdsLength += Integer.BYTES + id.length;
+                if (out.remaining() < Integer.BYTES + id.length) {
+                    drain(out, idsOut);
+                }
+                if (out.remaining() < Integer.BYTES + id.length) {
+                    idsOut.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, id.length));
+                    idsOut.write(ByteBuffer.wrap(id));
+                } else {
+                    out.putInt(id.length).put(id);
+                }
+                long targetSlot = hash & mask;
+                while (get(target, targetSlot, ID_HASH) != EMPTY) {
+                    targetSlot = (targetSlot + 1) & mask;
+                }
+                write(target, targetSlot, hash, get(segments, slot, CONTENT_HASH), idOffset,
+                        get(segments, slot, SEEN));
+                newUsed++;
+            }
+            drain(out, idsOut);
+            idsOut.force(false);
+            // The header is written last and names the new ids file
+            target[0].putInt(OPEN, 1).putLong(SIZE, size).putLong(USED, newUsed).putLong(GENERATION, generation)
+                    .putLong(IDS_LENGTH, newIdsLength).putLong(IDS_VERSION, newIdsVersion);
+            for (MappedByteBuffer segment : target) {
+                segment.force();
+            }
+        }
+        // Until the table is complete, the index file and its ids file are untouched. From the
+        // rename on, opening the index finishes the copy.
+        Files.move(slotsTemp, pendingPath, StandardCopyOption.ATOMIC_MOVE);
+        // Copy the table over the mapped index file, which can not be replaced while mapped
+        try (FileChannel pending = FileChannel.open(pendingPath, StandardOpenOption.READ)) {
+            copy(pending, channel);
+        }
+        Files.delete(pendingPath);
+        ids.close();
+        Files.deleteIfExists(idsPath);
+
+        idsVersion = newIdsVersion;
+        idsPath = newIdsPath;
+        ids = FileChannel.open(idsPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        capacity = newCapacity;
+        used = newUsed;
+        idsLength = newIdsLength;
+        segments = map(channel, capacity);
+    }
+
+    private static void copy(FileChannel from, FileChannel to) throws IOException {
+        long length = from.size();
+        long copied = 0;
+        while (copied < length) {
+            copied += to.transferFrom(from.position(copied), copied, length - copied);
+        }
+        to.force(false);
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private long appendId(String id) throws IOException {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        long offset = idsLength;
+        if (idBuffer.remaining() < Integer.BYTES + bytes.length) {
+            flushIds();
+        }
+        if (idBuffer.remaining() < Integer.BYTES + bytes.length) {
+            // Longer than the buffer
+            ids.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, bytes.length), offset);
+            ids.write(ByteBuffer.wrap(bytes), offset + Integer.BYTES);
+        } else {
+            idBuffer.putInt(bytes.length).put(bytes);
+        }
+        idsLength += Integer.BYTES + bytes.length;
+        return offset;
+    }
+
+    private void flushIds() throws IOException {
+        idBuffer.flip();
+        long position = idsLength - idBuffer.remaining();
+        while (idBuffer.hasRemaining()) {
+            position += ids.write(idBuffer, position);
+        }
+        idBuffer.clear();
+        segments[0].putLong(IDS_LENGTH, idsLength);
+    }
+
+    private String readId(long offset) throws IOException {
+        return new String(readIdBytes(offset), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readIdBytes(long offset) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        readFully(length, offset);
+        ByteBuffer bytes = ByteBuffer.allocate(length.getInt(0));
+        readFully(bytes, offset + Integer.BYTES);
+        return bytes.array();
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = ids.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Knowledge base sync index ids are truncated: " + idsPath);
+            }
+        }
+    }
+
+    private void saveCounts() {
+        segments[0].putLong(SIZE, size).putLong(USED, used);
+    }
+
+    private static void write(MappedByteBuffer[] segments, long slot, long hash, long contentHash, long idOffset,
+            long generation) {
+        put(segments, slot, CONTENT_HASH, contentHash);
+        put(segments, slot, ID_OFFSET, idOffset);
+        put(segments, slot, SEEN, generation);
+        // Written last, a slot is only used once it is complete
+        put(segments, slot, ID_HASH, hash);
+    }
+
+    // Segments are a multiple of the slot size, so a slot never spans two of them
+    private static long get(MappedByteBuffer[] segments, long slot, int field) {
+        long position = HEADER_SIZE + slot * SLOT_SIZE + field;
+        return segments[(int) (position / SEGMENT_SIZE)].getLong((int) (position % SEGMENT_SIZE));
+    }
+
+    private static void put(MappedByteBuffer[] segments, long slot, int field, long value) {
+        long position = HEADER_SIZE + slot * SLOT_SIZE + field;
+        segments[(int) (position / SEGMENT_SIZE)].putLong((int) (position % SEGMENT_SIZE), value);
+    }
+
+    /**
+     * Hash a row id. Never returns the markers of empty and removed slots.
+     */
+    static long idHash(String id) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < id.length(); i++) {
+            hash = (hash ^ id.charAt(i)) * FNV_PRIME;
+        }
+        hash = mix(hash);
+        return hash == EMPTY || hash == REMOVED ? hash + 2 : hash;
+    }
+
+    /**
+     * Hash the values of some columns of a row. Missing values and column
+     * boundaries are part of the hash, so {@code ("ab", null)} and
+     * {@code ("a", "b")} differ.
+     *
+     * @param row     result row
+     * @param columns indexes of the hashed columns
+     * @return 64-bit hash of the values
+     */
+    static long rowHash(ResultRow row, int[] columns) {
+        long hash = FNV_OFFSET;
+        for (int column : columns) {
+            String value = row.get(column);
+            if (value == null) {
+                // Outside the char range, so no string hashes the same way
+                hash = (hash ^ 0x10000) * FNV_PRIME;
+            } else {
+                for (int i = 0; i < value.length(); i++) {
+                    hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+                }
+            }
+            hash = (hash ^ 0x10001) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    // Final mix of MurmurHash3, spreads FNV output over all bits
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
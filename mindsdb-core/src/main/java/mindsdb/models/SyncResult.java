@@ -0,0 +1,38 @@
+package mindsdb.models;
+
+import lombok.Getter;
+
+/**
+ * Summary of a {@link KnowledgeBase#sync(mindsdb.services.Query, java.nio.file.Path)} run.
+ *
+ * <p>
+ * Only new and changed rows are inserted, so the rows the server embeds are
+ * {@code insertedRows + updatedRows}; unchanged rows are skipped.
+ * </p>
+ */
+@Getter
+public class SyncResult {
+    private final long sourceRows;
+    private final long insertedRows;
+    private final long updatedRows;
+    private final long unchangedRows;
+    private final long deletedRows;
+    private final long elapsedNanos;
+
+    SyncResult(long sourceRows, long insertedRows, long updatedRows, long unchangedRows, long deletedRows,
+            long elapsedNanos) {
+        this.sourceRows = sourceRows;
+        this.insertedRows = insertedRows;
+        this.updatedRows = updatedRows;
+        this.unchangedRows = unchangedRows;
+        this.deletedRows = deletedRows;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(source=%d, inserted=%d, updated=%d, unchanged=%d, deleted=%d, seconds=%.1f)",
+                getClass().getSimpleName(), sourceRows, insertedRows, updatedRows, unchangedRows, deletedRows,
+                elapsedNanos / 1_000_000_000.0);
+    }
+}
@@ -225,9 +225,10 @@ public class Agent {
      * @param filePaths - list of file paths
      * @param description - description of the files
      * @param knowledgebase - knowledgebase
+     * @return result of each file
      */
-    public void addFiles(List<String> filePaths, String description, String knowledgebase) {
-        this.agents.addFiles(this.name, filePaths, description, knowledgebase);
+    public List<AgentFileResult> addFiles(List<String> filePaths, String description, String knowledgebase) {
+        return this.agents.addFiles(this.name, filePaths, description, knowledgebase);
     }
 
     /**
@@ -236,9 +237,10 @@ public class Agent {
      * @param filePath - file path
      * @param description - description of the file
      * @param knowledgebase - knowledgebase
+     * @return result of the file
      */
-    public void addFile(String filePath, String description, String knowledgebase) {
-        this.agents.addFile(this.name, filePath, description, knowledgebase);
+    public AgentFileResult addFile(String filePath, String description, String knowledgebase) {
+        return this.agents.addFile(this.name, filePath, description, knowledgebase);
     }
 
     /**
@@ -0,0 +1,64 @@
+package mindsdb.models.agent;
+
+import lombok.Getter;
+
+/**
+ * Represents the outcome of adding one file to an agent.
+ *
+ * Attributes:
+ * fileName: Name of the file on the MindsDB server, without extension.
+ * filePath: Local path of the file.
+ * status: Whether the file was uploaded, already on the server or failed.
+ * error: Only set for failed files. The error raised by the upload.
+ */
+@Getter
+public class AgentFileResult {
+
+    /**
+     * Status of a file added to an agent.
+     */
+    public enum Status {
+        /** The file was uploaded and inserted into the knowledge base */
+        UPLOADED,
+        /** The file was already on the server and was inserted into the knowledge base */
+        EXISTING,
+        /** The upload failed, the file was not inserted into the knowledge base */
+        FAILED
+    }
+
+    private final String fileName;
+    private final String filePath;
+    private final Status status;
+    private final RuntimeException error;
+
+    /**
+     * Constructs a new AgentFileResult instance.
+     *
+     * @param fileName Name of the file on the server.
+     * @param filePath Local path of the file.
+     * @param status   Status of the file.
+     * @param error    Error of a failed upload, null otherwise.
+     */
+    public AgentFileResult(String fileName, String filePath, Status status, RuntimeException error) {
+        this.fileName = fileName;
+        this.filePath = filePath;
+        this.status = status;
+        this.error = error;
+    }
+
+    /**
+     * Check whether the file is available to the knowledge base.
+     *
+     * @return true if the file was uploaded or already on the server
+     */
+    public boolean isAvailable() {
+        return status != Status.FAILED;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(file: %s, status: %s%s)", this.getClass().getSimpleName(), fileName, status,
+                error != null ? ", error: " + error.getMessage() : "");
+    }
+
+}
@@ -3,13 +3,18 @@ package mindsdb.services;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
@@ -24,7 +29,9 @@ import mindsdb.models.Model;
 import mindsdb.models.Project;
 import mindsdb.models.agent.Agent;
 import mindsdb.models.agent.AgentCompletion;
+import mindsdb.models.agent.AgentFileResult;
 import mindsdb.models.skill.Skill;
+import mindsdb.utils.DaemonThreadFactory;
 import mindsdb.utils.HttpException;
 
 /**
@@ -97,6 +104,7 @@ public class Agents {
     private final MLEngines mlEngines;
 
     private static final String DEFAULT_LLM_MODEL = "gpt-4o";
+    private static final int DEFAULT_UPLOAD_CONCURRENCY = 4;
     private static final String DEFAULT_LLM_PROMPT = "Answer the user's question in a helpful way: {{question}}";
 
     /**
@@ -237,47 +245,117 @@ public class Agents {
     }
 
     /**
-     * Add files to an agent
+     * Add files to an agent. Files not on the server yet are uploaded by up to
+     * {@value #DEFAULT_UPLOAD_CONCURRENCY} threads while the knowledge base is set
+     * up.
      * 
      * @param name          - Name of the agent
      * @param filePaths     - List of file paths
      * @param description   - Description of the files
      * @param knowledgeBase - Name of the knowledge base
+     * @return Result of each file, in the order given
+     * @see #addFiles(String, List, String, String, int)
      */
-    public void addFiles(String name, List<String> filePaths, String description, String knowledgeBase) {
+    public List<AgentFileResult> addFiles(String name, List<String> filePaths, String description,
+            String knowledgeBase) {
+        return this.addFiles(name, filePaths, description, knowledgeBase, DEFAULT_UPLOAD_CONCURRENCY);
+    }
+
+    /**
+     * Add files to an agent.
+     * 
+     * <p>
+     * The files already on the server are found with one listing and the others
+     * are uploaded in parallel. While the uploads run, the agent is fetched and
+     * the knowledge base is looked up, or created and its embedding model trained
+     * if no name is given. The files that are available are then inserted into the
+     * knowledge base together. A failed upload does not stop the other files, it
+     * is reported in the results. If none of the files is available, the
+     * knowledge base created for them is dropped again.
+     * </p>
+     * 
+     * @param name          - Name of the agent
+     * @param filePaths     - List of file paths
+     * @param description   - Description of the files
+     * @param knowledgeBase - Name of the knowledge base
+     * @param concurrency   - Maximum number of files uploaded at the same time
+     * @return Result of each file, in the order given
+     * @throws RuntimeException if none of the files could be uploaded
+     */
+    public List<AgentFileResult> addFiles(String name, List<String> filePaths, String description,
+            String knowledgeBase, int concurrency) {
         if (filePaths == null) {
-            return;
+            return List.of();
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
         }
 
         String fileNameNoExtension = "";
         List<String> allFileNames = new ArrayList<>();
+        Map<String, String> filePathsByName = new LinkedHashMap<>();
 
         for (String filePath : filePaths) {
             String fileName = filePath.substring(filePath.lastIndexOf('/') + 1).toLowerCase();
             fileNameNoExtension = fileName.substring(0, fileName.lastIndexOf("."));
             allFileNames.add(fileNameNoExtension);
+            filePathsByName.putIfAbsent(fileNameNoExtension, filePath);
+        }
 
-            try {
-                this.api.getFileMetadata(fileNameNoExtension);
-            } catch (HttpException e) {
-                if (e.getStatusCode() >= 400 && e.getStatusCode() != 404) {
-                    throw e;
-                }
-                this.api.uploadFile(fileName, filePath);
+        // One listing of the server files for the whole batch
+        Set<String> missing = this.api.getFileCatalog().missing(allFileNames);
+        Map<String, CompletableFuture<AgentFileResult>> uploads = new LinkedHashMap<>();
+        ExecutorService executor = missing.isEmpty() ? null
+                : Executors.newFixedThreadPool(Math.min(concurrency, missing.size()),
+                        new DaemonThreadFactory("mindsdb-agent-upload"));
+        KnowledgeBase kb;
+        Agent agent;
+        try {
+            for (String fileName : missing) {
+                String filePath = filePathsByName.get(fileName);
+                uploads.put(fileName, CompletableFuture.supplyAsync(() -> uploadFile(fileName, filePath), executor));
+            }
+
+            // Set up the knowledge base while the files are uploaded
+            agent = this.get(name);
+            if (knowledgeBase != null) {
+                kb = this.knowledgeBases.get(knowledgeBase);
+            } else {
+                String kbName = String.format("%s_%s_%s_kb", name.toLowerCase(), fileNameNoExtension,
+                        UUID.randomUUID().toString().replace("-", ""));
+                kb = createDefaultKnowledgeBase(agent, kbName);
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdown();
             }
         }
 
-        Agent agent = this.get(name);
-        KnowledgeBase kb;
-        if (knowledgeBase != null) {
-            kb = this.knowledgeBases.get(knowledgeBase);
-        } else {
-            String kbName = String.format("%s_%s_%s_kb", name.toLowerCase(), fileNameNoExtension,
-                    UUID.randomUUID().toString().replace("-", ""));
-            kb = createDefaultKnowledgeBase(agent, kbName);
+        List<AgentFileResult> results = new ArrayList<>();
+        List<String> availableFileNames = new ArrayList<>();
+        for (Map.Entry<String, String> file : filePathsByName.entrySet()) {
+            CompletableFuture<AgentFileResult> upload = uploads.get(file.getKey());
+            AgentFileResult result = upload != null ? upload.join()
+                    : new AgentFileResult(file.getKey(), file.getValue(), AgentFileResult.Status.EXISTING, null);
+            results.add(result);
+            if (result.isAvailable()) {
+                availableFileNames.add(result.getFileName());
+            }
+        }
+        if (availableFileNames.isEmpty()) {
+            RuntimeException failure = new RuntimeException("Failed to upload files: " + results);
+            if (knowledgeBase == null) {
+                // Do not leave the knowledge base created for these files behind
+                try {
+                    this.knowledgeBases.drop(kb.getName());
+                } catch (RuntimeException e) {
+                    failure.addSuppressed(e);
+                }
+            }
+            throw failure;
         }
 
-        kb.insertFiles(allFileNames);
+        kb.insertFiles(availableFileNames);
         String skillName = String.format("%s_retrieval_skill_%s", fileNameNoExtension,
                 UUID.randomUUID().toString().replace("-", ""));
         Map<String, Object> retrievalParams = Map.of(
@@ -286,6 +364,17 @@ public class Agents {
         Skill fileRetrievalSkill = this.skills.create(skillName, "retrieval", retrievalParams);
         agent.getSkills().add(fileRetrievalSkill);
         this.update(agent.getName(), agent);
+        return results;
+    }
+
+    private AgentFileResult uploadFile(String fileName, String filePath) {
+        try {
+            this.api.uploadFile(filePath.substring(filePath.lastIndexOf('/') + 1).toLowerCase(),
+                    Paths.get(filePath));
+            return new AgentFileResult(fileName, filePath, AgentFileResult.Status.UPLOADED, null);
+        } catch (RuntimeException e) {
+            return new AgentFileResult(fileName, filePath, AgentFileResult.Status.FAILED, e);
+        }
     }
 
     /**
@@ -295,9 +384,10 @@ public class Agents {
      * @param filePath      - File path
      * @param description   - Description of the file
      * @param knowledgeBase - Name of the knowledge base
+     * @return Result of the file
      */
-    public void addFile(String name, String filePath, String description, String knowledgeBase) {
-        this.addFiles(name, List.of(filePath), description, knowledgeBase);
+    public AgentFileResult addFile(String name, String filePath, String description, String knowledgeBase) {
+        return this.addFiles(name, List.of(filePath), description, knowledgeBase).get(0);
     }
 
     /**
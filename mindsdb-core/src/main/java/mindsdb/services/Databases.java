@@ -4,8 +4,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import mindsdb.connectors.CatalogCache;
 import mindsdb.connectors.RestAPI;
 import mindsdb.models.Database;
+import mindsdb.sql.Assignments;
+import mindsdb.sql.Identifier;
+import mindsdb.sql.Literal;
+import mindsdb.sql.SqlWriter;
+import mindsdb.sql.Statement;
 import tech.tablesaw.api.Table;
 
 /**
@@ -45,7 +51,11 @@ public class Databases {
     }
 
     private List<Database> listDatabases() {
-        Table response = api.sqlQuery("select NAME, ENGINE from information_schema.databases where TYPE='data'");
+        return listDatabases("select NAME, ENGINE from information_schema.databases where TYPE='data'");
+    }
+
+    private List<Database> listDatabases(String sql) {
+        Table response = api.sqlQuery(sql);
         return response.stream().map(row -> {
             String name = row.getString("NAME");
             String engine = row.getString("ENGINE");
@@ -70,10 +80,33 @@ public class Databases {
      * @return Database object
      */
     public Database get(String name) {
-        return listDatabases().stream()
+        CatalogCache cache = api.getCatalogCache();
+        Database database = cache != null ? cache.get("database", name, () -> findDatabase(name))
+                : findDatabase(name);
+        if (database == null) {
+            throw new IllegalArgumentException("Database doesn't exist");
+        }
+        return database;
+    }
+
+    private Database findDatabase(String name) {
+        String sql = "select NAME, ENGINE from information_schema.databases where TYPE='data' AND NAME="
+                + SqlWriter.quoteLiteral(name);
+        return listDatabases(sql).stream()
                 .filter(database -> database.getName().equals(name))
                 .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Database doesn't exist"));
+                .orElse(null);
+    }
+
+    /**
+     * Remove cached lookups of a name. Databases and projects share one namespace.
+     */
+    static void invalidateCatalog(RestAPI api, String name) {
+        CatalogCache cache = api.getCatalogCache();
+        if (cache != null) {
+            cache.invalidate("database", name);
+            cache.invalidate("project", name);
+        }
     }
 
     /**
@@ -86,23 +119,13 @@ public class Databases {
      */
     public Database create(String name, String engine, Map<String, String> connectionArgs) {
 
-        StringBuilder astQuery = new StringBuilder(
-                "CREATE DATABASE " + name + " ENGINE = " + "'" + engine + "'");
-
+        Assignments settings = new Assignments().add("ENGINE", Literal.of(engine));
         if (connectionArgs != null && !connectionArgs.isEmpty()) {
-            astQuery.append(", PARAMETERS = { ");
-            for (Map.Entry<String, String> entry : connectionArgs.entrySet()) {
-                astQuery.append("\\\"").append(entry.getKey().replace("\"", "\\\"")).append("\\\"")
-                        .append(": ")
-                        .append("\\\"").append(entry.getValue().replace("\"", "\\\"")).append("\\\"")
-                        .append(", ");
-            }
-            // Remove the trailing comma and space, and close the PARAMETERS object
-            astQuery.setLength(astQuery.length() - 2);
-            astQuery.append(" }");
+            settings.add("PARAMETERS", Literal.of(connectionArgs));
         }
-        astQuery = new StringBuilder(astQuery + ";");
-        api.sqlQuery(astQuery.toString());
+        Statement astQuery = Statement.of("CREATE DATABASE").append(Identifier.of(name)).append(settings).terminated();
+        api.sqlQuery(astQuery.toSql());
+        invalidateCatalog(api, name);
         return new Database(this.api, name, engine);
     }
 
@@ -112,8 +135,9 @@ public class Databases {
      * @param name - database name
      */
     public void drop(String name) {
-        String astQuery = String.format("DROP DATABASE %s", name);
+        String astQuery = Statement.of("DROP DATABASE").append(Identifier.of(name)).toSql();
         api.sqlQuery(astQuery);
+        invalidateCatalog(api, name);
     }
 
 }
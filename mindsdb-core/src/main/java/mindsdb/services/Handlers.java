@@ -5,8 +5,10 @@ import java.util.stream.Collectors;
 
 import com.google.gson.JsonObject;
 
+import mindsdb.connectors.CatalogCache;
 import mindsdb.connectors.RestAPI;
 import mindsdb.models.Handler;
+import mindsdb.sql.SqlWriter;
 import tech.tablesaw.api.Table;
 
 /**
@@ -40,7 +42,11 @@ public class Handlers {
      * @return A list of handlers.
      */
     public List<Handler> list() {
-        Table response = api.sqlQuery(String.format("SHOW HANDLERS WHERE TYPE='%s';", type));
+        return list(String.format("SHOW HANDLERS WHERE TYPE='%s';", type));
+    }
+
+    private List<Handler> list(String sql) {
+        Table response = api.sqlQuery(sql);
 
         return response.stream().map(row -> {
             JsonObject args = new JsonObject();
@@ -59,10 +65,22 @@ public class Handlers {
      * @throws IllegalArgumentException if the handler does not exist.
      */
     public Handler get(String name) {
-        return list().stream()
+        CatalogCache cache = api.getCatalogCache();
+        Handler handler = cache != null ? cache.get("handler:" + type, name, () -> findHandler(name))
+                : findHandler(name);
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler doesn't exist");
+        }
+        return handler;
+    }
+
+    private Handler findHandler(String name) {
+        String sql = String.format("SHOW HANDLERS WHERE TYPE=%s AND NAME=%s;", SqlWriter.quoteLiteral(type),
+                SqlWriter.quoteLiteral(name));
+        return list(sql).stream()
                 .filter(handler -> handler.getName().equals(name))
                 .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Handler doesn't exist"));
+                .orElse(null);
     }
 
 }
\ No newline at end of file
@@ -11,6 +11,12 @@ import java.util.stream.Collectors;
 import mindsdb.connectors.RestAPI;
 import mindsdb.models.Job;
 import mindsdb.models.Project;
+import mindsdb.sql.Comparison;
+import mindsdb.sql.Identifier;
+import mindsdb.sql.Literal;
+import mindsdb.sql.Raw;
+import mindsdb.sql.Select;
+import mindsdb.sql.Statement;
 import mindsdb.utils.CreateJobCallback;
 import tech.tablesaw.api.Table;
 
@@ -39,13 +45,13 @@ public class Jobs {
      * @return list of Job objects
      */
     private List<Job> listJobs(String name) {
-        String astQuery = String.format("SELECT * FROM %s.jobs", project.getName());
+        Select astQuery = Select.from(Identifier.of(project.getName(), "jobs"));
 
         if (name != null) {
-            astQuery += String.format(" WHERE name='%s';", name);
+            astQuery = astQuery.where(Comparison.equal("name", name)).terminated();
         }
 
-        Table response = api.sqlQuery(astQuery, this.project.getName());
+        Table response = api.sqlQuery(astQuery.toSql(), this.project.getName());
 
         if (response == null) {
             return new ArrayList<>();
@@ -98,29 +104,28 @@ public class Jobs {
     public Job create(String name, String queryStr, LocalDateTime startAt, LocalDateTime endAt, String repeatStr,
             Integer repeatMin) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        String startStr = (startAt != null) ? " START " + String.format("'%s'", startAt.format(formatter)) : null;
-        String endStr = (endAt != null) ? " END " + String.format("'%s'", endAt.format(formatter)) : null;
-        final String finalRepeatStr = (repeatMin != null) ? " EVERY " + repeatMin + " minutes"
-                : repeatStr != null ? " EVERY " + repeatStr : null;
+        String startStr = (startAt != null) ? startAt.format(formatter) : null;
+        String endStr = (endAt != null) ? endAt.format(formatter) : null;
+        final String finalRepeatStr = (repeatMin != null) ? repeatMin + " minutes" : repeatStr;
 
         CreateJobCallback createCallback = (query) -> {
-            StringBuilder astQuery = new StringBuilder("CREATE JOB " + name);
+            Statement astQuery = Statement.of("CREATE JOB").append(Identifier.of(name));
             if (query != null) {
-                astQuery.append(" (").append(query).append(")");
+                astQuery.appendParenthesized(Raw.of(query));
             }
 
             if (startStr != null) {
-                astQuery.append(startStr);
+                astQuery.append("START", Literal.of(startStr));
             }
 
             if (endStr != null) {
-                astQuery.append(endStr);
+                astQuery.append("END", Literal.of(endStr));
             }
 
             if (finalRepeatStr != null) {
-                astQuery.append(finalRepeatStr);
+                astQuery.append("EVERY", Raw.of(finalRepeatStr));
             }
-            api.sqlQuery(astQuery.toString(), project.getName());
+            api.sqlQuery(astQuery.toSql(), project.getName());
         };
 
         if (queryStr == null) {
@@ -261,7 +266,7 @@ public class Jobs {
      * @param name name of the job
      */
     public void drop(String name) {
-        String astQuery = String.format("DROP JOB %s", name);
+        String astQuery = Statement.of("DROP JOB").append(Identifier.of(name)).toSql();
         api.sqlQuery(astQuery, project.getName());
     }
 }
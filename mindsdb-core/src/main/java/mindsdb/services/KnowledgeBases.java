@@ -5,11 +5,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import kong.unirest.core.json.JSONObject;
 import mindsdb.connectors.RestAPI;
 import mindsdb.models.KnowledgeBase;
 import mindsdb.models.Model;
 import mindsdb.models.Project;
+import mindsdb.sql.Assignments;
+import mindsdb.sql.Identifier;
+import mindsdb.sql.Literal;
+import mindsdb.sql.Statement;
 import tech.tablesaw.api.Row;
 import tech.tablesaw.columns.Column;
 
@@ -112,25 +115,23 @@ public class KnowledgeBases {
             paramsOut.putAll(params);
         }
 
-        String astQuery = "CREATE KNOWLEDGE BASE " + project.getName() + "." + name;
+        Statement astQuery = Statement.of("CREATE KNOWLEDGE BASE").append(Identifier.of(project.getName(), name));
 
-        String modelName = model != null ? String.format("%s.%s", model.getProject().getName(), model.getName()) : null;
-        String storageName = storage != null ? String.format("%s.%s", storage.getDb().getName(), storage.getName()) : null;
-
-        if (modelName != null || storageName != null || !paramsOut.isEmpty()) {
-            astQuery += " USING";
-            if (modelName != null) {
-                astQuery += " MODEL = " + modelName;
-            }
-            if (storageName != null) {
-                astQuery += " STORAGE = " + storageName;
-            }
-            if (!paramsOut.isEmpty()) {
-                astQuery += " PARAMS = " + new JSONObject(paramsOut).toString();
-            }
+        Assignments using = new Assignments();
+        if (model != null) {
+            using.add("MODEL", Identifier.of(model.getProject().getName(), model.getName()));
+        }
+        if (storage != null) {
+            using.add("STORAGE", Identifier.of(storage.getDb().getName(), storage.getName()));
+        }
+        if (!paramsOut.isEmpty()) {
+            using.add("PARAMS", Literal.of(paramsOut));
+        }
+        if (!using.isEmpty()) {
+            astQuery.append("USING", using);
         }
 
-        api.sqlQuery(astQuery, project.getName());
+        api.sqlQuery(astQuery.toSql(), project.getName());
 
         return get(name);
     }
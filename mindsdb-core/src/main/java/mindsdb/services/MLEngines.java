@@ -5,9 +5,14 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import kong.unirest.core.json.JSONObject;
+import mindsdb.connectors.CatalogCache;
 import mindsdb.connectors.RestAPI;
 import mindsdb.models.Handler;
 import mindsdb.models.MLEngine;
+import mindsdb.sql.Assignments;
+import mindsdb.sql.Identifier;
+import mindsdb.sql.SqlWriter;
+import mindsdb.sql.Statement;
 import tech.tablesaw.api.Table;
 
 /**
@@ -25,7 +30,11 @@ public class MLEngines {
     }
 
     private List<MLEngine> _listMLEngines() {
-        Table response = api.sqlQuery("SHOW ML_ENGINES;");
+        return _listMLEngines("SHOW ML_ENGINES;");
+    }
+
+    private List<MLEngine> _listMLEngines(String sql) {
+        Table response = api.sqlQuery(sql);
 
         return response.stream().map(row -> {
             String name = row.getString("name");
@@ -52,10 +61,28 @@ public class MLEngines {
      * @return MLEngine object
      */
     public MLEngine get(String name) {
-        return _listMLEngines().stream()
+        CatalogCache cache = api.getCatalogCache();
+        MLEngine engine = cache != null ? cache.get("ml_engine", name, () -> findMLEngine(name))
+                : findMLEngine(name);
+        if (engine == null) {
+            throw new IllegalArgumentException("MLEngine doesn't exist");
+        }
+        return engine;
+    }
+
+    private MLEngine findMLEngine(String name) {
+        String sql = "SHOW ML_ENGINES WHERE name = " + SqlWriter.quoteLiteral(name) + ";";
+        return _listMLEngines(sql).stream()
                 .filter(engine -> engine.getName().equals(name))
                 .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("MLEngine doesn't exist"));
+                .orElse(null);
+    }
+
+    private void invalidateCatalog(String name) {
+        CatalogCache cache = api.getCatalogCache();
+        if (cache != null) {
+            cache.invalidate("ml_engine", name);
+        }
     }
 
     /**
@@ -77,18 +104,15 @@ public class MLEngines {
      * @return MLEngine object
      */
     public MLEngine create(String name, String handlerName, Map<String, String> connectionData) {
-        StringBuilder astQuery = new StringBuilder("CREATE ML_ENGINE IF NOT EXISTS " + name + " FROM " + handlerName);
-        if (connectionData != null) {
-            astQuery.append(" USING ");
-            for (String key : connectionData.keySet()) {
-                astQuery.append(key).append("=").append(connectionData.get(key)).append(", ");
-            }
-            // Remove the trailing comma and space
-            astQuery.setLength(astQuery.length() - 2);
+        Statement astQuery = Statement.of("CREATE ML_ENGINE IF NOT EXISTS").append(Identifier.of(name))
+                .append("FROM", Identifier.of(handlerName));
+        if (connectionData != null && !connectionData.isEmpty()) {
+            astQuery.append("USING", Assignments.of(connectionData));
         }
-        astQuery.append(";");
+        astQuery.terminated();
 
-        api.sqlQuery(astQuery.toString());
+        api.sqlQuery(astQuery.toSql());
+        invalidateCatalog(name);
         return new MLEngine(name, handlerName, connectionData);
     }
 
@@ -119,8 +143,9 @@ public class MLEngines {
      * @param name  - name of the engine
      */
     public void drop(String name) {
-        String astQuery = String.format("DROP ML_ENGINE %s;", name);
+        String astQuery = Statement.of("DROP ML_ENGINE").append(Identifier.of(name)).terminated().toSql();
         api.sqlQuery(astQuery);
+        invalidateCatalog(name);
     }
 
 }
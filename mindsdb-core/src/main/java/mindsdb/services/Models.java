@@ -8,6 +8,10 @@ import mindsdb.connectors.RestAPI;
 import mindsdb.models.Model;
 import mindsdb.models.ModelVersion;
 import mindsdb.models.Project;
+import mindsdb.sql.Assignments;
+import mindsdb.sql.Identifier;
+import mindsdb.sql.Raw;
+import mindsdb.sql.Statement;
 import tech.tablesaw.api.Table;
 
 /**
@@ -148,37 +152,34 @@ public class Models {
             Map<String, Object> timeseriesOptions) {
 
 
-        StringBuilder astQuery = new StringBuilder();
-
-        // Start building the query
-        String modelName = this.project.getName() + "." + name;
-        astQuery.append("CREATE MODEL ").append(modelName);
+        Statement astQuery = Statement.of("CREATE MODEL").append(Identifier.of(this.project.getName(), name));
 
         if (query != null) {
-            astQuery.append(" FROM ").append(database).append(" (").append(query).append(")");
+            astQuery.append("FROM", Identifier.parse(database != null ? database : this.project.getName()))
+                    .appendParenthesized(Raw.of(query));
         }
 
         if (predict != null) {
-            astQuery.append(" PREDICT ").append(predict);
+            astQuery.append("PREDICT", Identifier.parse(predict));
         }
 
         if (timeseriesOptions != null) {
             if (timeseriesOptions.containsKey("order")) {
-                astQuery.append(" ORDER BY ").append(timeseriesOptions.get("order"));
+                astQuery.append("ORDER BY", Identifier.parse(timeseriesOptions.get("order").toString()));
             }
             if (timeseriesOptions.containsKey("group")) {
                 Object group = timeseriesOptions.get("group");
                 if (group instanceof String) {
-                    astQuery.append(" GROUP BY ").append(group);
+                    astQuery.append("GROUP BY", Identifier.parse((String) group));
                 } else if (group instanceof List) {
-                    astQuery.append(" GROUP BY ").append(String.join(", ", (List<String>) group));
+                    astQuery.append("GROUP BY", Identifier.list((List<String>) group));
                 }
             }
             if (timeseriesOptions.containsKey("window")) {
-                astQuery.append(" WINDOW ").append(timeseriesOptions.get("window"));
+                astQuery.append("WINDOW", Raw.of(timeseriesOptions.get("window").toString()));
             }
             if (timeseriesOptions.containsKey("horizon")) {
-                astQuery.append(" HORIZON ").append(timeseriesOptions.get("horizon"));
+                astQuery.append("HORIZON", Raw.of(timeseriesOptions.get("horizon").toString()));
             }
         }
 
@@ -194,28 +195,12 @@ public class Models {
         }
 
         if (!modelOptions.isEmpty()) {
-            astQuery.append(" USING ");
-            modelOptions.forEach((key, value) -> {
-                if (value instanceof String) {
-                    astQuery.append(key).append(" = ").append("\'").append(value).append("\', ");
-                } else if (value instanceof List) {
-                    astQuery.append(key).append(" = ").append("[");
-                    ((List<String>) value).forEach(v -> astQuery.append("\'").append(v).append("\', "));
-                    // Remove the trailing comma and space
-                    astQuery.setLength(astQuery.length() - 2);
-                    astQuery.append("], ");
-
-                } else {
-                    astQuery.append(key).append(" = ").append(value).append(", ");
-                }
-            });
-            // Remove the trailing comma and space
-            astQuery.setLength(astQuery.length() - 2);
+            astQuery.append("USING", Assignments.of(modelOptions));
         }
 
-        astQuery.append(";");
+        astQuery.terminated();
 
-        Table modelData = project.getApi().sqlQuery(astQuery.toString());
+        Table modelData = project.getApi().sqlQuery(astQuery.toSql());
 
         Map<String, Object> dataMap = new HashMap<>();
         for (String columnName : modelData.columnNames()) {
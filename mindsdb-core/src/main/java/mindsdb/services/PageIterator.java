@@ -0,0 +1,139 @@
+package mindsdb.services;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import mindsdb.connectors.RestAPI;
+import mindsdb.utils.DaemonThreadFactory;
+import mindsdb.utils.PageQueryBuilder;
+import tech.tablesaw.api.Table;
+
+/**
+ * Iterator over the pages of a query result.
+ *
+ * <p>
+ * While the caller processes a page, the next page is already being fetched on a
+ * background thread, so network time overlaps with the caller's work. Iteration
+ * stops at the first page with fewer rows than the page size, or once the
+ * maximum number of rows has been fetched. When the rows end exactly at a page
+ * boundary, the empty page fetched after the last full one is not returned, so
+ * {@link #hasNext()} waits for the prefetched page.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * try (PageIterator pages = table.fetchPages(10000, "id")) {
+ *     while (pages.hasNext()) {
+ *         Table page = pages.next();
+ *     }
+ * }
+ * }
+ * </pre>
+ */
+public class PageIterator implements Iterator<Table>, AutoCloseable {
+    private final RestAPI api;
+    private final String database;
+    private final int pageSize;
+    private final Integer maxRows;
+    private final PageQueryBuilder builder;
+    private final ExecutorService executor;
+    private CompletableFuture<Table> pending;
+    // Page taken from pending by hasNext, returned by the next call to next
+    private Table ready;
+    private int fetched;
+    private boolean done;
+
+    /**
+     * Constructs a new PageIterator and starts fetching the first page.
+     * @param api  RestAPI object
+     * @param database Database to execute the page queries on
+     * @param pageSize Number of rows per page
+     * @param maxRows Maximum number of rows to fetch in total, null for no limit
+     * @param builder Builder of the page queries
+     */
+    public PageIterator(RestAPI api, String database, int pageSize, Integer maxRows, PageQueryBuilder builder) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        this.api = api;
+        this.database = database;
+        this.pageSize = pageSize;
+        this.maxRows = maxRows;
+        this.builder = builder;
+        this.executor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("mindsdb-page-prefetch"));
+        prefetch(null);
+    }
+
+    private void prefetch(Table previousPage) {
+        int limit = maxRows != null ? Math.min(pageSize, maxRows - fetched) : pageSize;
+        if (limit <= 0) {
+            pending = null;
+            close();
+            return;
+        }
+        int offset = fetched;
+        pending = CompletableFuture.supplyAsync(
+                () -> api.sqlQuery(builder.build(previousPage, offset, limit), database), executor);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (ready != null) {
+            return true;
+        }
+        if (done || pending == null) {
+            return false;
+        }
+        Table page;
+        try {
+            page = pending.join();
+        } catch (CompletionException e) {
+            close();
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        if (page == null) {
+            page = Table.create();
+        }
+        if (page.rowCount() == 0 && fetched > 0) {
+            // The previous full page was the last one
+            close();
+            return false;
+        }
+        ready = page;
+        return true;
+    }
+
+    @Override
+    public Table next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Table page = ready;
+        ready = null;
+
+        fetched += page.rowCount();
+        if (page.rowCount() < pageSize) {
+            close();
+        } else {
+            // Fetch the next page while the caller works on this one
+            prefetch(page);
+        }
+        return page;
+    }
+
+    /**
+     * Stop prefetching and release the background thread.
+     */
+    @Override
+    public void close() {
+        done = true;
+        if (pending != null && !pending.isDone()) {
+            pending.cancel(true);
+        }
+        executor.shutdownNow();
+    }
+}
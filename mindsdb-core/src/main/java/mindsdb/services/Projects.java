@@ -3,8 +3,10 @@ package mindsdb.services;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import mindsdb.connectors.CatalogCache;
 import mindsdb.connectors.RestAPI;
 import mindsdb.models.Project;
+import mindsdb.sql.SqlWriter;
 
 /**
  * Projects service class for handling projects.
@@ -24,8 +26,11 @@ public class Projects {
     }
 
     private List<String> _listProjects() {
-        tech.tablesaw.api.Table response = api
-                .sqlQuery("SELECT NAME FROM information_schema.databases WHERE TYPE='project'");
+        return _listProjects("SELECT NAME FROM information_schema.databases WHERE TYPE='project'");
+    }
+
+    private List<String> _listProjects(String sql) {
+        tech.tablesaw.api.Table response = api.sqlQuery(sql);
         return response.stream().map(row -> row.getString("NAME")).collect(Collectors.toList());
     }
 
@@ -45,10 +50,18 @@ public class Projects {
      * @return  Project object
      */
     public Project get(String name) {
-        if (!_listProjects().contains(name)) {
+        CatalogCache cache = api.getCatalogCache();
+        Project project = cache != null ? cache.get("project", name, () -> findProject(name)) : findProject(name);
+        if (project == null) {
             throw new IllegalArgumentException("Project doesn't exist");
         }
-        return new Project(api, name);
+        return project;
+    }
+
+    private Project findProject(String name) {
+        String sql = "SELECT NAME FROM information_schema.databases WHERE TYPE='project' AND NAME="
+                + SqlWriter.quoteLiteral(name);
+        return _listProjects(sql).contains(name) ? new Project(api, name) : null;
     }
 
     /**
@@ -59,6 +72,7 @@ public class Projects {
     public Project create(String name) {
         String astQuery = String.format("CREATE DATABASE %s WITH ENGINE 'mindsdb'", name);
         api.sqlQuery(astQuery);
+        Databases.invalidateCatalog(api, name);
         return new Project(api, name);
     }
 
@@ -69,5 +83,6 @@ public class Projects {
     public void drop(String name) {
         String astQuery = String.format("DROP DATABASE %s", name);
         api.sqlQuery(astQuery);
+        Databases.invalidateCatalog(api, name);
     }
 }
@@ -0,0 +1,290 @@
+package mindsdb.services;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import kong.unirest.core.UnirestException;
+import lombok.Getter;
+import lombok.Setter;
+import mindsdb.connectors.ExportFormat;
+import mindsdb.connectors.ExportSink;
+import mindsdb.connectors.ExportStats;
+import mindsdb.connectors.QueryResult;
+import mindsdb.connectors.RestAPI;
+import mindsdb.connectors.ResultRow;
+import mindsdb.connectors.ResultSink;
+import mindsdb.connectors.RowCursor;
+import mindsdb.connectors.SpillingSink;
+import mindsdb.connectors.TypedTableSink;
+import mindsdb.sql.Identifier;
+import mindsdb.sql.SqlWriter;
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.NumberColumn;
+import tech.tablesaw.api.Table;
+import tech.tablesaw.columns.Column;
+
+/**
+ * Query class for handling SQL queries.
+ */
+@Getter
+@Setter
+public class Query {
+    private final RestAPI api;
+    private String sql;
+    private final String database;
+
+    /**
+     * Constructs a new Query instance with the provided API, SQL query, and database.
+     * @param api    - RestAPI object
+     * @param sql   - SQL query
+     * @param database  - database name
+     */
+    public Query(RestAPI api, String sql, String database) {
+        this.api = api;
+        this.sql = sql;
+        this.database = database;
+    }
+
+    /**
+     * Constructs a new Query instance with the provided API and SQL query.
+     * @param api   - RestAPI object
+     * @param sql - SQL query
+     */
+    public Query(RestAPI api, String sql) {
+        this(api, sql, null);
+    }
+    
+    /**
+     * Fetch the result of the SQL query.
+     * @return Table object containing the result of the SQL query
+     */
+    public Table fetch() {
+        try {
+            // Sending the SQL query to the API
+            return api.sqlQuery(sql, database);
+        } catch (UnirestException e) {
+            // Handle exception (e.g., logging or rethrowing)
+            throw new RuntimeException("Error executing SQL query: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fetch the result of the SQL query.
+     * @param inferTypes whether to build typed columns (int, long, double, boolean,
+     *                   date-time) from the JSON values instead of string columns
+     * @return Table object containing the result of the SQL query
+     */
+    public Table fetch(boolean inferTypes) {
+        if (!inferTypes) {
+            return fetch();
+        }
+        try {
+            return api.sqlQuery(sql, database, true);
+        } catch (UnirestException e) {
+            throw new RuntimeException("Error executing SQL query: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fetch the result of the SQL query into typed columns. Results fetched with
+     * column types are not kept in the result cache of the API, use
+     * {@link #fetch(boolean)} for cached typed results.
+     * @param columnTypes column types by column name, types of the other columns are inferred
+     *                    from the JSON values
+     * @return Table object containing the result of the SQL query
+     */
+    public Table fetch(Map<String, ColumnType> columnTypes) {
+        try {
+            return api.sqlQuery(sql, database, new TypedTableSink(columnTypes));
+        } catch (UnirestException e) {
+            throw new RuntimeException("Error executing SQL query: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fetch the result of the SQL query into a custom sink. The rows are handed to
+     * the sink as they are decoded, so they can be written straight into another
+     * columnar format (for example Arrow vectors) without building a Table first.
+     * @param sink sink receiving the rows of the result
+     * @param <T>  type produced by the sink
+     * @return result of the sink, or null if the query returned no table
+     */
+    public <T> T fetch(ResultSink<T> sink) {
+        try {
+            return api.sqlQuery(sql, database, sink);
+        } catch (UnirestException e) {
+            throw new RuntimeException("Error executing SQL query: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Fetch the result of the SQL query within a memory budget. Once the decoded
+     * values exceed the budget, the result is spilled to temporary column files and
+     * read back through memory-mapped buffers. The returned result must be closed to
+     * delete the files.
+     * @param memoryBudget estimated number of heap bytes the result may use
+     * @return QueryResult with the rows of the query, or null if the query returned no table
+     */
+    public QueryResult fetchResult(long memoryBudget) {
+        return fetchResult(memoryBudget, null);
+    }
+
+    /**
+     * Fetch the result of the SQL query within a memory budget, spilling to the given directory.
+     * @param memoryBudget   estimated number of heap bytes the result may use
+     * @param spillDirectory directory for the spill files, null for the default temporary directory
+     * @return QueryResult with the rows of the query, or null if the query returned no table
+     * @see #fetchResult(long)
+     */
+    public QueryResult fetchResult(long memoryBudget, Path spillDirectory) {
+        SpillingSink sink = new SpillingSink(memoryBudget, spillDirectory);
+        try {
+            QueryResult result = api.sqlQuery(sql, database, sink);
+            if (result == null) {
+                sink.discard();
+            }
+            return result;
+        } catch (UnirestException e) {
+            sink.discard();
+            throw new RuntimeException("Error executing SQL query: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            sink.discard();
+            throw e;
+        }
+    }
+
+    /**
+     * Export the result of the SQL query to a file. Rows are written as they are
+     * decoded from the response, so the result is never held in memory.
+     * @param path   file to write, replaced if it exists
+     * @param format format of the file
+     * @return ExportStats with the number of rows and bytes written, or null if the
+     *         query returned no table
+     */
+    public ExportStats exportTo(Path path, ExportFormat format) {
+        return exportTo(path, format, false);
+    }
+
+    /**
+     * Export the result of the SQL query to a file, optionally gzip compressed.
+     * @param path   file to write, replaced if it exists
+     * @param format format of the file
+     * @param gzip   whether to gzip compress the file
+     * @return ExportStats with the number of rows and bytes written, or null if the
+     *         query returned no table
+     * @see #exportTo(Path, ExportFormat)
+     */
+    public ExportStats exportTo(Path path, ExportFormat format, boolean gzip) {
+        ExportSink sink = new ExportSink(path, format, gzip);
+        try {
+            ExportStats stats = api.sqlQuery(sql, database, sink);
+            if (stats == null) {
+                sink.discard();
+            }
+            return stats;
+        } catch (UnirestException e) {
+            sink.discard();
+            throw new RuntimeException("Error executing SQL query: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            sink.discard();
+            throw e;
+        }
+    }
+
+    /**
+     * Iterate over the rows of the SQL query as they are decoded from the response,
+     * without building a Table. The cursor must be closed if it is not read to the end.
+     * @return RowCursor over the result rows
+     */
+    public RowCursor iterator() {
+        return new RowCursor(api, sql, database);
+    }
+
+    /**
+     * Stream the rows of the SQL query as they are decoded from the response,
+     * without building a Table. Closing the stream releases the connection.
+     * @return Stream of result rows
+     */
+    public Stream<ResultRow> stream() {
+        RowCursor cursor = iterator();
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(cursor::close);
+    }
+
+    /**
+     * Fetch the result of the SQL query page by page using LIMIT/OFFSET. The next
+     * page is prefetched in the background while the current one is processed.
+     * @param pageSize number of rows per page
+     * @return PageIterator over the result pages
+     */
+    public PageIterator fetchPages(int pageSize) {
+        String subquery = stripSemicolon(sql);
+        return new PageIterator(api, database, pageSize, null, (previousPage, offset, limit) -> String
+                .format("SELECT * FROM (%s) AS page LIMIT %d OFFSET %d", subquery, limit, offset));
+    }
+
+    /**
+     * Fetch the result of the SQL query page by page using keyset pagination on an
+     * ordering column, which should hold unique values. The next page is prefetched
+     * in the background while the current one is processed.
+     * @param pageSize    number of rows per page
+     * @param orderColumn column to order and continue the pages by
+     * @return PageIterator over the result pages
+     */
+    public PageIterator fetchPages(int pageSize, String orderColumn) {
+        String subquery = stripSemicolon(sql);
+        String orderSql = Identifier.parse(orderColumn).toSql();
+        return new PageIterator(api, database, pageSize, null, (previousPage, offset, limit) -> {
+            StringBuilder pageQuery = new StringBuilder("SELECT * FROM (").append(subquery).append(") AS page");
+            if (previousPage != null) {
+                pageQuery.append(" WHERE ").append(orderSql).append(" > ")
+                        .append(keysetValue(previousPage, orderColumn));
+            }
+            pageQuery.append(" ORDER BY ").append(orderSql).append(" LIMIT ").append(limit);
+            return pageQuery.toString();
+        });
+    }
+
+    /**
+     * Render the ordering value of the last row of a page as a SQL literal. Values
+     * of numeric columns are written as numbers and all others as quoted strings,
+     * so string keys such as {@code "00123"} keep their string ordering.
+     * @param page        page to read the value from
+     * @param orderColumn ordering column, optionally qualified
+     * @return SQL literal of the last value
+     * @throws IllegalStateException if the last value is missing, keyset
+     *         pagination cannot continue after a null
+     */
+    protected static String keysetValue(Table page, String orderColumn) {
+        List<String> parts = Identifier.parse(orderColumn).getParts();
+        Column<?> column = page.column(parts.get(parts.size() - 1).toLowerCase());
+        int last = page.rowCount() - 1;
+        if (column.isMissing(last)) {
+            throw new IllegalStateException("Cannot continue pages after a null value of " + orderColumn);
+        }
+        if (column instanceof NumberColumn<?, ?> numbers) {
+            return SqlWriter.quoteLiteral(numbers.get(last));
+        }
+        return SqlWriter.quoteLiteral(column.getString(last));
+    }
+
+    private static String stripSemicolon(String sql) {
+        String trimmed = sql.strip();
+        return trimmed.endsWith(";") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    @Override
+    public String toString() {
+        String processedSql = sql.replace('\n', ' ');
+        if (processedSql.length() > 40) {
+            processedSql = processedSql.substring(0, 37) + "...";
+        }
+        return String.format("%s(%s)", this.getClass().getSimpleName(), processedSql);
+    }
+}
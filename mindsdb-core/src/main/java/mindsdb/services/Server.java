@@ -1,10 +1,12 @@
 package mindsdb.services;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
 import com.google.gson.JsonObject;
 
+import mindsdb.connectors.CatalogCache;
 import mindsdb.connectors.RestAPI;
 import mindsdb.models.Database;
 import mindsdb.models.Handler;
@@ -79,6 +81,18 @@ public class Server extends Project {
         return getApi().status();
     }
 
+    /**
+     * Cache catalog lookups by name (databases, projects, ML engines and
+     * handlers) for this server. Objects created or dropped through the SDK are
+     * invalidated; changes made by other clients are seen once the entry expires.
+     * 
+     * @param ttl Time after which a cached lookup expires, for found and missing objects
+     * @return The cache, to read its counters
+     */
+    public CatalogCache enableCatalogCache(Duration ttl) {
+        return getApi().enableCatalogCache(ttl, ttl);
+    }
+
     // Server string representation
     @Override
     public String toString() {
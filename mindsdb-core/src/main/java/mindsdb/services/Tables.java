@@ -4,6 +4,7 @@ import java.util.List;
 
 import lombok.Getter;
 import mindsdb.connectors.RestAPI;
+import mindsdb.connectors.TableEncoder;
 import mindsdb.models.Database;
 import mindsdb.models.MDBTable;
 import tech.tablesaw.api.Table;
@@ -85,24 +86,36 @@ public class Tables {
     }
 
     /**
-     * Create a table from a DataFrame
+     * Create a table from a DataFrame, uploaded as CSV
      * @param name  Name of the table
      * @param df    DataFrame
-     * @param replace           Replace the table if it already exists
+     * @param replace           Not used, see {@link #create(String, tech.tablesaw.api.Table, Boolean, TableEncoder)}
      * @return  Table
      */
     public MDBTable create(String name, tech.tablesaw.api.Table df, Boolean replace) {
-        this.api.uploadFile(name, df);
-
-        if (this.database.getName().equals("files")) {
-            if (name.contains(".")) {
-                name = name.split("\\.")[0];
-            }
+        return create(name, df, replace, TableEncoder.CSV);
+    }
 
-            return new MDBTable(this.database, name);
+    /**
+     * Create a table from a DataFrame, uploaded in the given file format. The
+     * DataFrame is always uploaded under the name, whether or not a table of that
+     * name exists, and the server decides whether an existing file is replaced.
+     * @param name    Name of the table
+     * @param df      DataFrame
+     * @param replace Not used, the upload does not check for an existing table
+     * @param encoder File format to upload the DataFrame in
+     * @return  Table
+     */
+    public MDBTable create(String name, tech.tablesaw.api.Table df, Boolean replace, TableEncoder encoder) {
+        if (!this.database.getName().equals("files")) {
+            throw new IllegalArgumentException("Only files database is supported for now");
         }
+        this.api.uploadFile(name, df, encoder);
 
-        throw new IllegalArgumentException("Only files database is supported for now");
+        if (name.contains(".")) {
+            name = name.split("\\.")[0];
+        }
+        return new MDBTable(this.database, name);
     }
 
     /**
@@ -0,0 +1,57 @@
+package mindsdb.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A list of {@code name = value} pairs, as in {@code USING} clauses.
+ */
+public final class Assignments implements SqlNode {
+    private final List<String> names = new ArrayList<>();
+    private final List<SqlNode> values = new ArrayList<>();
+
+    /**
+     * Create pairs with literal values from a map.
+     *
+     * @param values names and values, in the iteration order of the map
+     * @return assignments
+     */
+    public static Assignments of(Map<String, ?> values) {
+        Assignments assignments = new Assignments();
+        values.forEach((name, value) -> assignments.add(name, Literal.of(value)));
+        return assignments;
+    }
+
+    /**
+     * Add a pair.
+     *
+     * @param name  name, quoted as an identifier when needed
+     * @param value value node
+     * @return this object
+     */
+    public Assignments add(String name, SqlNode value) {
+        names.add(name);
+        values.add(value);
+        return this;
+    }
+
+    /**
+     * Check whether there are no pairs
+     *
+     * @return true if no pair was added
+     */
+    public boolean isEmpty() {
+        return names.isEmpty();
+    }
+
+    @Override
+    public void render(SqlWriter writer) {
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                writer.append(", ");
+            }
+            writer.identifier(names.get(i)).append(" = ").node(values.get(i));
+        }
+    }
+}
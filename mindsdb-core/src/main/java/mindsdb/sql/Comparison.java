@@ -0,0 +1,72 @@
+package mindsdb.sql;
+
+import java.util.Collection;
+
+/**
+ * A comparison of two nodes, such as {@code name = 'value'}.
+ */
+public final class Comparison implements SqlNode {
+    private final SqlNode left;
+    private final String operator;
+    private final SqlNode right;
+
+    private Comparison(SqlNode left, String operator, SqlNode right) {
+        this.left = left;
+        this.operator = operator;
+        this.right = right;
+    }
+
+    /**
+     * Create a comparison.
+     *
+     * @param left     left operand
+     * @param operator operator, for example {@code "="} or {@code ">"}
+     * @param right    right operand
+     * @return comparison
+     */
+    public static Comparison of(SqlNode left, String operator, SqlNode right) {
+        return new Comparison(left, operator, right);
+    }
+
+    /**
+     * Create an equality comparison of a column and a value.
+     *
+     * @param column name of the column
+     * @param value  value compared to
+     * @return comparison
+     */
+    public static Comparison equal(String column, Object value) {
+        return new Comparison(Identifier.of(column), "=", Literal.of(value));
+    }
+
+    /**
+     * Create a comparison of a column with a list of values, such as
+     * {@code id IN (1, 2)}.
+     *
+     * @param column name of the column
+     * @param values values compared to, not empty
+     * @return comparison
+     */
+    public static Comparison in(String column, Collection<?> values) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("IN list must not be empty");
+        }
+        return new Comparison(Identifier.of(column), "IN", writer -> {
+            writer.append('(');
+            boolean first = true;
+            for (Object value : values) {
+                if (!first) {
+                    writer.append(", ");
+                }
+                writer.literal(value);
+                first = false;
+            }
+            writer.append(')');
+        });
+    }
+
+    @Override
+    public void render(SqlWriter writer) {
+        writer.node(left).append(' ').append(operator).append(' ').node(right);
+    }
+}
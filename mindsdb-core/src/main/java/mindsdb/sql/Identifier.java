@@ -0,0 +1,79 @@
+package mindsdb.sql;
+
+import java.util.List;
+
+/**
+ * A possibly qualified name, such as {@code project.model}. Each part is quoted
+ * on its own when needed.
+ */
+public final class Identifier implements SqlNode {
+    private final List<String> parts;
+
+    private Identifier(List<String> parts) {
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("Identifier must have a name");
+        }
+        this.parts = parts;
+    }
+
+    /**
+     * Create an identifier from its parts.
+     *
+     * @param parts parts of the name, for example the project and the model
+     * @return identifier
+     */
+    public static Identifier of(String... parts) {
+        return new Identifier(List.of(parts));
+    }
+
+    /**
+     * Create an identifier from a name whose parts are separated by dots.
+     *
+     * @param name qualified name, for example {@code "files.sales"}
+     * @return identifier
+     */
+    public static Identifier parse(String name) {
+        return new Identifier(List.of(name.split("\\.")));
+    }
+
+    /**
+     * Create a comma separated list of column names.
+     *
+     * @param names names of the columns
+     * @return node rendering the quoted names
+     */
+    public static SqlNode list(List<String> names) {
+        return writer -> {
+            for (int i = 0; i < names.size(); i++) {
+                if (i > 0) {
+                    writer.append(", ");
+                }
+                writer.identifier(names.get(i));
+            }
+        };
+    }
+
+    /**
+     * Get the parts of the name
+     *
+     * @return parts of the name
+     */
+    public List<String> getParts() {
+        return parts;
+    }
+
+    @Override
+    public void render(SqlWriter writer) {
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                writer.append('.');
+            }
+            writer.identifier(parts.get(i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toSql();
+    }
+}
@@ -0,0 +1,139 @@
+package mindsdb.sql;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import tech.tablesaw.api.Table;
+
+/**
+ * An {@code INSERT INTO} statement.
+ *
+ * <p>
+ * The {@code INSERT INTO table (columns)} text is rendered once per table and
+ * column list and kept in a small cache, so statements sent in many chunks, or
+ * again and again into the same table, reuse it.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * Insert insert = Insert.into(Identifier.of("db", "orders"), data.columnNames());
+ * String sql = insert.values(data, 0, data.rowCount()).toSql();
+ * }
+ * </pre>
+ */
+public final class Insert implements SqlNode {
+    private static final int CACHE_SIZE = 256;
+    private static final Map<Key, Insert> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Insert> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final String header;
+    private final String valuesPrefix;
+    private final SqlNode source;
+    private final boolean terminated;
+
+    private Insert(String header, String valuesPrefix, SqlNode source, boolean terminated) {
+        this.header = header;
+        this.valuesPrefix = valuesPrefix;
+        this.source = source;
+        this.terminated = terminated;
+    }
+
+    /**
+     * Get the insert skeleton of a table and columns.
+     *
+     * @param table   table to insert into
+     * @param columns columns given values, in order
+     * @return insert without rows
+     */
+    public static Insert into(Identifier table, List<String> columns) {
+        Key key = new Key(table.getParts(), List.copyOf(columns));
+        synchronized (CACHE) {
+            Insert cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        String header = SqlWriter.render(writer -> {
+            writer.append("INSERT INTO ").node(table).append(" (").node(Identifier.list(columns)).append(')');
+        });
+        Insert insert = new Insert(header, header + " VALUES ", null, false);
+        synchronized (CACHE) {
+            CACHE.put(key, insert);
+        }
+        return insert;
+    }
+
+    /**
+     * Get the text before the first row of a {@code VALUES} list, for callers
+     * that write the rows themselves.
+     *
+     * @return {@code INSERT INTO table (columns) VALUES } with a trailing space
+     */
+    public String valuesPrefix() {
+        return valuesPrefix;
+    }
+
+    /**
+     * Insert rows of a table.
+     *
+     * @param data Tablesaw Table with the columns of the insert
+     * @param from index of the first row
+     * @param to   index after the last row
+     * @return new insert
+     */
+    public Insert values(Table data, int from, int to) {
+        int columnCount = data.columnCount();
+        return new Insert(header, valuesPrefix, writer -> {
+            writer.append("VALUES ");
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    writer.append(", ");
+                }
+                writer.row(data.row(i), columnCount);
+            }
+        }, terminated);
+    }
+
+    /**
+     * Insert the rows of a query.
+     *
+     * @param query query whose result is inserted
+     * @return new insert
+     */
+    public Insert select(SqlNode query) {
+        return new Insert(header, valuesPrefix, query, terminated);
+    }
+
+    /**
+     * End the statement with a semicolon.
+     *
+     * @return new insert
+     */
+    public Insert terminated() {
+        return new Insert(header, valuesPrefix, source, true);
+    }
+
+    @Override
+    public void render(SqlWriter writer) {
+        writer.append(header);
+        if (source != null) {
+            writer.append(' ').node(source);
+        }
+        if (terminated) {
+            writer.append(';');
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toSql();
+    }
+
+    private record Key(List<String> table, List<String> columns) {
+    }
+}
@@ -0,0 +1,32 @@
+package mindsdb.sql;
+
+/**
+ * A constant value, escaped by {@link SqlWriter#literal(Object)}.
+ */
+public final class Literal implements SqlNode {
+    private final Object value;
+
+    private Literal(Object value) {
+        this.value = value;
+    }
+
+    /**
+     * Create a literal.
+     *
+     * @param value string, number, boolean, collection, map or null
+     * @return literal
+     */
+    public static Literal of(Object value) {
+        return new Literal(value);
+    }
+
+    @Override
+    public void render(SqlWriter writer) {
+        writer.literal(value);
+    }
+
+    @Override
+    public String toString() {
+        return toSql();
+    }
+}
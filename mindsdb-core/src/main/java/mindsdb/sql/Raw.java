@@ -0,0 +1,32 @@
+package mindsdb.sql;
+
+/**
+ * SQL text written as it is, for query text and conditions given by the caller.
+ */
+public final class Raw implements SqlNode {
+    private final String sql;
+
+    private Raw(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * Create a fragment of SQL text.
+     *
+     * @param sql trusted SQL text
+     * @return fragment
+     */
+    public static Raw of(String sql) {
+        return new Raw(sql);
+    }
+
+    @Override
+    public void render(SqlWriter writer) {
+        writer.append(sql);
+    }
+
+    @Override
+    public String toString() {
+        return sql;
+    }
+}
@@ -0,0 +1,163 @@
+package mindsdb.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code SELECT} statement over one table.
+ *
+ * <p>
+ * Selects are immutable. The text up to the {@code LIMIT} clause is rendered
+ * once and shared by the selects derived with {@link #limit(Integer)} and
+ * {@link #offset(Integer)}, so paging through a table only renders the page
+ * bounds for each page.
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * Select select = Select.from(Identifier.of("db", "orders")).where(Comparison.equal("status", "open"));
+ * String page = select.limit(100).offset(200).toSql();
+ * }
+ * </pre>
+ */
+public final class Select implements SqlNode {
+    private final Skeleton skeleton;
+    private final Integer limit;
+    private final Integer offset;
+    private final boolean terminated;
+
+    private Select(Skeleton skeleton, Integer limit, Integer offset, boolean terminated) {
+        this.skeleton = skeleton;
+        this.limit = limit;
+        this.offset = offset;
+        this.terminated = terminated;
+    }
+
+    /**
+     * Select all columns of a table.
+     *
+     * @param table table to select from
+     * @return select
+     */
+    public static Select from(SqlNode table) {
+        return new Select(new Skeleton(Raw.of("*"), table, List.of(), null), null, null, false);
+    }
+
+    /**
+     * Select other columns or expressions.
+     *
+     * @param columns select list
+     * @return new select
+     */
+    public Select columns(SqlNode columns) {
+        return new Select(new Skeleton(columns, skeleton.from, skeleton.where, skeleton.orderBy), limit, offset,
+                terminated);
+    }
+
+    /**
+     * Add a condition, combined with the previous ones with {@code AND}.
+     *
+     * @param condition condition, ignored if null
+     * @return new select
+     */
+    public Select where(SqlNode condition) {
+        if (condition == null) {
+            return this;
+        }
+        List<SqlNode> where = new ArrayList<>(skeleton.where);
+        where.add(condition);
+        return new Select(new Skeleton(skeleton.columns, skeleton.from, where, skeleton.orderBy), limit, offset,
+                terminated);
+    }
+
+    /**
+     * Order the rows.
+     *
+     * @param orderBy ordering expression, null for none
+     * @return new select
+     */
+    public Select orderBy(SqlNode orderBy) {
+        return new Select(new Skeleton(skeleton.columns, skeleton.from, skeleton.where, orderBy), limit, offset,
+                terminated);
+    }
+
+    /**
+     * Limit the number of rows.
+     *
+     * @param limit maximum number of rows, null for none
+     * @return new select sharing the rendered text of this one
+     */
+    public Select limit(Integer limit) {
+        return new Select(skeleton, limit, offset, terminated);
+    }
+
+    /**
+     * Skip rows.
+     *
+     * @param offset number of rows to skip, null for none
+     * @return new select sharing the rendered text of this one
+     */
+    public Select offset(Integer offset) {
+        return new Select(skeleton, limit, offset, terminated);
+    }
+
+    /**
+     * End the statement with a semicolon.
+     *
+     * @return new select sharing the rendered text of this one
+     */
+    public Select terminated() {
+        return new Select(skeleton, limit, offset, true);
+    }
+
+    @Override
+    public void render(SqlWriter writer) {
+        writer.append(skeleton.sql());
+        if (limit != null) {
+            writer.append(" LIMIT ").append(limit.toString());
+        }
+        if (offset != null) {
+            writer.append(" OFFSET ").append(offset.toString());
+        }
+        if (terminated) {
+            writer.append(';');
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toSql();
+    }
+
+    private static final class Skeleton {
+        private final SqlNode columns;
+        private final SqlNode from;
+        private final List<SqlNode> where;
+        private final SqlNode orderBy;
+        private volatile String sql;
+
+        private Skeleton(SqlNode columns, SqlNode from, List<SqlNode> where, SqlNode orderBy) {
+            this.columns = columns;
+            this.from = from;
+            this.where = where;
+            this.orderBy = orderBy;
+        }
+
+        private String sql() {
+            String rendered = sql;
+            if (rendered == null) {
+                rendered = SqlWriter.render(writer -> {
+                    writer.append("SELECT ").node(columns).append(" FROM ").node(from);
+                    if (!where.isEmpty()) {
+                        writer.append(" WHERE ").nodes(where, " AND ");
+                    }
+                    if (orderBy != null) {
+                        writer.append(" ORDER BY ").node(orderBy);
+                    }
+                });
+                sql = rendered;
+            }
+            return rendered;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package mindsdb.sql;
+
+/**
+ * A node of a SQL statement, rendered in a single pass by a {@link SqlWriter}.
+ */
+@FunctionalInterface
+public interface SqlNode {
+
+    /**
+     * Write the SQL text of the node.
+     * @param writer Writer receiving the SQL text.
+     */
+    void render(SqlWriter writer);
+
+    /**
+     * Render the node to a string, using the buffer of the current thread.
+     * @return The SQL text of the node.
+     */
+    default String toSql() {
+        return SqlWriter.render(this);
+    }
+}
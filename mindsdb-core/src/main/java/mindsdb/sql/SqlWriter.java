@@ -0,0 +1,338 @@
+package mindsdb.sql;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import tech.tablesaw.api.Row;
+
+/**
+ * Buffer that SQL nodes are rendered into, with the escaping rules of the
+ * MindsDB SQL dialect.
+ *
+ * <p>
+ * String literals are single-quoted, with quotes doubled and backslashes
+ * escaped. Identifiers are written as they are when they only hold letters,
+ * digits and underscores, and quoted with backticks otherwise. Maps are written
+ * as JSON objects, as expected by {@code PARAMETERS} and {@code PARAMS}, and
+ * collections as lists.
+ * </p>
+ *
+ * <p>
+ * {@link #render(SqlNode)} reuses one buffer per thread, so rendering a
+ * statement allocates little more than the resulting string.
+ * </p>
+ */
+public final class SqlWriter implements CharSequence {
+    // Larger buffers are not kept between renders, so one huge statement does not pin its memory
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+    private static final ThreadLocal<SqlWriter> POOL = ThreadLocal.withInitial(SqlWriter::new);
+
+    private final StringBuilder buffer;
+    private boolean inUse;
+
+    /**
+     * Create a writer with an empty buffer.
+     */
+    public SqlWriter() {
+        this(256);
+    }
+
+    /**
+     * Create a writer with an empty buffer.
+     *
+     * @param capacity initial capacity of the buffer in characters
+     */
+    public SqlWriter(int capacity) {
+        this.buffer = new StringBuilder(capacity);
+    }
+
+    /**
+     * Render a node with the buffer of the current thread.
+     *
+     * @param node node to render
+     * @return SQL text of the node
+     */
+    public static String render(SqlNode node) {
+        SqlWriter writer = POOL.get();
+        if (writer.inUse) {
+            // Rendered from inside another render, the pooled buffer is taken
+            writer = new SqlWriter();
+        }
+        writer.inUse = true;
+        try {
+            node.render(writer);
+            return writer.toString();
+        } finally {
+            writer.reset();
+            writer.inUse = false;
+        }
+    }
+
+    /**
+     * Quote a value as a SQL literal.
+     *
+     * @param value value to quote
+     * @return SQL text of the literal
+     */
+    public static String quoteLiteral(Object value) {
+        return render(writer -> writer.literal(value));
+    }
+
+    /**
+     * Quote a name as a SQL identifier, if needed.
+     *
+     * @param name name to quote
+     * @return SQL text of the identifier
+     */
+    public static String quoteIdentifier(String name) {
+        return isPlainIdentifier(name) ? name : render(writer -> writer.identifier(name));
+    }
+
+    /**
+     * Append SQL text as it is.
+     *
+     * @param sql trusted SQL text
+     * @return this writer
+     */
+    public SqlWriter append(CharSequence sql) {
+        buffer.append(sql);
+        return this;
+    }
+
+    /**
+     * Append a character as it is.
+     *
+     * @param c character
+     * @return this writer
+     */
+    public SqlWriter append(char c) {
+        buffer.append(c);
+        return this;
+    }
+
+    /**
+     * Append a node.
+     *
+     * @param node node to render
+     * @return this writer
+     */
+    public SqlWriter node(SqlNode node) {
+        node.render(this);
+        return this;
+    }
+
+    /**
+     * Append nodes with a separator between them.
+     *
+     * @param nodes     nodes to render
+     * @param separator SQL text between two nodes
+     * @return this writer
+     */
+    public SqlWriter nodes(List<? extends SqlNode> nodes, String separator) {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i > 0) {
+                buffer.append(separator);
+            }
+            nodes.get(i).render(this);
+        }
+        return this;
+    }
+
+    /**
+     * Append an identifier, quoted with backticks if it holds anything but
+     * letters, digits and underscores.
+     *
+     * @param name name of the identifier, one part of a qualified name
+     * @return this writer
+     */
+    public SqlWriter identifier(String name) {
+        if (isPlainIdentifier(name)) {
+            buffer.append(name);
+            return this;
+        }
+        buffer.append('`');
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '`') {
+                buffer.append('`');
+            }
+            buffer.append(c);
+        }
+        buffer.append('`');
+        return this;
+    }
+
+    /**
+     * Append a literal value. Numbers and booleans are written as they are,
+     * non-finite numbers and null as {@code NULL}, maps as JSON objects,
+     * collections as lists and anything else as a quoted string.
+     *
+     * @param value value of the literal
+     * @return this writer
+     */
+    public SqlWriter literal(Object value) {
+        if (value == null || isNonFinite(value)) {
+            buffer.append("NULL");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            buffer.append(value);
+        } else if (value instanceof Map<?, ?> map) {
+            json(map);
+        } else if (value instanceof Collection<?> values) {
+            buffer.append('[');
+            int i = 0;
+            for (Object item : values) {
+                if (i++ > 0) {
+                    buffer.append(", ");
+                }
+                literal(item);
+            }
+            buffer.append(']');
+        } else {
+            string(value.toString());
+        }
+        return this;
+    }
+
+    /**
+     * Append the values of a row in parentheses, as in {@code VALUES} lists.
+     *
+     * @param row         Tablesaw row
+     * @param columnCount number of columns of the row
+     * @return this writer
+     */
+    public SqlWriter row(Row row, int columnCount) {
+        buffer.append('(');
+        for (int j = 0; j < columnCount; j++) {
+            if (j > 0) {
+                buffer.append(", ");
+            }
+            literal(row.getObject(j));
+        }
+        buffer.append(')');
+        return this;
+    }
+
+    /**
+     * Set the length of the buffer, used to drop text written after a mark.
+     *
+     * @param length new length, not larger than the current length
+     */
+    public void setLength(int length) {
+        buffer.setLength(length);
+    }
+
+    @Override
+    public int length() {
+        return buffer.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return buffer.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return buffer.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+
+    private void reset() {
+        buffer.setLength(0);
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            buffer.trimToSize();
+        }
+    }
+
+    private void string(String value) {
+        buffer.append('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\'' || c == '\\') {
+                buffer.append(c);
+            }
+            buffer.append(c);
+        }
+        buffer.append('\'');
+    }
+
+    private void json(Map<?, ?> map) {
+        buffer.append('{');
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (i++ > 0) {
+                buffer.append(", ");
+            }
+            jsonString(String.valueOf(entry.getKey()));
+            buffer.append(": ");
+            jsonValue(entry.getValue());
+        }
+        buffer.append('}');
+    }
+
+    private void jsonValue(Object value) {
+        if (value == null || isNonFinite(value)) {
+            buffer.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            buffer.append(value);
+        } else if (value instanceof Map<?, ?> map) {
+            json(map);
+        } else if (value instanceof Collection<?> values) {
+            buffer.append('[');
+            int i = 0;
+            for (Object item : values) {
+                if (i++ > 0) {
+                    buffer.append(", ");
+                }
+                jsonValue(item);
+            }
+            buffer.append(']');
+        } else {
+            jsonString(value.toString());
+        }
+    }
+
+    private void jsonString(String value) {
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> buffer.append("\\\"");
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        buffer.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        buffer.append(c);
+                    }
+                }
+            }
+        }
+        buffer.append('"');
+    }
+
+    private static boolean isNonFinite(Object value) {
+        return (value instanceof Double d && !Double.isFinite(d)) || (value instanceof Float f && !Float.isFinite(f));
+    }
+
+    private static boolean isPlainIdentifier(String name) {
+        if (name.isEmpty() || Character.isDigit(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!(c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
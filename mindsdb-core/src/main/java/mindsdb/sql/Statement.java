@@ -0,0 +1,103 @@
+package mindsdb.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A statement made of keywords and nodes separated by spaces, for statements
+ * such as {@code CREATE MODEL} or {@code CREATE JOB} whose clauses are optional.
+ *
+ * <pre>
+ * {@code
+ * String sql = Statement.of("CREATE ML_ENGINE IF NOT EXISTS").append(Identifier.of("openai"))
+ *         .append("FROM", Identifier.of("openai"))
+ *         .append("USING", Assignments.of(Map.of("api_key", key)))
+ *         .terminated()
+ *         .toSql();
+ * }
+ * </pre>
+ */
+public final class Statement implements SqlNode {
+    private final List<SqlNode> parts = new ArrayList<>();
+    private boolean terminated;
+
+    private Statement() {
+    }
+
+    /**
+     * Start a statement.
+     *
+     * @param keyword leading keywords, for example {@code "CREATE MODEL"}
+     * @return statement
+     */
+    public static Statement of(String keyword) {
+        return new Statement().append(keyword);
+    }
+
+    /**
+     * Append keywords.
+     *
+     * @param keyword keywords written as they are
+     * @return this statement
+     */
+    public Statement append(String keyword) {
+        parts.add(Raw.of(keyword));
+        return this;
+    }
+
+    /**
+     * Append a node.
+     *
+     * @param node node to render
+     * @return this statement
+     */
+    public Statement append(SqlNode node) {
+        parts.add(node);
+        return this;
+    }
+
+    /**
+     * Append keywords followed by a node.
+     *
+     * @param keyword keywords written as they are
+     * @param node    node to render
+     * @return this statement
+     */
+    public Statement append(String keyword, SqlNode node) {
+        return append(keyword).append(node);
+    }
+
+    /**
+     * Append a node in parentheses, such as a nested query.
+     *
+     * @param node node to render
+     * @return this statement
+     */
+    public Statement appendParenthesized(SqlNode node) {
+        parts.add(writer -> writer.append('(').node(node).append(')'));
+        return this;
+    }
+
+    /**
+     * End the statement with a semicolon.
+     *
+     * @return this statement
+     */
+    public Statement terminated() {
+        this.terminated = true;
+        return this;
+    }
+
+    @Override
+    public void render(SqlWriter writer) {
+        writer.nodes(parts, " ");
+        if (terminated) {
+            writer.append(';');
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toSql();
+    }
+}
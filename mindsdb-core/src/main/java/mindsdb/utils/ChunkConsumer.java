@@ -0,0 +1,16 @@
+package mindsdb.utils;
+
+/**
+ * The ChunkConsumer interface receives the chunks of a document split by
+ * {@link DocumentChunker}.
+ */
+@FunctionalInterface
+public interface ChunkConsumer {
+
+    /**
+     * Called for each chunk, in document order.
+     * @param index   Index of the chunk in the document, starting at 0.
+     * @param content Text of the chunk.
+     */
+    void accept(int index, String content);
+}
@@ -0,0 +1,266 @@
+package mindsdb.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Splits text into overlapping chunks for knowledge base ingestion, reading it
+ * as a stream.
+ *
+ * <p>
+ * A chunk is a window of at most {@code chunkSize} characters or words, and
+ * each chunk starts {@code overlap} characters or words before the end of the
+ * previous one, so text cut at a chunk boundary is also found in one piece.
+ * Character windows hold whole words, and their overlap the whole words that
+ * fit in it; only a word longer than a chunk is cut. If the word after an
+ * overlap does not fit with it, the overlap is dropped. Word windows are also
+ * limited to {@value #MAX_CHARS_PER_WORD} characters per word, so text with
+ * little whitespace is cut the same way. Only the current window and a small
+ * read buffer are held in memory, whatever the size of the input.
+ * </p>
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * {@code
+ * DocumentChunker chunker = new DocumentChunker(1000, 200);
+ * chunker.chunk(Path.of("manual.txt"), (index, content) -> System.out.println(index + ": " + content));
+ * }
+ * </pre>
+ */
+public final class DocumentChunker {
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+    /** Characters allowed per word of a word window */
+    static final int MAX_CHARS_PER_WORD = 32;
+
+    /**
+     * Unit of the chunk size and overlap.
+     */
+    public enum Unit {
+        /** Characters, UTF-16 code units as in {@link String#length()} */
+        CHARACTERS,
+        /** Words, runs of non-whitespace characters */
+        WORDS
+    }
+
+    private final int chunkSize;
+    private final int overlap;
+    private final Unit unit;
+    // Longest word window in characters
+    private final int maxChars;
+
+    /**
+     * Create a chunker with windows measured in characters.
+     *
+     * @param chunkSize Maximum number of characters in a chunk
+     * @param overlap   Number of characters repeated from the previous chunk
+     */
+    public DocumentChunker(int chunkSize, int overlap) {
+        this(chunkSize, overlap, Unit.CHARACTERS);
+    }
+
+    /**
+     * Create a chunker.
+     *
+     * @param chunkSize Maximum number of characters or words in a chunk
+     * @param overlap   Number of characters or words repeated from the previous chunk
+     * @param unit      Unit of the chunk size and overlap
+     */
+    public DocumentChunker(int chunkSize, int overlap, Unit unit) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (overlap < 0 || overlap >= chunkSize) {
+            throw new IllegalArgumentException("Overlap must be at least 0 and smaller than the chunk size");
+        }
+        this.chunkSize = chunkSize;
+        this.overlap = overlap;
+        this.unit = unit;
+        this.maxChars = (int) Math.min((long) chunkSize * MAX_CHARS_PER_WORD, Integer.MAX_VALUE - READ_BUFFER_SIZE);
+    }
+
+    /**
+     * Split a UTF-8 text file into chunks. Malformed bytes are replaced.
+     *
+     * @param file     Text file
+     * @param consumer Consumer receiving the chunks
+     * @return Number of chunks
+     * @throws IOException if the file cannot be read
+     */
+    public int chunk(Path file, ChunkConsumer consumer) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        try (Reader reader = Channels.newReader(FileChannel.open(file, StandardOpenOption.READ), decoder,
+                READ_BUFFER_SIZE)) {
+            return chunk(reader, consumer);
+        }
+    }
+
+    /**
+     * Split text into chunks. Blank chunks are skipped.
+     *
+     * @param reader   Text, read to the end but not closed
+     * @param consumer Consumer receiving the chunks
+     * @return Number of chunks
+     * @throws IOException if the text cannot be read
+     */
+    public int chunk(Reader reader, ChunkConsumer consumer) throws IOException {
+        StringBuilder window = new StringBuilder(chunkSize + READ_BUFFER_SIZE);
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        WordScan scan = unit == Unit.WORDS ? new WordScan(chunkSize) : null;
+        // Characters at the start of the window that were in the previous chunk
+        int carried = 0;
+        int count = 0;
+        boolean end = false;
+        while (true) {
+            int[] cut = cut(window, scan);
+            while (cut == null && !end) {
+                int read = reader.read(buffer);
+                if (read < 0) {
+                    end = true;
+                } else {
+                    window.append(buffer, 0, read);
+                    cut = cut(window, scan);
+                }
+            }
+            if (cut == null) {
+                // Rest of the text, unless it was all in the previous chunk
+                if (window.length() > carried) {
+                    count = emit(window.toString(), count, consumer);
+                }
+                return count;
+            }
+            if (carried > 0 && cut[0] <= carried) {
+                // The word after the overlap does not fit with it, so the chunk would only
+                // repeat the overlap: drop it and cut the window from its own start
+                int start = carried;
+                while (start < window.length() && Character.isWhitespace(window.charAt(start))) {
+                    start++;
+                }
+                window.delete(0, start);
+                carried = 0;
+                if (scan != null) {
+                    scan.reset();
+                }
+                continue;
+            }
+            count = emit(window.substring(0, cut[0]), count, consumer);
+            window.delete(0, cut[1]);
+            carried = cut[0] - cut[1];
+            if (scan != null) {
+                scan.reset();
+            }
+        }
+    }
+
+    private int emit(String text, int count, ChunkConsumer consumer) {
+        String content = text.strip();
+        if (content.isEmpty()) {
+            return count;
+        }
+        consumer.accept(count, content);
+        return count + 1;
+    }
+
+    /**
+     * Find where the first chunk of the window ends and the next one starts.
+     *
+     * @return end of the chunk and start of the next chunk, or null if the
+     *         window does not hold a whole chunk yet
+     */
+    private int[] cut(StringBuilder window, WordScan scan) {
+        return scan != null ? cutWords(window, scan) : cutCharacters(window);
+    }
+
+    private int[] cutCharacters(StringBuilder window) {
+        // One more character to know whether the window ends in the middle of a word
+        if (window.length() <= chunkSize) {
+            return null;
+        }
+        int end = chunkSize;
+        while (end > 0 && !Character.isWhitespace(window.charAt(end))) {
+            end--;
+        }
+        if (end == 0) {
+            // A word longer than a chunk is cut, keeping surrogate pairs together
+            end = Character.isHighSurrogate(window.charAt(chunkSize - 1)) ? chunkSize - 1 : chunkSize;
+            int next = Math.max(end - overlap, 1);
+            return new int[] { end, Character.isLowSurrogate(window.charAt(next)) ? next + 1 : next };
+        }
+        // The overlap is made of the whole words that fit in it
+        for (int next = Math.max(end - overlap, 1); next < end; next++) {
+            if (startsWord(window, next)) {
+                return new int[] { end, next };
+            }
+        }
+        return new int[] { end, end };
+    }
+
+    private static boolean startsWord(StringBuilder window, int index) {
+        return Character.isWhitespace(window.charAt(index - 1)) && !Character.isWhitespace(window.charAt(index));
+    }
+
+    private int[] cutWords(StringBuilder window, WordScan scan) {
+        for (int i = scan.scanned; i < window.length(); i++) {
+            if (!Character.isWhitespace(window.charAt(i)) && (i == 0 || Character.isWhitespace(window.charAt(i - 1)))) {
+                if (scan.words == chunkSize) {
+                    // The previous word is complete
+                    return new int[] { i, overlap > 0 ? scan.starts[chunkSize - overlap] : i };
+                }
+                scan.starts[scan.words++] = i;
+            }
+            if (i == maxChars) {
+                return cutLongWords(window, scan);
+            }
+        }
+        scan.scanned = window.length();
+        return null;
+    }
+
+    private int[] cutLongWords(StringBuilder window, WordScan scan) {
+        int end = maxChars;
+        while (end > 0 && !Character.isWhitespace(window.charAt(end))) {
+            end--;
+        }
+        if (end == 0) {
+            // A word longer than a window is cut, with no whole words to repeat
+            end = Character.isHighSurrogate(window.charAt(maxChars - 1)) ? maxChars - 1 : maxChars;
+            return new int[] { end, end };
+        }
+        // The whole words before the cut, and the last overlap of them repeated
+        int words = scan.words;
+        while (words > 0 && scan.starts[words - 1] >= end) {
+            words--;
+        }
+        int next = Math.max(words - overlap, 1);
+        return new int[] { end, next < words ? scan.starts[next] : end };
+    }
+
+    /**
+     * Words found in the window so far, so that it is scanned only once.
+     */
+    private static final class WordScan {
+        // Start of each word of the window
+        private final int[] starts;
+        private int words;
+        private int scanned;
+
+        private WordScan(int chunkSize) {
+            this.starts = new int[chunkSize];
+        }
+
+        private void reset() {
+            words = 0;
+            scanned = 0;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package mindsdb.utils;
+
+/**
+ * The InsertProgressListener interface receives the progress of a bulk insert.
+ */
+@FunctionalInterface
+public interface InsertProgressListener {
+
+    /**
+     * Called after each chunk of rows has been inserted.
+     * @param tableName    Name of the table the rows are inserted into.
+     * @param rowsInserted Number of rows inserted so far.
+     * @param totalRows    Number of rows to insert, -1 if not known in advance.
+     */
+    void progress(String tableName, long rowsInserted, long totalRows);
+
+    /**
+     * Called after each chunk of rows has been inserted, before
+     * {@link #progress(String, long, long)}. Does nothing by default.
+     * @param tableName    Name of the table the rows are inserted into.
+     * @param chunk        Index of the chunk, chunks sent in parallel can finish out of order.
+     * @param rows         Number of rows in the chunk.
+     * @param elapsedNanos Time the chunk took to be inserted.
+     */
+    default void chunkInserted(String tableName, int chunk, int rows, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,19 @@
+package mindsdb.utils;
+
+import tech.tablesaw.api.Table;
+
+/**
+ * The PageQueryBuilder interface renders the SQL query for one page of a paged fetch.
+ */
+@FunctionalInterface
+public interface PageQueryBuilder {
+
+    /**
+     * Builds the query for the next page.
+     * @param previousPage The previous page, or null for the first page.
+     * @param offset The number of rows fetched so far.
+     * @param limit The maximum number of rows of the page.
+     * @return The SQL query of the page.
+     */
+    String build(Table previousPage, int offset, int limit);
+}
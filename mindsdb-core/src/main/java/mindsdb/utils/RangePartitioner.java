@@ -0,0 +1,130 @@
+package mindsdb.utils;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Splits the value range of a numeric or date column into SQL range conditions,
+ * used to fetch a large table with several queries at once.
+ *
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * {@code
+ * // ["id >= 1 AND id < 51", "id >= 51 AND id <= 100"]
+ * RangePartitioner.partition("id", "1", "100", 2);
+ * }
+ * </pre>
+ */
+public final class RangePartitioner {
+    private static final BigDecimal MICROS_PER_SECOND = BigDecimal.valueOf(1_000_000);
+    private static final DateTimeFormatter SECONDS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter MICROS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private RangePartitioner() {
+    }
+
+    private record Domain(BigDecimal min, BigDecimal max, boolean integral, Function<BigDecimal, String> render) {
+    }
+
+    /**
+     * Split the range between min and max into range conditions on a column. The
+     * conditions do not overlap and together cover every non-null value from min to
+     * max inclusive. Fewer conditions are returned when the range holds fewer
+     * distinct values than requested.
+     *
+     * @param column     column to partition on
+     * @param min        smallest value of the column
+     * @param max        largest value of the column
+     * @param partitions number of partitions
+     * @return SQL conditions, one per partition, in ascending order
+     * @throws IllegalArgumentException if the values are neither numbers, dates nor timestamps
+     */
+    public static List<String> partition(String column, String min, String max, int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Number of partitions must be positive");
+        }
+        Domain domain = domain(min.strip(), max.strip());
+        List<BigDecimal> bounds = bounds(domain, partitions);
+
+        List<String> conditions = new ArrayList<>();
+        for (int i = 0; i < bounds.size(); i++) {
+            String lower = column + " >= " + domain.render().apply(bounds.get(i));
+            if (i < bounds.size() - 1) {
+                conditions.add(lower + " AND " + column + " < " + domain.render().apply(bounds.get(i + 1)));
+            } else {
+                conditions.add(lower + " AND " + column + " <= " + domain.render().apply(domain.max()));
+            }
+        }
+        return conditions;
+    }
+
+    private static List<BigDecimal> bounds(Domain domain, int partitions) {
+        List<BigDecimal> bounds = new ArrayList<>();
+        BigDecimal span = domain.max().subtract(domain.min());
+        if (span.signum() <= 0) {
+            bounds.add(domain.min());
+            return bounds;
+        }
+
+        BigDecimal step;
+        if (domain.integral()) {
+            step = span.add(BigDecimal.ONE).divide(BigDecimal.valueOf(partitions), 0, RoundingMode.CEILING);
+        } else {
+            step = span.divide(BigDecimal.valueOf(partitions), MathContext.DECIMAL64);
+        }
+
+        BigDecimal bound = domain.min();
+        for (int i = 0; i < partitions && bound.compareTo(domain.max()) <= 0; i++) {
+            bounds.add(bound);
+            bound = bound.add(step);
+        }
+        return bounds;
+    }
+
+    private static Domain domain(String min, String max) {
+        try {
+            BigDecimal low = new BigDecimal(min);
+            BigDecimal high = new BigDecimal(max);
+            boolean integral = low.stripTrailingZeros().scale() <= 0 && high.stripTrailingZeros().scale() <= 0;
+            return new Domain(low, high, integral, BigDecimal::toPlainString);
+        } catch (NumberFormatException e) {
+            // Not a number, try dates
+        }
+        try {
+            return new Domain(BigDecimal.valueOf(LocalDate.parse(min).toEpochDay()),
+                    BigDecimal.valueOf(LocalDate.parse(max).toEpochDay()), true,
+                    day -> "'" + LocalDate.ofEpochDay(day.longValueExact()) + "'");
+        } catch (DateTimeParseException e) {
+            // Not a date, try timestamps
+        }
+        try {
+            return new Domain(epochMicros(min), epochMicros(max), true, RangePartitioner::renderTimestamp);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Column must hold numbers, dates or timestamps to be partitioned");
+        }
+    }
+
+    private static BigDecimal epochMicros(String value) {
+        LocalDateTime dateTime = LocalDateTime.parse(value.replace(' ', 'T'));
+        return BigDecimal.valueOf(dateTime.toEpochSecond(ZoneOffset.UTC)).multiply(MICROS_PER_SECOND)
+                .add(BigDecimal.valueOf(dateTime.getNano() / 1000));
+    }
+
+    private static String renderTimestamp(BigDecimal value) {
+        long micros = value.longValueExact();
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC);
+        return "'" + (dateTime.getNano() == 0 ? SECONDS : MICROS).format(dateTime) + "'";
+    }
+}
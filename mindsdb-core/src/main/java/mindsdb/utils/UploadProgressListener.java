@@ -0,0 +1,16 @@
+package mindsdb.utils;
+
+/**
+ * The UploadProgressListener interface receives the progress of a file upload.
+ */
+@FunctionalInterface
+public interface UploadProgressListener {
+
+    /**
+     * Called after each chunk of the file has been read into the request body.
+     * @param fileName   Name of the file on the server.
+     * @param bytesSent  Number of bytes sent so far.
+     * @param totalBytes Size of the file in bytes.
+     */
+    void progress(String fileName, long bytesSent, long totalBytes);
+}
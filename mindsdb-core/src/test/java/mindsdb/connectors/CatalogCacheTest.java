@@ -0,0 +1,44 @@
+package mindsdb.connectors;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+public class CatalogCacheTest {
+
+    @Test
+    public void testPositiveAndNegativeTtl() {
+        AtomicLong now = new AtomicLong();
+        AtomicInteger loads = new AtomicInteger();
+        CatalogCache cache = new CatalogCache(Duration.ofSeconds(60), Duration.ofSeconds(5), now::get);
+
+        assertEquals("db1", cache.get("database", "db1", () -> "db" + loads.incrementAndGet()));
+        assertEquals("db1", cache.get("database", "db1", () -> "db" + loads.incrementAndGet()));
+        assertNull(cache.get("database", "missing", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertNull(cache.get("database", "missing", () -> "unexpected"));
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.hitCount());
+        assertEquals(2, cache.missCount());
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertEquals("found", cache.get("database", "missing", () -> "found"));
+        assertEquals("db1", cache.get("database", "db1", () -> "reloaded"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        CatalogCache cache = new CatalogCache(Duration.ofSeconds(60), Duration.ofSeconds(60));
+        cache.get("ml_engine", "openai", () -> null);
+        cache.invalidate("ml_engine", "openai");
+
+        assertEquals("openai", cache.get("ml_engine", "openai", () -> "openai"));
+        assertEquals("openai", cache.get("ml_engine", "openai", () -> "reloaded"));
+    }
+}
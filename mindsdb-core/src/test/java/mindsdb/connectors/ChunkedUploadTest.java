@@ -0,0 +1,163 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+
+public class ChunkedUploadTest {
+    private HttpServer server;
+    private RestAPI api;
+    private final Map<String, List<String>> puts = new ConcurrentHashMap<>();
+    private final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+    // Number of failed responses left per part name
+    private final Map<String, Integer> failures = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/files/", exchange -> {
+            String name = exchange.getRequestURI().getPath().substring("/api/files/".length());
+            String body = read(exchange);
+            puts.computeIfAbsent(name, key -> Collections.synchronizedList(new ArrayList<>())).add(body);
+            int left = failures.getOrDefault(name, 0);
+            if (left > 0) {
+                failures.put(name, left - 1);
+                respond(exchange, 500, "{\"error\": \"unavailable\"}");
+            } else {
+                respond(exchange, 200, "{}");
+            }
+        });
+        server.createContext("/api/sql/query", exchange -> {
+            queries.add(read(exchange));
+            respond(exchange, 200, "{\"type\": \"ok\"}");
+        });
+        server.start();
+        api = new RestAPI("http://localhost:" + server.getAddress().getPort(), null, null, "key", false, null);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testUploadPartsAndRetryFailedPart() throws IOException {
+        Path csv = writeCsv(40);
+        Path journal = Files.createTempFile("chunked-upload", ".journal");
+        failures.put("sales_part1", 1);
+
+        api.uploadFileChunked("sales.csv", csv, 100, 2, journal);
+
+        assertEquals(2, puts.get("sales_part1").size());
+        assertTrue(puts.size() > 2);
+        for (Map.Entry<String, List<String>> part : puts.entrySet()) {
+            assertTrue(part.getValue().get(0).contains("id,name\n"), part.getKey());
+        }
+        int parts = puts.size();
+        String merge = queries.get(0);
+        assertTrue(merge.contains("CREATE OR REPLACE TABLE files.sales (SELECT * FROM files.sales_part0 UNION ALL"));
+        assertEquals(parts - 1, merge.split("UNION ALL").length - 1);
+        for (int i = 0; i < parts; i++) {
+            assertTrue(queries.get(i + 1).contains("DROP TABLE files.sales_part" + i));
+        }
+        assertFalse(Files.exists(journal));
+        Files.delete(csv);
+    }
+
+    @Test
+    public void testResumeUploadsOnlyMissingParts() throws IOException {
+        Path csv = writeCsv(40);
+        Path journal = Files.createTempFile("chunked-upload", ".journal");
+        failures.put("sales_part2", ChunkedUpload.MAX_ATTEMPTS);
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> api.uploadFileChunked("sales", csv, 100, 2, journal));
+        assertTrue(error.getMessage().contains("journal"));
+        assertTrue(queries.isEmpty());
+        assertTrue(Files.exists(journal));
+
+        int parts = puts.size();
+        puts.clear();
+        api.uploadFileChunked("sales", csv, 100, 2, journal);
+
+        assertEquals(Set.of("sales_part2"), puts.keySet());
+        assertEquals(1 + parts, queries.size());
+        assertFalse(Files.exists(journal));
+        Files.delete(csv);
+    }
+
+    @Test
+    public void testSmallFileUploadedWhole() throws IOException {
+        Path csv = writeCsv(2);
+        Path journal = Files.createTempFile("chunked-upload", ".journal");
+
+        api.uploadFileChunked("sales", csv, 1024, 2, journal);
+
+        assertEquals(Set.of("sales"), puts.keySet());
+        assertTrue(queries.isEmpty());
+        Files.delete(csv);
+    }
+
+    @Test
+    public void testTemporaryUploadBypassesDeduplication() throws IOException {
+        Path manifest = Files.createTempFile("upload-manifest", ".properties");
+        api.enableUploadDeduplication(manifest);
+        Table data = Table.create("data", IntColumn.create("id", new int[] { 1, 2 }));
+
+        api.uploadTemporaryFile("stage", data, TableEncoder.CSV);
+        api.uploadTemporaryFile("stage", data, TableEncoder.CSV);
+
+        // Uploaded both times, the manifest is not consulted
+        assertEquals(2, puts.get("stage").size());
+        assertTrue(puts.get("stage").get(1).contains("id\n1\n2\n"));
+        assertFalse(Files.readString(manifest).contains("stage"));
+        Files.delete(manifest);
+    }
+
+    private static Path writeCsv(int rows) throws IOException {
+        StringBuilder csv = new StringBuilder("id,name\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append(i).append(",\"row\n").append(i).append("\"\n");
+        }
+        Path file = Files.createTempFile("chunked-upload", ".csv");
+        Files.writeString(file, csv);
+        return file;
+    }
+
+    private static String read(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,32 @@
+package mindsdb.connectors;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+public class ColumnBatchTest {
+
+    @Test
+    public void testOfTable() {
+        IntColumn ids = IntColumn.create("id", 1, 2);
+        DoubleColumn scores = DoubleColumn.create("score", 0.5, Double.NaN);
+        StringColumn names = StringColumn.create("name", "a", "");
+        Table table = Table.create("input", ids, scores, names);
+
+        ColumnBatch batch = ColumnBatch.of(table);
+
+        assertEquals(List.of("id", "score", "name"), batch.columnNames());
+        assertEquals(2, batch.rowCount());
+        assertEquals(1, batch.get(0, 0));
+        assertEquals(0.5, batch.get(0, 1));
+        assertNull(batch.get(1, 1));
+        assertEquals("", batch.get(1, 2));
+    }
+}
@@ -0,0 +1,57 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.Test;
+
+public class ExportSinkTest {
+
+    private static final String BODY = "{\"column_names\": [\"id\", \"name\", \"active\"],"
+            + " \"data\": [[1, \"a,b\", true], [2, null, false], [3, \"say \\\"hi\\\"\", null]], \"type\": \"table\"}";
+
+    @Test
+    public void testExportCsv() throws IOException {
+        Path path = Files.createTempFile("export-test", ".csv");
+        ExportStats stats = ResultDecoder.decode(new StringReader(BODY), new ExportSink(path, ExportFormat.CSV, false));
+
+        assertEquals(3, stats.getRows());
+        assertEquals(Files.size(path), stats.getBytes());
+        assertEquals("id,name,active\r\n1,\"a,b\",true\r\n2,,false\r\n3,\"say \"\"hi\"\"\",\r\n",
+                Files.readString(path));
+        Files.delete(path);
+    }
+
+    @Test
+    public void testExportJsonlGzip() throws IOException {
+        Path path = Files.createTempFile("export-test", ".jsonl.gz");
+        ExportStats stats = ResultDecoder.decode(new StringReader(BODY), new ExportSink(path, ExportFormat.JSONL, true));
+
+        assertEquals(3, stats.getRows());
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+            assertEquals("{\"id\":1,\"name\":\"a,b\",\"active\":true}\n"
+                    + "{\"id\":2,\"name\":null,\"active\":false}\n"
+                    + "{\"id\":3,\"name\":\"say \\\"hi\\\"\",\"active\":null}\n",
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Files.delete(path);
+    }
+
+    @Test
+    public void testDiscardDeletesFile() throws IOException {
+        Path path = Files.createTempFile("export-test", ".csv");
+        ExportSink sink = new ExportSink(path, ExportFormat.CSV, false);
+        sink.columns(List.of("id"));
+        sink.discard();
+
+        assertFalse(Files.exists(path));
+    }
+}
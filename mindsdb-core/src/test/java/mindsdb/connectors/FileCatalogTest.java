@@ -0,0 +1,73 @@
+package mindsdb.connectors;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+public class FileCatalogTest {
+
+    private RestAPI api;
+    private AtomicLong now;
+    private FileCatalog catalog;
+
+    @BeforeEach
+    public void setUp() {
+        api = mock(RestAPI.class);
+        JsonArray files = new JsonArray();
+        for (String name : List.of("report", "notes")) {
+            JsonObject metadata = new JsonObject();
+            metadata.addProperty("name", name);
+            metadata.addProperty("row_count", 10);
+            files.add(metadata);
+        }
+        when(api.listFiles()).thenReturn(files);
+        now = new AtomicLong();
+        catalog = new FileCatalog(api, now::get);
+    }
+
+    @Test
+    public void testBatchCheckListsOnce() {
+        assertEquals(Set.of("draft"), catalog.missing(List.of("report", "draft", "notes")));
+        assertFalse(catalog.existsAll(List.of("report", "draft")));
+        verify(api, times(2)).listFiles();
+    }
+
+    @Test
+    public void testMaxAge() {
+        catalog.setMaxAge(Duration.ofMinutes(1));
+
+        assertEquals(10, catalog.get("report").get("row_count").getAsInt());
+        assertNull(catalog.get("draft"));
+        assertTrue(catalog.existsAll(List.of("report", "notes")));
+        verify(api, times(1)).listFiles();
+
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        catalog.exists("report");
+        verify(api, times(2)).listFiles();
+    }
+
+    @Test
+    public void testRecordUpload() {
+        catalog.setMaxAge(Duration.ofMinutes(1));
+        catalog.refresh();
+        catalog.recordUpload("draft");
+
+        assertTrue(catalog.existsAll(List.of("report", "draft")));
+        verify(api, times(1)).listFiles();
+    }
+}
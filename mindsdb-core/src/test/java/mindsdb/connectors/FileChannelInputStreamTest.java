@@ -0,0 +1,38 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+public class FileChannelInputStreamTest {
+
+    @Test
+    public void testReadWithProgress() throws IOException {
+        byte[] data = new byte[FileChannelInputStream.BUFFER_SIZE * 2 + 100];
+        new Random(7).nextBytes(data);
+        Path file = Files.createTempFile("upload-test", ".bin");
+        Files.write(file, data);
+        List<Long> progress = new ArrayList<>();
+
+        try (InputStream in = new FileChannelInputStream(file, "upload",
+                (name, sent, total) -> {
+                    assertEquals("upload", name);
+                    assertEquals(data.length, total);
+                    progress.add(sent);
+                })) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+
+        assertEquals(List.of((long) FileChannelInputStream.BUFFER_SIZE, 2L * FileChannelInputStream.BUFFER_SIZE,
+                (long) data.length), progress);
+        Files.delete(file);
+    }
+}
@@ -0,0 +1,111 @@
+package mindsdb.connectors;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+public class ResultCacheTest {
+
+    private AtomicLong now;
+    private ResultCache cache;
+    private Table table;
+
+    @BeforeEach
+    public void setUp() {
+        now = new AtomicLong();
+        cache = new ResultCache(10_000, Duration.ofSeconds(10), now::get);
+        table = Table.create(StringColumn.create("name", "a", "b"), IntColumn.create("id", 1, 2));
+    }
+
+    @Test
+    public void testHitMissAndTtl() {
+        assertNull(cache.get("SELECT * FROM files.sales", "mindsdb", false));
+        cache.put("SELECT * FROM files.sales", "mindsdb", false, table, cache.generation());
+
+        Table cached = cache.get("SELECT * FROM files.sales", "mindsdb", false);
+        assertNotNull(cached);
+        assertEquals(2, cached.rowCount());
+        assertNull(cache.get("SELECT * FROM files.sales", "other", false));
+        assertNull(cache.get("SELECT * FROM files.sales", "mindsdb", true));
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertNull(cache.get("SELECT * FROM files.sales", "mindsdb", false));
+        assertEquals(1, cache.hitCount());
+        assertEquals(4, cache.missCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEvictionBySize() {
+        long size = ResultCache.estimateBytes(table);
+        cache = new ResultCache(2 * size, Duration.ofSeconds(10), now::get);
+        cache.put("SELECT 1", "mindsdb", false, table, cache.generation());
+        cache.put("SELECT 2", "mindsdb", false, table, cache.generation());
+        cache.get("SELECT 1", "mindsdb", false);
+        cache.put("SELECT 3", "mindsdb", false, table, cache.generation());
+
+        assertEquals(1, cache.evictionCount());
+        assertNotNull(cache.get("SELECT 1", "mindsdb", false));
+        assertNull(cache.get("SELECT 2", "mindsdb", false));
+        assertEquals(2 * size, cache.byteSize());
+    }
+
+    @Test
+    public void testWriteInvalidation() {
+        cache.put("SELECT * FROM files.sales", "mindsdb", false, table, cache.generation());
+        cache.put("SELECT * FROM files.orders", "mindsdb", false, table, cache.generation());
+        cache.put("INSERT INTO files.orders (id) VALUES (1)", "mindsdb", false, table, cache.generation());
+        assertEquals(2, cache.size());
+
+        cache.invalidate("SELECT * FROM files.sales");
+        assertEquals(2, cache.size());
+        cache.invalidate("-- nightly load\nINSERT INTO files.`Sales` (id) VALUES (3)");
+        assertNull(cache.get("SELECT * FROM files.sales", "mindsdb", false));
+        assertNotNull(cache.get("SELECT * FROM files.orders", "mindsdb", false));
+
+        cache.invalidate("DROP TABLE IF EXISTS files.orders");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCreateAndAlterInvalidate() {
+        cache.put("SELECT * FROM files.sales", "mindsdb", false, table, cache.generation());
+        cache.put("SELECT * FROM files.orders", "mindsdb", false, table, cache.generation());
+        cache.put("SELECT * FROM files.items", "mindsdb", false, table, cache.generation());
+
+        cache.invalidate("CREATE OR REPLACE TABLE files.sales (id INT)");
+        assertNull(cache.get("SELECT * FROM files.sales", "mindsdb", false));
+        cache.invalidate("create table files.orders (select * from db.orders)");
+        assertNull(cache.get("SELECT * FROM files.orders", "mindsdb", false));
+        cache.invalidate("ALTER TABLE files.items ADD COLUMN name TEXT");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testStripKeepsQuotedText() {
+        assertEquals("SELECT '--not a comment', \"/* nor this */\"",
+                ResultCache.strip("/* lead */ SELECT '--not a comment', \"/* nor this */\" -- tail", 512));
+        assertEquals("SELECT 'it''s -- here', 'a\\' -- b'",
+                ResultCache.strip("SELECT 'it''s -- here', 'a\\' -- b'", 512));
+        assertEquals("INSERT INTO", ResultCache.strip("-- load\nINSERT INTO files.sales VALUES (1)", 13));
+        assertEquals(false, ResultCache.isCacheable("-- SELECT\nDELETE FROM files.sales"));
+    }
+
+    @Test
+    public void testResultReadBeforeWriteIsNotCached() {
+        long generation = cache.generation();
+        cache.invalidate("DELETE FROM files.sales WHERE id = 1");
+        cache.put("SELECT * FROM files.sales", "mindsdb", false, table, generation);
+
+        assertEquals(0, cache.size());
+    }
+}
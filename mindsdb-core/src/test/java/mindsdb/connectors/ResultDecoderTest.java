@@ -0,0 +1,62 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import tech.tablesaw.api.Table;
+
+public class ResultDecoderTest {
+
+    @Test
+    public void testDecodeTable() throws IOException {
+        String body = "{\"column_names\": [\"NAME\", \"AGE\", \"ACTIVE\", \"TAGS\"], \"context\": {\"db\": \"mindsdb\"},"
+                + " \"data\": [[\"alice\", 31, true, [\"a\", \"b\"]], [null, 2.5, false, {\"k\": 1}]], \"type\": \"table\"}";
+
+        Table table = ResultDecoder.decode(new StringReader(body), new TableSink());
+
+        assertEquals(2, table.rowCount());
+        assertEquals("name", table.columnNames().get(0));
+        assertEquals("alice", table.stringColumn("name").get(0));
+        assertTrue(table.stringColumn("name").isMissing(1));
+        assertEquals("31", table.stringColumn("age").get(0));
+        assertEquals("2.5", table.stringColumn("age").get(1));
+        assertEquals("true", table.stringColumn("active").get(0));
+        assertEquals("[\"a\",\"b\"]", table.stringColumn("tags").get(0));
+        assertEquals("{\"k\":1}", table.stringColumn("tags").get(1));
+    }
+
+    @Test
+    public void testDecodeRowsBeforeColumnNames() throws IOException {
+        String body = "{\"type\": \"table\", \"data\": [[\"x\", 1]], \"column_names\": [\"a\", \"b\"]}";
+
+        Table table = ResultDecoder.decode(new StringReader(body), new TableSink());
+
+        assertEquals(1, table.rowCount());
+        assertEquals("x", table.stringColumn("a").get(0));
+        assertEquals("1", table.stringColumn("b").get(0));
+    }
+
+    @Test
+    public void testDecodeOk() throws IOException {
+        String body = "{\"type\": \"ok\", \"affected_rows\": null}";
+
+        assertNull(ResultDecoder.decode(new StringReader(body), new TableSink()));
+    }
+
+    @Test
+    public void testDecodeError() {
+        String body = "{\"error_code\": 0, \"error_message\": \"Table not found\", \"type\": \"error\"}";
+
+        Exception exception = assertThrows(RuntimeException.class, () -> {
+            ResultDecoder.decode(new StringReader(body), new TableSink());
+        });
+
+        assertEquals("SQL Query failed: Table not found", exception.getMessage());
+    }
+}
@@ -0,0 +1,55 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class SpillingSinkTest {
+
+    private static final String BODY = "{\"column_names\": [\"id\", \"name\"], \"data\": [[1, \"alpha\"], [2, null],"
+            + " [3, \"\"], [4, \"été\"]], \"type\": \"table\"}";
+
+    @Test
+    public void testResultInMemory() throws IOException {
+        try (QueryResult result = ResultDecoder.decode(new StringReader(BODY), new SpillingSink(1024 * 1024))) {
+            assertFalse(result.isSpilled());
+            assertEquals(4, result.rowCount());
+            assertEquals("alpha", result.get(0, "name"));
+            assertNull(result.get(1, 1));
+        }
+    }
+
+    @Test
+    public void testResultSpilled() throws IOException {
+        Path directory = Files.createTempDirectory("spill-test");
+        QueryResult result = ResultDecoder.decode(new StringReader(BODY), new SpillingSink(0, directory));
+
+        assertTrue(result.isSpilled());
+        assertEquals(4, result.rowCount());
+        assertEquals("1", result.get(0, "id"));
+        assertEquals("alpha", result.get(0, "name"));
+        assertNull(result.get(1, "name"));
+        assertEquals("", result.get(2, "name"));
+        assertEquals("été", result.get(3, "name"));
+        assertEquals("4", result.row(3).get("id"));
+        assertEquals(4, result.toTable().rowCount());
+
+        result.close();
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+        assertThrows(IllegalStateException.class, () -> result.get(0, "id"));
+        assertThrows(IllegalStateException.class, result::toTable);
+        assertEquals(2, result.columnCount());
+        result.close();
+        Files.delete(directory);
+    }
+}
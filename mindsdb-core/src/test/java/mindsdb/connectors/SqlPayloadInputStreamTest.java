@@ -0,0 +1,84 @@
+package mindsdb.connectors;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+public class SqlPayloadInputStreamTest {
+
+    private static final String TRICKY = "SELECT * FROM t WHERE a = 'say \"hi\"' AND b = 'C:\\\\temp'\n"
+            + "\tAND c = '\u0001\u001f' AND d = 'caf\u00e9 \u20ac \ud83d\ude00 \u2028'";
+
+    @Test
+    public void testEscapedPayloadRoundTrips() throws IOException {
+        JsonObject payload = parse(new SqlPayloadInputStream(TRICKY, "my \"db\""));
+
+        assertEquals(TRICKY, payload.get("query").getAsString());
+        assertEquals("my \"db\"", payload.getAsJsonObject("context").get("db").getAsString());
+    }
+
+    @Test
+    public void testSmallChunksSplitAtEveryOffset() throws IOException {
+        for (int chunkSize = 6; chunkSize < 20; chunkSize++) {
+            JsonObject payload = parse(new SqlPayloadInputStream(TRICKY, "mindsdb", chunkSize));
+            assertEquals(TRICKY, payload.get("query").getAsString(), "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    public void testLargeStatementMatchesStringEncoding() throws IOException {
+        StringBuilder sql = new StringBuilder("INSERT INTO t (a) VALUES ");
+        for (int i = 0; i < 20_000; i++) {
+            sql.append(i == 0 ? "" : ", ").append("('row \u00e9 ").append(i).append("')");
+        }
+        String expected = "{\"query\": \"" + sql + "\", \"context\": {\"db\": \"mindsdb\"}}";
+
+        try (InputStream in = new SqlPayloadInputStream(sql.toString(), "mindsdb")) {
+            byte[] bytes = in.readAllBytes();
+            assertEquals(expected, new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testSingleByteReads() throws IOException {
+        try (InputStream in = new SqlPayloadInputStream("SELECT '\u00e9'", "db", 8)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) >= 0) {
+                out.write(b);
+            }
+            assertEquals("{\"query\": \"SELECT '\u00e9'\", \"context\": {\"db\": \"db\"}}",
+                    out.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testSmallStatementsAreSized() throws IOException {
+        byte[] bytes = SqlPayloadInputStream.toBytes(TRICKY, "my \"db\"");
+        try (InputStream in = new SqlPayloadInputStream(TRICKY, "my \"db\"")) {
+            assertArrayEquals(in.readAllBytes(), bytes);
+        }
+        assertEquals(bytes.length, SqlPayloadInputStream.length(TRICKY, "my \"db\""));
+        // Unpaired surrogates are one byte
+        assertEquals(SqlPayloadInputStream.length("", "db") + 2, SqlPayloadInputStream.length("\ud83d\ud83d", "db"));
+
+        assertNull(SqlPayloadInputStream.toBytes("x".repeat(SqlPayloadInputStream.STREAM_THRESHOLD), "db"));
+        // Escapes count towards the threshold
+        assertNull(SqlPayloadInputStream.toBytes("\n".repeat(SqlPayloadInputStream.STREAM_THRESHOLD / 2), "db"));
+    }
+
+    private static JsonObject parse(InputStream in) throws IOException {
+        try (in) {
+            return JsonParser.parseString(new String(in.readAllBytes(), StandardCharsets.UTF_8)).getAsJsonObject();
+        }
+    }
+}
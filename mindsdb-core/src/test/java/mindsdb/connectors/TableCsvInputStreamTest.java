@@ -0,0 +1,42 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+public class TableCsvInputStreamTest {
+
+    @Test
+    public void testEncode() throws IOException {
+        Table table = Table.create("input",
+                IntColumn.create("id", 1, 2),
+                StringColumn.create("text", "plain", "with, \"quotes\""));
+
+        try (InputStream csv = new TableCsvInputStream(table)) {
+            assertEquals("id,text\n1,plain\n2,\"with, \"\"quotes\"\"\"\n",
+                    new String(csv.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testEncodeInChunks() throws IOException {
+        StringColumn values = StringColumn.create("value");
+        for (int i = 0; i < 10_000; i++) {
+            values.append("row-" + i);
+        }
+        Table table = Table.create("input", values);
+
+        try (InputStream csv = new TableCsvInputStream(table)) {
+            String text = new String(csv.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals(10_001, text.split("\n").length);
+            assertEquals("row-9999\n", text.substring(text.length() - 9));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package mindsdb.connectors;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import tech.tablesaw.api.ColumnType;
+import tech.tablesaw.api.Table;
+
+public class TypedTableSinkTest {
+
+    @Test
+    public void testInferTypes() throws IOException {
+        String body = "{\"column_names\": [\"id\", \"big\", \"score\", \"flag\", \"created\", \"name\"],"
+                + " \"data\": [[1, 1, 0.5, true, \"2024-01-02 03:04:05\", \"a\"],"
+                + " [null, 10000000000, 2, false, \"2024-01-03T00:00:00\", null]], \"type\": \"table\"}";
+
+        Table table = ResultDecoder.decode(new StringReader(body), new TypedTableSink());
+
+        assertEquals(ColumnType.INTEGER, table.column("id").type());
+        assertEquals(1, table.intColumn("id").get(0));
+        assertTrue(table.intColumn("id").isMissing(1));
+        assertEquals(ColumnType.LONG, table.column("big").type());
+        assertEquals(10000000000L, table.longColumn("big").get(1));
+        assertEquals(ColumnType.DOUBLE, table.column("score").type());
+        assertEquals(2.0, table.doubleColumn("score").get(1));
+        assertEquals(ColumnType.BOOLEAN, table.column("flag").type());
+        assertEquals(ColumnType.LOCAL_DATE_TIME, table.column("created").type());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), table.dateTimeColumn("created").get(0));
+        assertEquals(ColumnType.STRING, table.column("name").type());
+    }
+
+    @Test
+    public void testMixedValuesFallBackToString() throws IOException {
+        String body = "{\"column_names\": [\"value\", \"empty\"], \"data\": [[null, null], [1, null], [\"x\", null]],"
+                + " \"type\": \"table\"}";
+
+        Table table = ResultDecoder.decode(new StringReader(body), new TypedTableSink());
+
+        assertEquals(3, table.rowCount());
+        assertEquals(ColumnType.STRING, table.column("value").type());
+        assertEquals("1", table.stringColumn("value").get(1));
+        assertEquals("x", table.stringColumn("value").get(2));
+        assertEquals(ColumnType.STRING, table.column("empty").type());
+    }
+
+    @Test
+    public void testSchemaHint() throws IOException {
+        String body = "{\"column_names\": [\"code\", \"amount\"], \"data\": [[\"007\", \"12.5\"]], \"type\": \"table\"}";
+
+        Table table = ResultDecoder.decode(new StringReader(body),
+                new TypedTableSink(Map.of("amount", ColumnType.DOUBLE)));
+
+        assertEquals(ColumnType.STRING, table.column("code").type());
+        assertEquals("007", table.stringColumn("code").get(0));
+        assertEquals(12.5, table.doubleColumn("amount").get(0));
+    }
+
+    @Test
+    public void testInvalidTimestampsAreStrings() throws IOException {
+        String body = "{\"column_names\": [\"day\", \"at\"], \"data\": [[\"2024-02-29 10:00\", \"2024-13-01T25:61\"],"
+                + " [\"2024-02-30 10:00\", \"2024-01-01T10:00\"]], \"type\": \"table\"}";
+
+        Table table = ResultDecoder.decode(new StringReader(body), new TypedTableSink());
+
+        assertEquals(ColumnType.STRING, table.column("day").type());
+        assertEquals("2024-02-30 10:00", table.stringColumn("day").get(1));
+        assertEquals(ColumnType.STRING, table.column("at").type());
+        assertEquals("2024-13-01T25:61", table.stringColumn("at").get(0));
+    }
+
+    @Test
+    public void testDecodeRecords() throws IOException {
+        String body = "[{\"name\": \"a\", \"price\": 1}, {\"price\": 2.5, \"name\": \"b\", \"extra\": 1}]";
+
+        Table table = ResultDecoder.decodeRecords(new StringReader(body), new TypedTableSink());
+
+        assertEquals(2, table.rowCount());
+        assertEquals(2, table.columnCount());
+        assertEquals("b", table.stringColumn("name").get(1));
+        assertEquals(2.5, table.doubleColumn("price").get(1));
+    }
+}
@@ -0,0 +1,46 @@
+package mindsdb.connectors;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class UploadManifestTest {
+
+    private static final String ABC_SHA256 = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @Test
+    public void testSha256() throws IOException {
+        byte[] data = "abc".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(ABC_SHA256, UploadManifest.sha256(data));
+        assertEquals(ABC_SHA256, UploadManifest.sha256(new ByteArrayInputStream(data)));
+    }
+
+    @Test
+    public void testManifestIsPersisted() throws IOException {
+        Path directory = Files.createTempDirectory("manifest-test");
+        Path file = directory.resolve("uploads.properties");
+
+        UploadManifest manifest = new UploadManifest(file);
+        assertFalse(manifest.isUnchanged("http://localhost/api/files/sales", ABC_SHA256));
+        manifest.recordUpload("http://localhost/api/files/sales", ABC_SHA256, 3);
+        assertEquals(3, manifest.getBytesUploaded());
+
+        UploadManifest reopened = new UploadManifest(file);
+        assertTrue(reopened.isUnchanged("http://localhost/api/files/sales", ABC_SHA256));
+        assertFalse(reopened.isUnchanged("http://localhost/api/files/sales", "0"));
+        reopened.recordSkip(3);
+        assertEquals(1, reopened.getSkippedUploads());
+        assertEquals(3, reopened.getBytesSaved());
+
+        Files.delete(file);
+        Files.delete(directory);
+    }
+}
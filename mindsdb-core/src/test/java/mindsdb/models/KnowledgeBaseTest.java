@@ -0,0 +1,323 @@
+package mindsdb.models;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+
+import com.sun.net.httpserver.HttpServer;
+
+import mindsdb.connectors.RestAPI;
+import mindsdb.connectors.ResultRow;
+import mindsdb.connectors.RowCursor;
+import mindsdb.services.Query;
+import mindsdb.utils.DocumentChunker;
+import mindsdb.utils.InsertProgressListener;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Table;
+
+public class KnowledgeBaseTest {
+
+    @Mock
+    private RestAPI api;
+
+    @Mock
+    private Project project;
+
+    private KnowledgeBase knowledgeBase;
+    private Map<String, Object> data;
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        data = new HashMap<>();
+        data.put("name", "testKnowledgeBase");
+        data.put("params",
+                "{\"metadata_columns\": [\"col1\", \"col2\"], \"content_columns\": [\"col3\", \"col4\"], \"id_column\": \"id\"}");
+        data.put("database", "testDatabase");
+        when(project.getName()).thenReturn("testProject");
+        knowledgeBase = new KnowledgeBase(api, project, data);
+        directory = Files.createTempDirectory("kb-test");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals("testKnowledgeBase", knowledgeBase.getName());
+        assertEquals("testProject.testKnowledgeBase", knowledgeBase.getTableName());
+        assertNotNull(knowledgeBase.getParams());
+        assertEquals(Arrays.asList("col1", "col2"), knowledgeBase.getMetadataColumns());
+        assertEquals(Arrays.asList("col3", "col4"), knowledgeBase.getContentColumns());
+        assertEquals("id", knowledgeBase.getIdColumn());
+    }
+
+    @Test
+    public void testFind() {
+        KnowledgeBase foundKnowledgeBase = knowledgeBase.find("testQuery", 10);
+        assertNotNull(foundKnowledgeBase);
+        assertEquals("testQuery", foundKnowledgeBase.getQuery());
+        assertEquals(10, foundKnowledgeBase.getLimit());
+    }
+
+    @Test
+    public void testInsertFiles() {
+        List<String> filePaths = Arrays.asList("file1.txt", "file2.txt");
+        knowledgeBase.insertFiles(filePaths);
+        verify(api, times(1)).insertFilesIntoKnowledgeBase("testProject", "testKnowledgeBase", filePaths);
+    }
+
+    @Test
+    public void testInsertWebpages() {
+        List<String> urls = Arrays.asList("http://example.com", "http://example.org");
+        int crawlDepth = 2;
+        List<String> filters = Arrays.asList("filter1", "filter2");
+        knowledgeBase.insertWebpages(urls, crawlDepth, filters);
+        verify(api, times(1)).insertWebpagesIntoKnowledgeBase("testProject", "testKnowledgeBase", urls, crawlDepth,
+                filters);
+    }
+
+    @Test
+    public void testInsertTable() {
+        Table table = Table.create("data");
+        table.addColumns(
+                tech.tablesaw.api.StringColumn.create("col1", new String[] { "val1", "val2" }),
+                tech.tablesaw.api.StringColumn.create("col2", new String[] { "val3", "val4" }));
+
+        knowledgeBase.insert(table);
+        String expectedQuery = "INSERT INTO testProject.testKnowledgeBase (col1, col2) VALUES ('val1', 'val3'), ('val2', 'val4');";
+        verify(api, times(1)).sqlQuery(expectedQuery, "testProject");
+    }
+
+    @Test
+    public void testInsertTableInParallelBatches() {
+        IntColumn ids = IntColumn.create("id");
+        for (int i = 0; i < 10; i++) {
+            ids.append(i);
+        }
+        Table table = Table.create("data", ids);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(api.sqlQuery(anyString(), eq("testProject"))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return null;
+        });
+        List<Integer> batches = Collections.synchronizedList(new ArrayList<>());
+
+        BulkInsertResult result = knowledgeBase.insert(table, 3, 2, new InsertProgressListener() {
+            @Override
+            public void progress(String tableName, long rowsInserted, long totalRows) {
+            }
+
+            @Override
+            public void chunkInserted(String tableName, int chunk, int rows, long elapsedNanos) {
+                batches.add(rows);
+            }
+        });
+
+        verify(api).sqlQuery("INSERT INTO testProject.testKnowledgeBase (id) VALUES (0), (1), (2);", "testProject");
+        verify(api).sqlQuery("INSERT INTO testProject.testKnowledgeBase (id) VALUES (9);", "testProject");
+        assertTrue(result.isComplete());
+        assertEquals(4, result.getChunkCount());
+        assertEquals(10, result.getInsertedRows());
+        assertEquals(4, result.getChunkNanos().length);
+        assertTrue(result.getMaxChunkNanos() >= 20_000_000L);
+        assertEquals(4, batches.size());
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testSyncSendsOnlyChanges() throws IOException {
+        Path indexFile = directory.resolve("kb.idx");
+        Query source = mock(Query.class);
+        RowCursor rows = cursor(new String[] { "1", "a" }, new String[] { "2", "b" });
+        when(source.iterator()).thenReturn(rows);
+
+        SyncResult first = knowledgeBase.sync(source, indexFile);
+
+        assertEquals(2, first.getInsertedRows());
+        verify(api).sqlQuery("INSERT INTO testProject.testKnowledgeBase (id, col1, col2, col3, col4) "
+                + "VALUES ('1', 'm', 'm', 'a', 'c'), ('2', 'm', 'm', 'b', 'c');", "testProject");
+
+        rows = cursor(new String[] { "2", "b2" }, new String[] { "3", "c" });
+        when(source.iterator()).thenReturn(rows);
+        SyncResult second = knowledgeBase.sync(source, indexFile);
+
+        assertEquals(1, second.getInsertedRows());
+        assertEquals(1, second.getUpdatedRows());
+        assertEquals(0, second.getUnchangedRows());
+        assertEquals(1, second.getDeletedRows());
+        verify(api).sqlQuery("INSERT INTO testProject.testKnowledgeBase (id, col1, col2, col3, col4) "
+                + "VALUES ('2', 'm', 'm', 'b2', 'c'), ('3', 'm', 'm', 'c', 'c');", "testProject");
+        verify(api).sqlQuery("DELETE FROM testProject.testKnowledgeBase WHERE id IN ('1');", "testProject");
+
+        rows = cursor(new String[] { "2", "b2" }, new String[] { "3", "c" });
+        when(source.iterator()).thenReturn(rows);
+        SyncResult third = knowledgeBase.sync(source, indexFile);
+
+        assertEquals(2, third.getUnchangedRows());
+        assertEquals(0, third.getInsertedRows() + third.getUpdatedRows() + third.getDeletedRows());
+    }
+
+    @Test
+    public void testInsertDocumentsInChunks() throws IOException {
+        Path file = directory.resolve("notes.txt");
+        Files.writeString(file, "one two three four five six");
+
+        BulkInsertResult result = knowledgeBase.insertDocuments(List.of(file), new DocumentChunker(2, 1,
+                DocumentChunker.Unit.WORDS), 3, 1, null);
+
+        String prefix = "INSERT INTO testProject.testKnowledgeBase (id, chunk_index, content, metadata) VALUES ";
+        String metadata = "'{\"source\": \"notes.txt\"}'";
+        verify(api).sqlQuery(prefix + "('notes.txt:0', 0, 'one two', " + metadata + "), ('notes.txt:1', 1, 'two three', "
+                + metadata + "), ('notes.txt:2', 2, 'three four', " + metadata + ");", "testProject");
+        verify(api).sqlQuery(prefix + "('notes.txt:3', 3, 'four five', " + metadata + "), ('notes.txt:4', 4, 'five six', "
+                + metadata + ");", "testProject");
+        assertEquals(5, result.getTotalRows());
+        assertEquals(2, result.getChunkCount());
+        assertTrue(result.isComplete());
+    }
+
+    @Test
+    public void testFindAllOverlapsSearches() throws IOException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/api/sql/query", exchange -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String query = body.replaceAll(".*CONTENT = '([^']*)'.*", "$1");
+            try {
+                Thread.sleep(25);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] response = ("{\"type\": \"table\", \"column_names\": [\"chunk_content\"], \"data\": [[\""
+                    + query + "\"]]}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            running.decrementAndGet();
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+        try {
+            RestAPI stubApi = new RestAPI("http://localhost:" + server.getAddress().getPort(), null, null, "key",
+                    false, null);
+            KnowledgeBase kb = new KnowledgeBase(stubApi, project, data);
+            List<String> queries = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                queries.add("query " + i);
+            }
+            queries.add("query 0");
+
+            long start = System.nanoTime();
+            Map<String, Table> sequential = kb.findAll(queries, 5, 1);
+            long sequentialNanos = System.nanoTime() - start;
+            assertEquals(1, maxRunning.get());
+
+            maxRunning.set(0);
+            start = System.nanoTime();
+            Map<String, Table> parallel = kb.findAll(queries, 5, 8);
+            long parallelNanos = System.nanoTime() - start;
+
+            assertEquals(32, parallel.size());
+            assertEquals(new ArrayList<>(sequential.keySet()), new ArrayList<>(parallel.keySet()));
+            for (Map.Entry<String, Table> result : parallel.entrySet()) {
+                assertEquals(result.getKey(), result.getValue().getString(0, "chunk_content"));
+            }
+            // 8 concurrent searches of 25 ms each: up to 0.32 searches/ms against 0.04 one at a time
+            assertTrue(maxRunning.get() > 1 && maxRunning.get() <= 8,
+                    String.format("max concurrent searches %d, parallel %.1f searches/s, sequential %.1f searches/s",
+                            maxRunning.get(), 32 * 1e9 / parallelNanos, 32 * 1e9 / sequentialNanos));
+        } finally {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private static RowCursor cursor(String[]... rows) {
+        List<String> columns = List.of("id", "col1", "col2", "col3", "col4");
+        Iterator<ResultRow> iterator = Arrays.stream(rows)
+                .map(row -> new ResultRow(columns, new String[] { row[0], "m", "m", row[1], "c" }))
+                .iterator();
+        RowCursor cursor = mock(RowCursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+
+    @Test
+    public void testInsertQuery() {
+        Query query = mock(Query.class);
+        when(query.getDatabase()).thenReturn("testDatabase");
+        when(query.getSql()).thenReturn("SELECT * FROM testTable");
+
+        knowledgeBase.insert(query);
+        String expectedQuery = "INSERT INTO testProject.testKnowledgeBase SELECT * FROM testDatabase (SELECT * FROM testTable) ;";
+        verify(api, times(1)).sqlQuery(expectedQuery, "testDatabase");
+    }
+
+    @Test
+    public void testInsertMap() {
+        Map<String, String> insertData = new HashMap<>();
+        insertData.put("col1", "val1");
+        insertData.put("col2", "val2");
+
+        knowledgeBase.insert(insertData);
+        String expectedQuery = "INSERT INTO testProject.testKnowledgeBase (col2, col1) VALUES ('val2', 'val1');";
+        verify(api, times(1)).sqlQuery(expectedQuery, "testProject");
+    }
+
+    @Test
+    public void testClone() throws CloneNotSupportedException {
+        KnowledgeBase clonedKnowledgeBase = knowledgeBase.clone();
+        assertNotNull(clonedKnowledgeBase);
+        assertEquals(knowledgeBase.getName(), clonedKnowledgeBase.getName());
+        assertEquals(knowledgeBase.getTableName(), clonedKnowledgeBase.getTableName());
+        assertEquals(knowledgeBase.getParams(), clonedKnowledgeBase.getParams());
+        assertEquals(knowledgeBase.getMetadataColumns(), clonedKnowledgeBase.getMetadataColumns());
+        assertEquals(knowledgeBase.getContentColumns(), clonedKnowledgeBase.getContentColumns());
+        assertEquals(knowledgeBase.getIdColumn(), clonedKnowledgeBase.getIdColumn());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,321 @@
+package mindsdb.models;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+
+import mindsdb.connectors.RestAPI;
+import mindsdb.connectors.TableEncoder;
+import mindsdb.services.PageIterator;
+import mindsdb.services.Query;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.Row;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+public class MDBTableTest {
+    @Mock
+    private Database mockDatabase;
+    @Mock
+    private Project mockProject;
+    @Mock
+    private RestAPI mockApi;
+
+    private MDBTable mdbTable;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(mockDatabase.getApi()).thenReturn(mockApi);
+        when(mockDatabase.getName()).thenReturn("testDatabase");
+        when(mockProject.getApi()).thenReturn(mockApi);
+        when(mockProject.getName()).thenReturn("testProject");
+
+        mdbTable = new MDBTable(mockDatabase, "testTable");
+    }
+
+    @Test
+    public void testConstructorWithDatabase() {
+        assertEquals("testTable", mdbTable.getName());
+        assertEquals("testDatabase.testTable", mdbTable.getTableName());
+        assertNotNull(mdbTable.getFilters());
+        assertEquals(0, mdbTable.getFilters().size());
+        assertEquals(null, mdbTable.getLimit());
+        assertEquals(null, mdbTable.getTrackColumn());
+    }
+
+    @Test
+    public void testConstructorWithProject() {
+        MDBTable tableFromProject = new MDBTable(mockProject, "testTable");
+        assertEquals("testTable", tableFromProject.getName());
+        assertEquals("testProject.testTable", tableFromProject.getTableName());
+    }
+
+    @Test
+    public void testFilter() {
+        MDBTable filteredTable = mdbTable.filter("column1=value1", "column2=value2");
+        assertEquals(2, filteredTable.getFilters().size());
+        assertEquals("value1", filteredTable.getFilters().get("column1"));
+        assertEquals("value2", filteredTable.getFilters().get("column2"));
+    }
+
+    @Test
+    public void testFilterWithQualifiedKey() {
+        MDBTable filteredTable = mdbTable.filter("t.a=1");
+        assertEquals("1", filteredTable.getFilters().get("t.a"));
+        assertEquals("SELECT * FROM testDatabase.testTable WHERE t.a = '1'", filteredTable.getSql());
+    }
+
+    @Test
+    public void testFilterWithSpacesAroundEquals() {
+        MDBTable filteredTable = mdbTable.filter("a = 1", " b=two ");
+        assertEquals("1", filteredTable.getFilters().get("a"));
+        assertEquals("two", filteredTable.getFilters().get("b"));
+        assertTrue(filteredTable.getSql().contains("a = '1'"));
+        assertTrue(filteredTable.getSql().contains("b = 'two'"));
+    }
+
+    @Test
+    public void testLimit() {
+        MDBTable limitedTable = mdbTable.limit(10);
+        assertEquals(10, limitedTable.getLimit());
+    }
+
+    @Test
+    public void testTrack() {
+        MDBTable trackedTable = mdbTable.track("column1");
+        assertEquals("column1", trackedTable.getTrackColumn());
+    }
+
+    @Test
+    public void testInsertQuery() {
+        Query mockQuery = mock(Query.class);
+        when(mockQuery.getSql()).thenReturn("SELECT * FROM testQuery");
+        when(mockQuery.getDatabase()).thenReturn(null);
+
+        mdbTable.insert(mockQuery);
+        verify(mockApi, times(1)).sqlQuery("INSERT INTO testDatabase.testTable (SELECT * FROM testQuery)");
+    }
+
+    @Test
+    public void testInsertTable() {
+        Table mockTable = mock(Table.class);
+        when(mockTable.columnNames()).thenReturn(List.of("column1", "column2"));
+        when(mockTable.rowCount()).thenReturn(1);
+        Row mockRow = mock(Row.class);
+        when(mockTable.row(0)).thenReturn(mockRow);
+        when(mockRow.getObject(0)).thenReturn("value1");
+        when(mockRow.getObject(1)).thenReturn(2);
+
+        mdbTable.insert(mockTable);
+        verify(mockApi, times(1))
+                .sqlQuery("INSERT INTO testDatabase.testTable (column1, column2) VALUES ('value1', 2)");
+    }
+
+    @Test
+    public void testInsertTableInChunks() {
+        Table data = Table.create("data", IntColumn.create("id", new int[] { 1, 2, 3, 4, 5 }),
+                StringColumn.create("name", "a", "b", "c", "d", "e"));
+        List<Long> progress = new ArrayList<>();
+
+        BulkInsertResult result = mdbTable.insert(data, 2, 1024, 1,
+                (table, inserted, total) -> progress.add(inserted));
+
+        verify(mockApi).sqlQuery("INSERT INTO testDatabase.testTable (id, name) VALUES (1, 'a'), (2, 'b')");
+        verify(mockApi).sqlQuery("INSERT INTO testDatabase.testTable (id, name) VALUES (3, 'c'), (4, 'd')");
+        verify(mockApi).sqlQuery("INSERT INTO testDatabase.testTable (id, name) VALUES (5, 'e')");
+        assertEquals(3, result.getChunkCount());
+        assertEquals(5, result.getInsertedRows());
+        assertTrue(result.isComplete());
+        assertEquals(List.of(2L, 4L, 5L), progress);
+    }
+
+    @Test
+    public void testInsertTableByteBudgetAndChunkErrors() {
+        Table data = Table.create("data", IntColumn.create("id", new int[] { 1, 2, 3, 4 }));
+        String prefix = "INSERT INTO testDatabase.testTable (id) VALUES ";
+        when(mockApi.sqlQuery(prefix + "(3), (4)")).thenThrow(new RuntimeException("Request too large"));
+
+        BulkInsertResult result = mdbTable.insert(data, 100, prefix.length() + 8, 3);
+
+        verify(mockApi).sqlQuery(prefix + "(1), (2)");
+        verify(mockApi).sqlQuery(prefix + "(3), (4)");
+        assertEquals(2, result.getChunkCount());
+        assertEquals(2, result.getInsertedRows());
+        assertEquals(1, result.getErrors().size());
+        BulkInsertResult.ChunkError error = result.getErrors().get(0);
+        assertEquals(1, error.getChunk());
+        assertEquals(2, error.getFirstRow());
+        assertEquals(2, error.getRowCount());
+        assertEquals("Request too large", error.getError().getMessage());
+    }
+
+    @Test
+    public void testInsertTableListenerErrorIsNotChunkError() {
+        Table data = Table.create("data", IntColumn.create("id", new int[] { 1, 2, 3, 4 }));
+        String prefix = "INSERT INTO testDatabase.testTable (id) VALUES ";
+
+        for (int concurrency : new int[] { 1, 2 }) {
+            IllegalStateException error = assertThrows(IllegalStateException.class,
+                    () -> mdbTable.insert(data, 2, 1024, concurrency, (table, inserted, total) -> {
+                        throw new IllegalStateException("Listener failed");
+                    }));
+            assertEquals("Listener failed", error.getMessage());
+        }
+        verify(mockApi, times(2)).sqlQuery(prefix + "(1), (2)");
+    }
+
+    @Test
+    public void testBulkLoadStagesLargeTable() {
+        Table data = Table.create("data", IntColumn.create("id", new int[] { 1, 2, 3 }),
+                StringColumn.create("name", "a", "b", "c"));
+
+        mdbTable.bulkLoad(data, 3);
+
+        ArgumentCaptor<String> stage = ArgumentCaptor.forClass(String.class);
+        verify(mockApi).uploadTemporaryFile(stage.capture(), eq(data), eq(TableEncoder.CSV));
+        verify(mockApi, never()).uploadFile(anyString(), any(Table.class));
+        assertTrue(stage.getValue().startsWith("mindsdb_stage_"));
+        InOrder order = inOrder(mockApi);
+        order.verify(mockApi).sqlQuery("INSERT INTO testDatabase.testTable (id, name) SELECT id, name FROM files."
+                + stage.getValue());
+        order.verify(mockApi).sqlQuery("DROP TABLE files." + stage.getValue());
+    }
+
+    @Test
+    public void testBulkLoadDropsStageWhenInsertFails() {
+        Table data = Table.create("data", IntColumn.create("id", new int[] { 1, 2, 3 }));
+        when(mockApi.sqlQuery(startsWith("INSERT"))).thenThrow(new RuntimeException("Insert failed"));
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> mdbTable.bulkLoad(data, 1));
+
+        assertEquals("Insert failed", error.getMessage());
+        verify(mockApi).sqlQuery(startsWith("DROP TABLE files.mindsdb_stage_"));
+    }
+
+    @Test
+    public void testBulkLoadInsertsSmallTable() {
+        Table data = Table.create("data", IntColumn.create("id", new int[] { 1, 2 }));
+
+        mdbTable.bulkLoad(data, 3);
+
+        verify(mockApi).sqlQuery("INSERT INTO testDatabase.testTable (id) VALUES (1), (2)");
+        verify(mockApi, never()).uploadTemporaryFile(anyString(), any(Table.class), any(TableEncoder.class));
+    }
+
+    @Test
+    public void testDelete() {
+        mdbTable.delete("column1=value1", "column2=value2");
+        verify(mockApi, times(1))
+                .sqlQuery("DELETE FROM testDatabase.testTable WHERE column1=value1 AND column2=value2;");
+    }
+
+    @Test
+    public void testUpdate() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("column1", "newValue");
+        values.put("column2", 2);
+
+        mdbTable.update(values, "column3=value3");
+        verify(mockApi, times(1))
+                .sqlQuery("UPDATE testDatabase.testTable SET column1 = 'newValue', column2 = 2 WHERE column3=value3");
+    }
+
+    @Test
+    public void testFetchPagesWithOffset() {
+        Table fullPage = Table.create(StringColumn.create("id", "1", "2"));
+        Table lastPage = Table.create(StringColumn.create("id", "3"));
+        when(mockApi.sqlQuery("SELECT * FROM testDatabase.testTable LIMIT 2 OFFSET 0", null)).thenReturn(fullPage);
+        when(mockApi.sqlQuery("SELECT * FROM testDatabase.testTable LIMIT 2 OFFSET 2", null)).thenReturn(lastPage);
+
+        List<Table> pages = new ArrayList<>();
+        try (PageIterator iterator = mdbTable.fetchPages(2)) {
+            iterator.forEachRemaining(pages::add);
+        }
+
+        assertEquals(2, pages.size());
+        assertEquals("3", pages.get(1).stringColumn("id").get(0));
+    }
+
+    @Test
+    public void testFetchPagesWithKeyset() {
+        Table fullPage = Table.create(IntColumn.create("id", 1, 2));
+        Table emptyPage = Table.create(IntColumn.create("id"));
+        when(mockApi.sqlQuery("SELECT * FROM testDatabase.testTable WHERE column1 = 'value1' ORDER BY id LIMIT 2",
+                null)).thenReturn(fullPage);
+        when(mockApi.sqlQuery(
+                "SELECT * FROM testDatabase.testTable WHERE column1 = 'value1' AND id > 2 ORDER BY id LIMIT 2",
+                null)).thenReturn(emptyPage);
+
+        List<Table> pages = new ArrayList<>();
+        try (PageIterator iterator = mdbTable.filter("column1=value1").fetchPages(2, "id")) {
+            iterator.forEachRemaining(pages::add);
+        }
+
+        // The empty page after the last full one ends the iteration
+        assertEquals(1, pages.size());
+        assertEquals(2, pages.get(0).rowCount());
+    }
+
+    @Test
+    public void testFetchPagesWithStringKeyset() {
+        when(mockApi.sqlQuery("SELECT * FROM testDatabase.testTable ORDER BY `zip code` LIMIT 2", null))
+                .thenReturn(Table.create(StringColumn.create("zip code", "00100", "00123")));
+        when(mockApi.sqlQuery(
+                "SELECT * FROM testDatabase.testTable WHERE `zip code` > '00123' ORDER BY `zip code` LIMIT 2", null)).thenReturn(Table.create(StringColumn.create("zip code", "1e5")));
+
+        List<Table> pages = new ArrayList<>();
+        try (PageIterator iterator = mdbTable.fetchPages(2, "zip code")) {
+            iterator.forEachRemaining(pages::add);
+        }
+
+        assertEquals(2, pages.size());
+        assertEquals("1e5", pages.get(1).stringColumn("zip code").get(0));
+    }
+
+    @Test
+    public void testParallelFetch() {
+        when(mockApi.sqlQuery("SELECT MIN(id) AS min_value, MAX(id) AS max_value FROM testDatabase.testTable",
+                null)).thenReturn(Table.create(StringColumn.create("min_value", "1"),
+                        StringColumn.create("max_value", "4")));
+        when(mockApi.sqlQuery("SELECT * FROM testDatabase.testTable WHERE id >= 1 AND id < 3", null))
+                .thenReturn(Table.create(StringColumn.create("id", "1", "2")));
+        when(mockApi.sqlQuery("SELECT * FROM testDatabase.testTable WHERE id >= 3 AND id <= 4", null))
+                .thenReturn(Table.create(StringColumn.create("id", "3", "4")));
+        when(mockApi.sqlQuery("SELECT * FROM testDatabase.testTable WHERE id IS NULL", null))
+                .thenReturn(Table.create(StringColumn.create("id")));
+
+        Table result = mdbTable.parallelFetch("id", 2);
+
+        assertEquals(List.of("1", "2", "3", "4"), result.stringColumn("id").asList());
+    }
+
+    @Test
+    public void testToString() {
+        MDBTable table = mdbTable.filter("column1=value1").limit(10).track("column2");
+        String expectedString = "MDBTable(testDatabase.testTable, column1 = value1, limit=10)";
+        assertEquals(expectedString, table.toString());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+package mindsdb.models;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import mindsdb.connectors.ResultRow;
+
+public class SyncIndexTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("sync-index-test");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testPersistsAcrossReopen() throws IOException {
+        Path file = directory.resolve("kb.idx");
+        try (SyncIndex index = SyncIndex.open(file)) {
+            long generation = index.nextGeneration();
+            index.put("a", 1, generation);
+            index.put("b", 2, generation);
+            index.put("a", 3, generation);
+            assertEquals(2, index.size());
+        }
+
+        try (SyncIndex index = SyncIndex.open(file)) {
+            assertEquals(2, index.nextGeneration());
+            assertEquals(3, index.contentHash(index.find("a")));
+            assertEquals(2, index.contentHash(index.find("b")));
+            assertEquals(-1, index.find("c"));
+        }
+    }
+
+    @Test
+    public void testGrowsAndRemovesStaleIds() throws IOException {
+        Path file = directory.resolve("kb.idx");
+        int count = (int) SyncIndex.INITIAL_CAPACITY;
+        try (SyncIndex index = SyncIndex.open(file)) {
+            long first = index.nextGeneration();
+            for (int i = 0; i < count; i++) {
+                index.put("id-" + i, i, first);
+            }
+            long second = index.nextGeneration();
+            for (int i = 0; i < count; i += 2) {
+                index.mark(index.find("id-" + i), second);
+            }
+
+            Set<String> deleted = new HashSet<>();
+            List<Integer> batches = new ArrayList<>();
+            long removed = index.removeStale(second, 1000, ids -> {
+                batches.add(ids.size());
+                deleted.addAll(ids);
+            });
+
+            assertEquals(count / 2, removed);
+            assertEquals(count / 2, deleted.size());
+            assertTrue(deleted.contains("id-1") && !deleted.contains("id-2"));
+            assertTrue(batches.stream().allMatch(size -> size <= 1000));
+            assertEquals(count / 2, index.size());
+            assertEquals(-1, index.find("id-1"));
+            assertEquals(2, index.contentHash(index.find("id-2")));
+        }
+        assertTrue(Files.size(file) > 64 + SyncIndex.INITIAL_CAPACITY * 32);
+        // The rebuilt table names a new ids file and the old one is deleted
+        assertFalse(Files.exists(directory.resolve("kb.idx.ids")));
+        assertTrue(Files.exists(directory.resolve("kb.idx.ids.1")));
+    }
+
+    @Test
+    public void testFinishesInterruptedRebuild() throws IOException {
+        Path file = directory.resolve("kb.idx");
+        int count = (int) SyncIndex.INITIAL_CAPACITY;
+        try (SyncIndex index = SyncIndex.open(file)) {
+            long generation = index.nextGeneration();
+            for (int i = 0; i < count; i++) {
+                index.put("id-" + i, i, generation);
+            }
+        }
+        // Stop a rebuild after its table is complete, while it is copied over the index file
+        Path pending = directory.resolve("kb.idx.new");
+        Files.copy(file, pending);
+        Files.write(file, new byte[(int) Files.size(file)]);
+
+        try (SyncIndex index = SyncIndex.open(file)) {
+            assertEquals(count, index.size());
+            assertEquals(7, index.contentHash(index.find("id-7")));
+            // The ids are read back from the ids file named by the copied header
+            Set<String> deleted = new HashSet<>();
+            assertEquals(count, index.removeStale(index.nextGeneration(), 1000, deleted::addAll));
+            assertTrue(deleted.contains("id-0") && deleted.contains("id-" + (count - 1)));
+        }
+        assertFalse(Files.exists(pending));
+    }
+
+    @Test
+    public void testDropsSlotsOfUnsavedIdsAfterCrash() throws IOException {
+        Path file = directory.resolve("kb.idx");
+        try (SyncIndex index = SyncIndex.open(file)) {
+            index.put("a", 1, index.nextGeneration());
+        }
+        // The process stops before the buffered ids are saved: the instance is never closed
+        SyncIndex crashed = SyncIndex.open(file);
+        long generation = crashed.nextGeneration();
+        crashed.put("b", 2, generation);
+        crashed.put("c", 3, generation);
+        assertTrue(crashed.find("b") >= 0);
+
+        try (SyncIndex index = SyncIndex.open(file)) {
+            assertEquals(1, index.size());
+            assertEquals(-1, index.find("b"));
+            assertEquals(-1, index.find("c"));
+            // New ids take the offsets the dropped slots pointed at
+            index.put("d", 4, index.nextGeneration());
+            Set<String> deleted = new HashSet<>();
+            assertEquals(2, index.removeStale(index.nextGeneration(), 10, deleted::addAll));
+            assertEquals(Set.of("a", "d"), deleted);
+        }
+    }
+
+    @Test
+    public void testFailedDeleteKeepsIds() throws IOException {
+        try (SyncIndex index = SyncIndex.open(directory.resolve("kb.idx"))) {
+            index.put("a", 1, index.nextGeneration());
+            long generation = index.nextGeneration();
+
+            assertThrows(RuntimeException.class, () -> index.removeStale(generation, 10, ids -> {
+                throw new RuntimeException("Delete failed");
+            }));
+            assertEquals(1, index.size());
+            assertEquals(1, index.removeStale(generation, 10, ids -> assertEquals(List.of("a"), ids)));
+        }
+    }
+
+    @Test
+    public void testRowHashSeparatesColumns() {
+        List<String> columns = List.of("a", "b");
+        long split = SyncIndex.rowHash(new ResultRow(columns, new String[] { "a", "b" }), new int[] { 0, 1 });
+        long joined = SyncIndex.rowHash(new ResultRow(columns, new String[] { "ab", null }), new int[] { 0, 1 });
+        long empty = SyncIndex.rowHash(new ResultRow(columns, new String[] { "ab", "" }), new int[] { 0, 1 });
+
+        assertNotEquals(split, joined);
+        assertNotEquals(joined, empty);
+        assertEquals(split, SyncIndex.rowHash(new ResultRow(columns, new String[] { "a", "b" }), new int[] { 0, 1 }));
+    }
+
+    @Test
+    public void testRejectsOtherFiles() throws IOException {
+        Path file = directory.resolve("other.idx");
+        Files.writeString(file, "not an index, but long enough to hold a header of sixty four bytes........");
+
+        assertThrows(IOException.class, () -> SyncIndex.open(file));
+    }
+}
@@ -0,0 +1,132 @@
+package mindsdb.services;
+
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import mindsdb.connectors.FileCatalog;
+import mindsdb.connectors.RestAPI;
+import mindsdb.models.KnowledgeBase;
+import mindsdb.models.Model;
+import mindsdb.models.Project;
+import mindsdb.models.agent.AgentFileResult;
+import mindsdb.models.skill.Skill;
+
+class AgentsTest {
+
+    private Agents agents;
+    private RestAPI api;
+    private FileCatalog fileCatalog;
+    private KnowledgeBases knowledgeBases;
+    private Skills skills;
+
+    @BeforeEach
+    void setUp() {
+        api = mock(RestAPI.class);
+        fileCatalog = mock(FileCatalog.class);
+        knowledgeBases = mock(KnowledgeBases.class);
+        skills = mock(Skills.class);
+        Project project = mock(Project.class);
+        when(project.getName()).thenReturn("proj");
+        when(project.getKnowledgeBases()).thenReturn(knowledgeBases);
+        when(project.getSkills()).thenReturn(skills);
+        when(project.getMlEngines()).thenReturn(mock(MLEngines.class));
+        when(api.getFileCatalog()).thenReturn(fileCatalog);
+
+        JsonObject agent = new JsonObject();
+        agent.addProperty("name", "agent");
+        agent.addProperty("model_name", "gpt-4o");
+        agent.add("skills", new JsonArray());
+        agent.add("params", new JsonObject());
+        agent.addProperty("created_at", "2024-01-01 00:00:00.000000");
+        agent.addProperty("updated_at", "2024-01-01 00:00:00.000000");
+        agent.addProperty("provider", "openai");
+        when(api.agent("proj", "agent")).thenReturn(agent);
+        when(skills.create(anyString(), eq("retrieval"), anyMap()))
+                .thenReturn(new Skill("skill", "retrieval", Map.of()));
+
+        agents = new Agents(project, api);
+    }
+
+    @Test
+    void testAddFilesUploadsWhileKnowledgeBaseIsLookedUp() throws InterruptedException {
+        KnowledgeBase kb = mock(KnowledgeBase.class);
+        when(kb.getName()).thenReturn("kb");
+        CountDownLatch kbLookedUp = new CountDownLatch(1);
+        when(knowledgeBases.get("kb")).thenAnswer(invocation -> {
+            kbLookedUp.countDown();
+            return kb;
+        });
+        when(fileCatalog.missing(anyList())).thenReturn(new LinkedHashSet<>(List.of("b", "c")));
+        doAnswer(invocation -> {
+            // Only completes if the knowledge base is looked up while the upload runs
+            assertTrue(kbLookedUp.await(5, TimeUnit.SECONDS));
+            return null;
+        }).when(api).uploadFile(eq("b.txt"), any(Path.class));
+        doThrow(new RuntimeException("Upload failed")).when(api).uploadFile(eq("c.txt"), any(Path.class));
+
+        List<AgentFileResult> results = agents.addFiles("agent", List.of("/docs/a.txt", "/docs/b.txt", "/docs/c.txt"),
+                "docs", "kb");
+
+        assertEquals(3, results.size());
+        assertEquals(AgentFileResult.Status.EXISTING, results.get(0).getStatus());
+        assertEquals(AgentFileResult.Status.UPLOADED, results.get(1).getStatus());
+        assertNull(results.get(1).getError());
+        assertEquals(AgentFileResult.Status.FAILED, results.get(2).getStatus());
+        assertEquals("Upload failed", results.get(2).getError().getMessage());
+        verify(kb).insertFiles(List.of("a", "b"));
+        verify(api).updateAgent(eq("proj"), eq("agent"), eq("agent"), eq("gpt-4o"), anyList(), anyList(), any());
+    }
+
+    @Test
+    void testAddFilesFailsWhenNoFileIsAvailable() {
+        KnowledgeBase kb = mock(KnowledgeBase.class);
+        when(knowledgeBases.get("kb")).thenReturn(kb);
+        when(fileCatalog.missing(anyList())).thenReturn(new LinkedHashSet<>(List.of("a")));
+        doThrow(new RuntimeException("Upload failed")).when(api).uploadFile(eq("a.txt"), any(Path.class));
+
+        assertThrows(RuntimeException.class, () -> agents.addFile("agent", "/docs/a.txt", "docs", "kb"));
+        verify(kb, never()).insertFiles(anyList());
+    }
+
+    @Test
+    void testAddFilesDropsDefaultKnowledgeBaseWhenNoFileIsAvailable() {
+        KnowledgeBase kb = mock(KnowledgeBase.class);
+        when(kb.getName()).thenReturn("agent_a_kb");
+        when(kb.getModel()).thenReturn(mock(Model.class));
+        when(knowledgeBases.create(startsWith("agent_a_"), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull())).thenReturn(kb);
+        when(fileCatalog.missing(anyList())).thenReturn(new LinkedHashSet<>(List.of("a")));
+        doThrow(new RuntimeException("Upload failed")).when(api).uploadFile(eq("a.txt"), any(Path.class));
+
+        assertThrows(RuntimeException.class, () -> agents.addFile("agent", "/docs/a.txt", "docs", null));
+        verify(knowledgeBases).drop("agent_a_kb");
+        verify(kb, never()).insertFiles(anyList());
+    }
+}
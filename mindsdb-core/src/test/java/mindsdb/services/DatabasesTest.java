@@ -1,5 +1,6 @@
 package mindsdb.services;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +17,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import mindsdb.connectors.CatalogCache;
 import mindsdb.connectors.RestAPI;
 import mindsdb.models.Database;
 import mindsdb.models.Handler;
@@ -88,6 +90,30 @@ public class DatabasesTest {
         assertTrue(actualMessage.contains(expectedMessage));
     }
 
+    @Test
+    public void testGetDatabaseCached() {
+        Table mockResponse = createMockTable(
+                new String[] { "NAME", "ENGINE" },
+                new String[][] {
+                        { "db1", "mysql" }
+                });
+        String expectedQuery = "select NAME, ENGINE from information_schema.databases where TYPE='data' AND NAME='db1'";
+        when(api.sqlQuery(anyString())).thenReturn(Table.create("empty"));
+        when(api.sqlQuery(expectedQuery)).thenReturn(mockResponse);
+        when(api.getCatalogCache()).thenReturn(new CatalogCache(Duration.ofMinutes(1), Duration.ofMinutes(1)));
+
+        assertEquals("mysql", databases.get("db1").getEngine());
+        assertEquals("mysql", databases.get("db1").getEngine());
+        assertThrows(IllegalArgumentException.class, () -> databases.get("db2"));
+        assertThrows(IllegalArgumentException.class, () -> databases.get("db2"));
+        verify(api, times(1)).sqlQuery(expectedQuery);
+        verify(api, times(2)).sqlQuery(anyString());
+
+        databases.drop("db1");
+        databases.get("db1");
+        verify(api, times(2)).sqlQuery(expectedQuery);
+    }
+
     @Test
     public void testCreateDatabase() {
         Map<String, String> connectionArgs = new HashMap<>();
@@ -97,15 +123,12 @@ public class DatabasesTest {
         databases.create("new_db", "mysql", connectionArgs);
         StringBuilder astQuery = new StringBuilder(
                 "CREATE DATABASE new_db ENGINE = 'mysql'");
-        astQuery.append(", PARAMETERS = { ");
+        astQuery.append(", PARAMETERS = {");
         for (Map.Entry<String, String> entry : connectionArgs.entrySet()) {
-            astQuery.append("\\\"").append(entry.getKey().replace("\"", "\\\"")).append("\\\"")
-                    .append(": ")
-                    .append("\\\"").append(entry.getValue().replace("\"", "\\\"")).append("\\\"")
-                    .append(", ");
+            astQuery.append("\"").append(entry.getKey()).append("\": \"").append(entry.getValue()).append("\", ");
         }
         astQuery.setLength(astQuery.length() - 2);
-        astQuery.append(" }");
+        astQuery.append("}");
 
         astQuery.append(";");
         String expectedQuery = astQuery.toString();
@@ -0,0 +1,159 @@
+package mindsdb.services;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.MockitoAnnotations;
+
+import com.google.gson.stream.JsonToken;
+
+import kong.unirest.core.UnirestException;
+import mindsdb.connectors.RestAPI;
+import mindsdb.connectors.ResultRow;
+import mindsdb.connectors.ResultSink;
+import mindsdb.connectors.RowCursor;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+public class QueryTest {
+
+    @Mock
+    private RestAPI api;
+
+    private Query query;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        query = new Query(api, "SELECT * FROM table", "test_database");
+    }
+
+    @Test
+    public void testFetch() {
+        // Mock the response from the API
+        StringColumn column = StringColumn.create("column", new String[] { "value1", "value2" });
+        Table mockTable = Table.create(column);
+
+        when(api.sqlQuery("SELECT * FROM table", "test_database")).thenReturn(mockTable);
+
+        // Call the method
+        Table result = query.fetch();
+
+        // Verify the results
+        assertNotNull(result);
+        assertEquals(2, result.rowCount());
+        assertEquals("value1", result.stringColumn("column").get(0));
+        assertEquals("value2", result.stringColumn("column").get(1));
+    }
+
+    @Test
+    public void testFetchWithException() {
+        // Mock the API to throw an exception
+        when(api.sqlQuery("SELECT * FROM table", "test_database")).thenThrow(new UnirestException("API error"));
+
+        // Call the method and expect an exception
+        Exception exception = assertThrows(RuntimeException.class, () -> {
+            query.fetch();
+        });
+
+        // Verify the exception message
+        assertEquals("Error executing SQL query: API error", exception.getMessage());
+    }
+
+    @Test
+    public void testFetchWithInferredTypesUsesCachedQuery() {
+        Table mockTable = Table.create(IntColumn.create("id", 1, 2));
+        when(api.sqlQuery("SELECT * FROM table", "test_database", true)).thenReturn(mockTable);
+
+        assertSame(mockTable, query.fetch(true));
+
+        verify(api).sqlQuery("SELECT * FROM table", "test_database", true);
+        verify(api, never()).sqlQuery(eq("SELECT * FROM table"), eq("test_database"), any(ResultSink.class));
+    }
+
+    @Test
+    public void testStream() {
+        when(api.sqlQuery(eq("SELECT * FROM table"), eq("test_database"), any())).thenAnswer(invocation -> {
+            ResultSink<?> sink = invocation.getArgument(2);
+            sink.columns(List.of("name", "value"));
+            for (int i = 0; i < 3; i++) {
+                sink.cell(0, JsonToken.STRING, "row" + i);
+                sink.cell(1, JsonToken.NULL, null);
+                sink.endRow();
+            }
+            return sink.result();
+        });
+
+        List<ResultRow> rows;
+        try (Stream<ResultRow> stream = query.stream()) {
+            rows = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(3, rows.size());
+        assertEquals("row0", rows.get(0).get("name"));
+        assertEquals("row2", rows.get(2).get(0));
+        assertNull(rows.get(1).get("value"));
+    }
+
+    @Test
+    public void testIteratorWithException() {
+        when(api.sqlQuery(eq("SELECT * FROM table"), eq("test_database"), any()))
+                .thenThrow(new RuntimeException("SQL Query failed: error"));
+
+        try (RowCursor cursor = query.iterator()) {
+            Exception exception = assertThrows(RuntimeException.class, cursor::hasNext);
+            assertEquals("SQL Query failed: error", exception.getMessage());
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    public void testIteratorWithError() {
+        when(api.sqlQuery(eq("SELECT * FROM table"), eq("test_database"), any()))
+                .thenThrow(new StackOverflowError("decoder"));
+
+        try (RowCursor cursor = query.iterator()) {
+            Error error = assertThrows(StackOverflowError.class, cursor::hasNext);
+            assertEquals("decoder", error.getMessage());
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    public void testKeysetValue() {
+        Table page = Table.create(StringColumn.create("zip", "00123", null), IntColumn.create("id", 7, 8));
+
+        assertEquals("8", Query.keysetValue(page, "id"));
+        assertEquals("8", Query.keysetValue(page, "page.id"));
+        assertThrows(IllegalStateException.class, () -> Query.keysetValue(page, "zip"));
+        assertEquals("'00123'", Query.keysetValue(page.first(1), "zip"));
+    }
+
+    @Test
+    public void testToString() {
+        // Test the toString method
+        String result = query.toString();
+        assertEquals("Query(SELECT * FROM table)", result);
+
+        // Test with a longer SQL string
+        query.setSql("SELECT * FROM table WHERE column1 = 'value1' AND column2 = 'value2'");
+        result = query.toString();
+        assertEquals("Query(SELECT * FROM table WHERE column1 = '...)", result);
+    }
+}
\ No newline at end of file
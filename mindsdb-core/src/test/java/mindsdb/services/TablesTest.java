@@ -15,6 +15,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import mindsdb.connectors.RestAPI;
+import mindsdb.connectors.TableEncoder;
 import mindsdb.models.Database;
 import mindsdb.models.MDBTable;
 import tech.tablesaw.api.StringColumn;
@@ -76,7 +77,7 @@ class TablesTest {
         String tableName = "new_table";
         tech.tablesaw.api.Table df = tech.tablesaw.api.Table.create("new_table");
         MDBTable mockTable = mock(MDBTable.class);
-        doNothing().when(api).uploadFile(anyString(), any(tech.tablesaw.api.Table.class));
+        doNothing().when(api).uploadFile(anyString(), any(tech.tablesaw.api.Table.class), any(TableEncoder.class));
         try {
             java.lang.reflect.Field nameField = MDBTable.class.getDeclaredField("name");
             nameField.setAccessible(true);
@@ -89,8 +90,18 @@ class TablesTest {
 
         assertNotNull(result);
         assertEquals(mockTable.getName(), result.getName());
-        verify(api, times(1)).uploadFile(anyString(),
-                any(tech.tablesaw.api.Table.class));
+        // Uploaded as CSV through the encoder overload
+        verify(api, times(1)).uploadFile(tableName, df, TableEncoder.CSV);
+    }
+
+    @Test
+    void testCreateWithEncoder() {
+        tech.tablesaw.api.Table df = tech.tablesaw.api.Table.create("sales");
+
+        MDBTable result = tables.create("sales.parquet", df, true, TableEncoder.CSV);
+
+        assertEquals("sales", result.getName());
+        verify(api, times(1)).uploadFile("sales.parquet", df, TableEncoder.CSV);
     }
 
     @Test
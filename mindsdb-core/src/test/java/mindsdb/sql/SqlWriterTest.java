@@ -0,0 +1,103 @@
+package mindsdb.sql;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+public class SqlWriterTest {
+
+    @Test
+    public void testLiteralEscaping() {
+        assertEquals("'it''s'", SqlWriter.quoteLiteral("it's"));
+        assertEquals("'C:\\\\temp'", SqlWriter.quoteLiteral("C:\\temp"));
+        assertEquals("'say \"hi\"'", SqlWriter.quoteLiteral("say \"hi\""));
+        assertEquals("NULL", SqlWriter.quoteLiteral(null));
+        assertEquals("NULL", SqlWriter.quoteLiteral(Double.NaN));
+        assertEquals("42", SqlWriter.quoteLiteral(42));
+        assertEquals("true", SqlWriter.quoteLiteral(true));
+        assertEquals("['a', 'b''c']", SqlWriter.quoteLiteral(List.of("a", "b'c")));
+    }
+
+    @Test
+    public void testMapLiteralIsJson() {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("host", "db \"main\"");
+        params.put("port", 5432);
+        params.put("columns", List.of("a", "b"));
+
+        assertEquals("{\"host\": \"db \\\"main\\\"\", \"port\": 5432, \"columns\": [\"a\", \"b\"]}",
+                SqlWriter.quoteLiteral(params));
+    }
+
+    @Test
+    public void testIdentifierQuoting() {
+        assertEquals("orders", SqlWriter.quoteIdentifier("orders"));
+        assertEquals("`order items`", SqlWriter.quoteIdentifier("order items"));
+        assertEquals("`a``b`", SqlWriter.quoteIdentifier("a`b"));
+        assertEquals("`1st`", SqlWriter.quoteIdentifier("1st"));
+        assertEquals("db.`my-table`", Identifier.of("db", "my-table").toSql());
+    }
+
+    @Test
+    public void testSelectSharesRenderedSkeleton() {
+        Select select = Select.from(Identifier.of("db", "orders"))
+                .where(Comparison.equal("status", "o'pen"))
+                .where(Raw.of("id > 10"))
+                .orderBy(Identifier.of("id"));
+
+        assertEquals("SELECT * FROM db.orders WHERE status = 'o''pen' AND id > 10 ORDER BY id LIMIT 5 OFFSET 10",
+                select.limit(5).offset(10).toSql());
+        assertEquals("SELECT * FROM db.orders WHERE status = 'o''pen' AND id > 10 ORDER BY id;",
+                select.terminated().toSql());
+        assertEquals("SELECT COUNT(*) FROM db.orders WHERE status = 'o''pen' AND id > 10 ORDER BY id",
+                select.columns(Raw.of("COUNT(*)")).toSql());
+    }
+
+    @Test
+    public void testInsertValues() {
+        Table data = Table.create("data", StringColumn.create("name", "it's", null),
+                DoubleColumn.create("score", 1.5, Double.NaN));
+
+        Insert insert = Insert.into(Identifier.of("kb", "docs"), data.columnNames());
+
+        assertSame(insert, Insert.into(Identifier.of("kb", "docs"), List.of("name", "score")));
+        assertEquals("INSERT INTO kb.docs (name, score) VALUES ", insert.valuesPrefix());
+        assertEquals("INSERT INTO kb.docs (name, score) VALUES ('it''s', 1.5), ('', NULL);",
+                insert.values(data, 0, 2).terminated().toSql());
+        assertEquals("INSERT INTO kb.docs (name, score) SELECT * FROM files.docs",
+                insert.select(Select.from(Identifier.of("files", "docs"))).toSql());
+    }
+
+    @Test
+    public void testStatement() {
+        Map<String, Object> using = new LinkedHashMap<>();
+        using.put("api_key", "k'1");
+        using.put("max tokens", 10);
+
+        String sql = Statement.of("CREATE ML_ENGINE IF NOT EXISTS").append(Identifier.of("openai"))
+                .append("FROM", Identifier.of("openai"))
+                .append("USING", Assignments.of(using))
+                .terminated()
+                .toSql();
+
+        assertEquals("CREATE ML_ENGINE IF NOT EXISTS openai FROM openai USING api_key = 'k''1', `max tokens` = 10;",
+                sql);
+    }
+
+    @Test
+    public void testNestedRender() {
+        SqlNode outer = writer -> writer.append("SELECT * FROM (")
+                .append(Select.from(Identifier.of("db", "t")).toSql())
+                .append(") AS sub");
+
+        assertEquals("SELECT * FROM (SELECT * FROM db.t) AS sub", outer.toSql());
+    }
+}
@@ -0,0 +1,123 @@
+package mindsdb.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class DocumentChunkerTest {
+
+    @Test
+    public void testCharacterWindowsBreakAtWords() throws IOException {
+        List<String> chunks = chunk(new DocumentChunker(12, 6), "alpha beta gamma delta epsilon");
+
+        assertEquals(List.of("alpha beta", "beta gamma", "gamma delta", "epsilon"), chunks);
+        assertEquals(List.of("abcdefgh", "ghijkl"), chunk(new DocumentChunker(8, 2), "abcdefghijkl"));
+    }
+
+    @Test
+    public void testWordWindowsOverlap() throws IOException {
+        List<String> chunks = chunk(new DocumentChunker(3, 1, DocumentChunker.Unit.WORDS), "a b c d e f g");
+
+        assertEquals(List.of("a b c", "c d e", "e f g"), chunks);
+    }
+
+    @Test
+    public void testShortAndBlankText() throws IOException {
+        assertEquals(List.of("short text"), chunk(new DocumentChunker(100, 10), "  short text \n"));
+        assertEquals(List.of(), chunk(new DocumentChunker(100, 10), " \n\t "));
+    }
+
+    @Test
+    public void testLongWordsCutWordWindows() throws IOException {
+        int max = 3 * DocumentChunker.MAX_CHARS_PER_WORD;
+        String word = "y".repeat(max + 10);
+        List<String> chunks = chunk(new DocumentChunker(3, 1, DocumentChunker.Unit.WORDS), "a b " + word);
+
+        assertEquals(List.of("a b", "y".repeat(max), "y".repeat(10)), chunks);
+    }
+
+    @Test
+    public void testOverlapIsDroppedWhenNextWordDoesNotFit() throws IOException {
+        assertEquals(List.of("aaaa bbbb", "cccccccccc"), chunk(new DocumentChunker(10, 5), "aaaa bbbb cccccccccc"));
+        assertEquals(List.of("alpha beta", "beta gamma", "delta", "epsilon"),
+                chunk(new DocumentChunker(10, 5), "alpha beta gamma delta epsilon"));
+    }
+
+    @Test
+    public void testWordWindowsWithoutOverlap() throws IOException {
+        List<String> chunks = chunk(new DocumentChunker(4, 0, DocumentChunker.Unit.WORDS), "a b c d e f g h i");
+
+        assertEquals(List.of("a b c d", "e f g h", "i"), chunks);
+    }
+
+    @Test
+    public void testLargeInputIsStreamed() throws IOException {
+        int[] longest = new int[1];
+        int chunks = new DocumentChunker(1000, 100).chunk(text(5_000_000, 10), (index, content) -> {
+            longest[0] = Math.max(longest[0], content.length());
+        });
+
+        assertTrue(chunks > 5_000_000 / 1000);
+        assertTrue(longest[0] <= 1000);
+    }
+
+    @Test
+    public void testWordWindowsOfTextWithoutWhitespace() throws IOException {
+        int[] longest = new int[1];
+        int chunks = new DocumentChunker(100, 10, DocumentChunker.Unit.WORDS).chunk(text(20_000_000, 0),
+                (index, content) -> longest[0] = Math.max(longest[0], content.length()));
+
+        assertEquals(20_000_000 / (100 * DocumentChunker.MAX_CHARS_PER_WORD), chunks);
+        assertEquals(100 * DocumentChunker.MAX_CHARS_PER_WORD, longest[0]);
+    }
+
+    @Test
+    public void testInvalidOverlap() {
+        assertThrows(IllegalArgumentException.class, () -> new DocumentChunker(10, 10));
+    }
+
+    /**
+     * Text generated on the fly, so it is never held in memory whole.
+     *
+     * @param spacing every spacing-th character is a space, 0 for none
+     */
+    private static Reader text(long length, int spacing) {
+        return new Reader() {
+            private long position;
+
+            @Override
+            public int read(char[] buffer, int offset, int count) {
+                if (position >= length) {
+                    return -1;
+                }
+                int read = (int) Math.min(count, length - position);
+                for (int i = 0; i < read; i++) {
+                    buffer[offset + i] = spacing > 0 && (position + i) % spacing == spacing - 1 ? ' ' : 'x';
+                }
+                position += read;
+                return read;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static List<String> chunk(DocumentChunker chunker, String text) throws IOException {
+        List<String> chunks = new ArrayList<>();
+        int count = chunker.chunk(new StringReader(text), (index, content) -> {
+            assertEquals(chunks.size(), index);
+            chunks.add(content);
+        });
+        assertEquals(chunks.size(), count);
+        return chunks;
+    }
+}
@@ -0,0 +1,47 @@
+package mindsdb.utils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+public class RangePartitionerTest {
+
+    @Test
+    public void testPartitionIntegers() {
+        List<String> conditions = RangePartitioner.partition("id", "1", "100", 2);
+        assertEquals(List.of("id >= 1 AND id < 51", "id >= 51 AND id <= 100"), conditions);
+    }
+
+    @Test
+    public void testPartitionSmallRange() {
+        List<String> conditions = RangePartitioner.partition("id", "1", "2", 4);
+        assertEquals(List.of("id >= 1 AND id < 2", "id >= 2 AND id <= 2"), conditions);
+    }
+
+    @Test
+    public void testPartitionDecimals() {
+        List<String> conditions = RangePartitioner.partition("price", "0.5", "1.5", 2);
+        assertEquals(List.of("price >= 0.5 AND price < 1.0", "price >= 1.0 AND price <= 1.5"), conditions);
+    }
+
+    @Test
+    public void testPartitionDates() {
+        List<String> conditions = RangePartitioner.partition("day", "2024-01-01", "2024-01-04", 2);
+        assertEquals(List.of("day >= '2024-01-01' AND day < '2024-01-03'",
+                "day >= '2024-01-03' AND day <= '2024-01-04'"), conditions);
+    }
+
+    @Test
+    public void testPartitionTimestamps() {
+        List<String> conditions = RangePartitioner.partition("ts", "2024-01-01 00:00:00", "2024-01-01T00:00:01", 2);
+        assertEquals(List.of("ts >= '2024-01-01 00:00:00' AND ts < '2024-01-01 00:00:00.500001'",
+                "ts >= '2024-01-01 00:00:00.500001' AND ts <= '2024-01-01 00:00:01'"), conditions);
+    }
+
+    @Test
+    public void testPartitionInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> RangePartitioner.partition("name", "a", "z", 2));
+    }
+}
@@ -0,0 +1,161 @@
+package mindsdb.parquet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.Test;
+
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.LocalInputFile;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+
+import tech.tablesaw.api.BooleanColumn;
+import tech.tablesaw.api.DateColumn;
+import tech.tablesaw.api.DateTimeColumn;
+import tech.tablesaw.api.DoubleColumn;
+import tech.tablesaw.api.InstantColumn;
+import tech.tablesaw.api.IntColumn;
+import tech.tablesaw.api.LongColumn;
+import tech.tablesaw.api.StringColumn;
+import tech.tablesaw.api.Table;
+
+public class ParquetEncoderTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        IntColumn ids = IntColumn.create("id", 1, 2, 3);
+        LongColumn counts = LongColumn.create("count", new long[] { 10L, 20L, Long.MAX_VALUE });
+        DoubleColumn prices = DoubleColumn.create("price", 1.5, 2.25, -3.0);
+        BooleanColumn flags = BooleanColumn.create("flag", new boolean[] { true, false, true });
+        StringColumn names = StringColumn.create("name", "a", "b", "c");
+        DateColumn days = DateColumn.create("day", LocalDate.of(2024, 1, 2), LocalDate.of(1970, 1, 1), LocalDate.of(1969, 12, 31));
+        DateTimeColumn times = DateTimeColumn.create("time",
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000), LocalDateTime.of(1970, 1, 1, 0, 0), LocalDateTime.of(2000, 2, 29, 23, 59));
+        InstantColumn stamps = InstantColumn.create("stamp");
+        stamps.append(Instant.ofEpochSecond(1, 2_000)).append(Instant.EPOCH).append(Instant.ofEpochMilli(-1));
+        Table table = Table.create("t", ids, counts, prices, flags, names, days, times, stamps);
+
+        ParquetFile file = read(new ParquetEncoder(), table);
+
+        MessageType schema = file.schema;
+        assertEquals(table.columnCount(), schema.getFieldCount());
+        assertEquals(PrimitiveTypeName.INT32, schema.getType("id").asPrimitiveType().getPrimitiveTypeName());
+        assertEquals(PrimitiveTypeName.INT64, schema.getType("count").asPrimitiveType().getPrimitiveTypeName());
+        assertEquals(PrimitiveTypeName.DOUBLE, schema.getType("price").asPrimitiveType().getPrimitiveTypeName());
+        assertEquals(PrimitiveTypeName.BOOLEAN, schema.getType("flag").asPrimitiveType().getPrimitiveTypeName());
+        assertEquals(LogicalTypeAnnotation.stringType(), schema.getType("name").getLogicalTypeAnnotation());
+        assertEquals(LogicalTypeAnnotation.dateType(), schema.getType("day").getLogicalTypeAnnotation());
+        assertEquals(LogicalTypeAnnotation.timestampType(false, LogicalTypeAnnotation.TimeUnit.MICROS),
+                schema.getType("time").getLogicalTypeAnnotation());
+        assertEquals(LogicalTypeAnnotation.timestampType(true, LogicalTypeAnnotation.TimeUnit.MICROS),
+                schema.getType("stamp").getLogicalTypeAnnotation());
+
+        assertEquals(3, file.rows.size());
+        for (int row = 0; row < 3; row++) {
+            Group group = file.rows.get(row);
+            assertEquals(ids.getInt(row), group.getInteger("id", 0));
+            assertEquals(counts.getLong(row), group.getLong("count", 0));
+            assertEquals(prices.getDouble(row), group.getDouble("price", 0));
+            assertEquals(flags.get(row), group.getBoolean("flag", 0));
+            assertEquals(names.get(row), group.getString("name", 0));
+            assertEquals(days.get(row).toEpochDay(), group.getInteger("day", 0));
+        }
+        assertEquals(1_704_164_645_000_006L, file.rows.get(0).getLong("time", 0));
+        assertEquals(0L, file.rows.get(1).getLong("time", 0));
+        assertEquals(1_000_002L, file.rows.get(0).getLong("stamp", 0));
+        assertEquals(0L, file.rows.get(1).getLong("stamp", 0));
+        assertEquals(-1_000L, file.rows.get(2).getLong("stamp", 0));
+    }
+
+    @Test
+    public void testMissingValuesAreNull() throws IOException {
+        IntColumn ids = IntColumn.create("id", 1, 2, 3);
+        ids.setMissing(1);
+        StringColumn names = StringColumn.create("name", "a", "b", "c");
+        names.setMissing(0);
+        Table table = Table.create("t", ids, names);
+
+        ParquetFile file = read(new ParquetEncoder(CompressionCodecName.UNCOMPRESSED), table);
+
+        assertEquals(1, file.rows.get(0).getFieldRepetitionCount("id"));
+        assertEquals(0, file.rows.get(1).getFieldRepetitionCount("id"));
+        assertEquals(3, file.rows.get(2).getInteger("id", 0));
+        assertEquals(0, file.rows.get(0).getFieldRepetitionCount("name"));
+        assertEquals("b", file.rows.get(1).getString("name", 0));
+    }
+
+    @Test
+    public void testTemporaryFileIsDeletedOnClose() throws IOException {
+        Table table = Table.create("t", IntColumn.create("id", 1));
+        Path dir = Path.of(System.getProperty("java.io.tmpdir"));
+        List<Path> before = uploads(dir);
+
+        List<Path> created = new ArrayList<>();
+        try (InputStream in = new ParquetEncoder().encode(table)) {
+            for (Path path : uploads(dir)) {
+                if (!before.contains(path)) {
+                    created.add(path);
+                }
+            }
+            assertEquals(1, created.size());
+        }
+        assertFalse(Files.exists(created.get(0)));
+    }
+
+    @Test
+    public void testFileExtension() {
+        assertEquals("parquet", new ParquetEncoder().fileExtension());
+    }
+
+    private static List<Path> uploads(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().startsWith("mindsdb-upload")).toList();
+        }
+    }
+
+    private static ParquetFile read(ParquetEncoder encoder, Table table) throws IOException {
+        Path copy = Files.createTempFile("mindsdb-test", ".parquet");
+        try {
+            try (InputStream in = encoder.encode(table)) {
+                Files.copy(in, copy, StandardCopyOption.REPLACE_EXISTING);
+            }
+            try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(copy))) {
+                MessageType schema = reader.getFooter().getFileMetaData().getSchema();
+                List<Group> rows = new ArrayList<>();
+                PageReadStore pages;
+                while ((pages = reader.readNextRowGroup()) != null) {
+                    RecordReader<Group> records = new ColumnIOFactory().getColumnIO(schema)
+                            .getRecordReader(pages, new GroupRecordConverter(schema));
+                    for (long i = 0; i < pages.getRowCount(); i++) {
+                        rows.add(records.read());
+                    }
+                }
+                return new ParquetFile(schema, rows);
+            }
+        } finally {
+            Files.deleteIfExists(copy);
+        }
+    }
+
+    private record ParquetFile(MessageType schema, List<Group> rows) {
+    }
+}